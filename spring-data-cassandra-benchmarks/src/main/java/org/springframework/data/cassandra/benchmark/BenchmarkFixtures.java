@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.benchmark;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.mockito.stubbing.Answer;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.TypeCodec;
+
+/**
+ * Fixtures shared by benchmarks. {@link Row} and {@link ColumnDefinitions} are stub-only mocks so invocations are not
+ * recorded and benchmark iterations do not accumulate invocation history.
+ */
+public class BenchmarkFixtures {
+
+	private BenchmarkFixtures() {}
+
+	/**
+	 * Create and initialize a {@link MappingCassandraConverter} with a fresh {@link CassandraMappingContext}. The
+	 * {@link Customer} entity is registered upfront.
+	 *
+	 * @return the initialized {@link MappingCassandraConverter}.
+	 */
+	public static MappingCassandraConverter newConverter() {
+
+		CassandraMappingContext mappingContext = new CassandraMappingContext();
+		mappingContext.getRequiredPersistentEntity(Customer.class);
+
+		MappingCassandraConverter converter = new MappingCassandraConverter(mappingContext);
+		converter.afterPropertiesSet();
+
+		return converter;
+	}
+
+	/**
+	 * @return a fully populated {@link Customer}.
+	 */
+	public static Customer newCustomer() {
+
+		Customer customer = new Customer();
+
+		customer.setId("heisenberg");
+		customer.setFirstname("Walter");
+		customer.setLastname("White");
+		customer.setEmail("walter@example.com");
+		customer.setAge(52);
+		customer.setCreatedAt(new Date(1262304000000L));
+		customer.setTags(new LinkedHashSet<>(Arrays.asList("chemistry", "teacher")));
+
+		return customer;
+	}
+
+	/**
+	 * @return a {@link Row} stub carrying all {@link Customer} columns.
+	 */
+	public static Row newCustomerRow() {
+
+		Set<String> tags = new LinkedHashSet<>(Arrays.asList("chemistry", "teacher"));
+
+		return newRow(column("id", "heisenberg", DataType.varchar()), //
+				column("firstname", "Walter", DataType.varchar()), //
+				column("lastname", "White", DataType.varchar()), //
+				column("email", "walter@example.com", DataType.varchar()), //
+				column("age", 52, DataType.cint()), //
+				column("createdat", new Date(1262304000000L), DataType.timestamp()), //
+				column("tags", tags, DataType.set(DataType.varchar())));
+	}
+
+	/**
+	 * Create a {@link Row} stub for the given {@link Column columns}.
+	 *
+	 * @param columns must not be {@literal null}.
+	 * @return the {@link Row} stub.
+	 */
+	public static Row newRow(Column... columns) {
+
+		Row row = mock(Row.class, withSettings().stubOnly());
+		ColumnDefinitions columnDefinitions = mock(ColumnDefinitions.class, withSettings().stubOnly());
+
+		when(row.getColumnDefinitions()).thenReturn(columnDefinitions);
+
+		when(columnDefinitions.size()).thenReturn(columns.length);
+		when(columnDefinitions.contains(anyString()))
+				.thenAnswer(invocation -> indexOf(columns, invocation.getArgument(0)) != -1);
+		when(columnDefinitions.getIndexOf(anyString()))
+				.thenAnswer(invocation -> indexOf(columns, invocation.getArgument(0)));
+		when(columnDefinitions.getName(anyInt())).thenAnswer(invocation -> columns[(Integer) invocation.getArgument(0)].name);
+		when(columnDefinitions.getType(anyInt())).thenAnswer(invocation -> columns[(Integer) invocation.getArgument(0)].type);
+
+		Answer<Object> value = invocation -> columns[(Integer) invocation.getArgument(0)].value;
+
+		when(row.isNull(anyInt())).thenAnswer(invocation -> columns[(Integer) invocation.getArgument(0)].value == null);
+		when(row.getObject(anyInt())).thenAnswer(value);
+		when(row.get(anyInt(), any(TypeCodec.class))).thenAnswer(value);
+
+		return row;
+	}
+
+	/**
+	 * Create a new {@link Column}.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param value can be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return the {@link Column}.
+	 */
+	public static Column column(String name, Object value, DataType type) {
+		return new Column(name, value, type);
+	}
+
+	private static int indexOf(Column[] columns, String name) {
+
+		for (int index = 0; index < columns.length; index++) {
+			if (columns[index].name.equalsIgnoreCase(name)) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Column name, value and {@link DataType} of a stubbed {@link Row}.
+	 */
+	public static class Column {
+
+		private final String name;
+		private final Object value;
+		private final DataType type;
+
+		Column(String name, Object value, DataType type) {
+			this.name = name;
+			this.value = value;
+			this.type = type;
+		}
+	}
+}
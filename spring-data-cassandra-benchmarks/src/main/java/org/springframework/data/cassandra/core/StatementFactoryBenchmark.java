@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.cassandra.benchmark.AbstractMicrobenchmark;
+import org.springframework.data.cassandra.benchmark.BenchmarkFixtures;
+import org.springframework.data.cassandra.benchmark.Customer;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.convert.UpdateMapper;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.query.Columns;
+import org.springframework.data.cassandra.core.query.Criteria;
+import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.data.cassandra.core.query.Update;
+
+import com.datastax.driver.core.RegularStatement;
+
+/**
+ * Benchmarks for statement construction through {@link StatementFactory} including {@link Query} and {@link Update}
+ * mapping by {@link org.springframework.data.cassandra.core.convert.QueryMapper} and {@link UpdateMapper}.
+ */
+public class StatementFactoryBenchmark extends AbstractMicrobenchmark {
+
+	StatementFactory statementFactory;
+
+	CassandraPersistentEntity<?> entity;
+
+	Query query;
+
+	Query selectByIdQuery;
+
+	Update update;
+
+	@Setup
+	public void setUp() {
+
+		MappingCassandraConverter converter = BenchmarkFixtures.newConverter();
+
+		this.statementFactory = new StatementFactory(new UpdateMapper(converter));
+		this.entity = converter.getMappingContext().getRequiredPersistentEntity(Customer.class);
+
+		this.query = Query.query(Criteria.where("lastname").is("White"), Criteria.where("age").gt(50))
+				.columns(Columns.from("firstname", "lastname", "age")).limit(10).withAllowFiltering();
+		this.selectByIdQuery = Query.query(Criteria.where("id").is("heisenberg"));
+		this.update = Update.empty().set("firstname", "Walter").set("age", 53).addTo("tags").append("chemistry");
+	}
+
+	@Benchmark
+	public RegularStatement select() {
+		return statementFactory.select(query, entity);
+	}
+
+	@Benchmark
+	public String selectAndRender() {
+		return select().getQueryString();
+	}
+
+	@Benchmark
+	public RegularStatement update() {
+		return statementFactory.update(selectByIdQuery, update, entity);
+	}
+
+	@Benchmark
+	public String updateAndRender() {
+		return update().getQueryString();
+	}
+
+	@Benchmark
+	public RegularStatement delete() {
+		return statementFactory.delete(selectByIdQuery, entity);
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.cassandra.benchmark.AbstractMicrobenchmark;
+import org.springframework.data.cassandra.benchmark.BenchmarkFixtures;
+import org.springframework.data.cassandra.benchmark.Customer;
+
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.querybuilder.Insert;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Update;
+
+/**
+ * Benchmarks for entity conversion through {@link MappingCassandraConverter}.
+ */
+public class MappingCassandraConverterBenchmark extends AbstractMicrobenchmark {
+
+	MappingCassandraConverter converter;
+
+	Customer customer;
+
+	Row row;
+
+	@Setup
+	public void setUp() {
+
+		this.converter = BenchmarkFixtures.newConverter();
+		this.customer = BenchmarkFixtures.newCustomer();
+		this.row = BenchmarkFixtures.newCustomerRow();
+	}
+
+	@Benchmark
+	public Customer readRow() {
+		return converter.read(Customer.class, row);
+	}
+
+	@Benchmark
+	public Insert writeInsert() {
+
+		Insert insert = QueryBuilder.insertInto("customer");
+		converter.write(customer, insert);
+
+		return insert;
+	}
+
+	@Benchmark
+	public Update writeUpdate() {
+
+		Update update = QueryBuilder.update("customer");
+		converter.write(customer, update);
+
+		return update;
+	}
+
+	@Benchmark
+	public Map<String, Object> writeMap() {
+
+		Map<String, Object> map = new LinkedHashMap<>();
+		converter.write(customer, map);
+
+		return map;
+	}
+
+	@Benchmark
+	public String writeInsertAndRender() {
+		return writeInsert().getQueryString();
+	}
+}
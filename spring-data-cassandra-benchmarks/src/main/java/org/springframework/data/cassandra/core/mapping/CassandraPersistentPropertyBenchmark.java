@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.cassandra.benchmark.AbstractMicrobenchmark;
+import org.springframework.data.cassandra.benchmark.BenchmarkFixtures;
+import org.springframework.data.cassandra.benchmark.Customer;
+
+/**
+ * Benchmarks for {@link CassandraPersistentProperty} metadata accessors that are called for each property during
+ * entity conversion and statement creation.
+ */
+public class CassandraPersistentPropertyBenchmark extends AbstractMicrobenchmark {
+
+	List<CassandraPersistentProperty> properties;
+
+	@Setup
+	public void setUp() {
+
+		CassandraPersistentEntity<?> entity = BenchmarkFixtures.newConverter().getMappingContext()
+				.getRequiredPersistentEntity(Customer.class);
+
+		this.properties = new ArrayList<>();
+		entity.getPersistentProperties().forEach(this.properties::add);
+	}
+
+	@Benchmark
+	public void primaryKeyMetadata(Blackhole blackhole) {
+
+		for (CassandraPersistentProperty property : properties) {
+			blackhole.consume(property.isCompositePrimaryKey());
+			blackhole.consume(property.isPrimaryKeyColumn());
+			blackhole.consume(property.isPartitionKeyColumn());
+			blackhole.consume(property.isClusterKeyColumn());
+			blackhole.consume(property.getPrimaryKeyOrdering());
+		}
+	}
+
+	@Benchmark
+	public void dataType(Blackhole blackhole) {
+
+		for (CassandraPersistentProperty property : properties) {
+			blackhole.consume(property.getDataType());
+		}
+	}
+}
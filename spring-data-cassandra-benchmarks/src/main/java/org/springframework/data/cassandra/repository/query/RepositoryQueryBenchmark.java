@@ -0,0 +1,143 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.cassandra.benchmark.AbstractMicrobenchmark;
+import org.springframework.data.cassandra.benchmark.BenchmarkFixtures;
+import org.springframework.data.cassandra.benchmark.Customer;
+import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.repository.Query;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.ExtensionAwareEvaluationContextProvider;
+import org.springframework.data.repository.query.Param;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.util.ReflectionUtils;
+
+import com.datastax.driver.core.Statement;
+
+/**
+ * Benchmarks for repository query creation through {@link PartTreeCassandraQuery} (derived queries) and
+ * {@link StringBasedCassandraQuery} (string queries). Benchmarks cover statement creation for a single invocation
+ * without executing the statement.
+ */
+public class RepositoryQueryBenchmark extends AbstractMicrobenchmark {
+
+	MappingCassandraConverter converter;
+
+	PartTreeCassandraQuery derivedQuery;
+
+	PartTreeCassandraQuery derivedInQuery;
+
+	StringBasedCassandraQuery indexedQuery;
+
+	StringBasedCassandraQuery namedQuery;
+
+	StringBasedCassandraQuery expressionQuery;
+
+	@Setup
+	public void setUp() {
+
+		this.converter = BenchmarkFixtures.newConverter();
+
+		CassandraOperations operations = mock(CassandraOperations.class, withSettings().stubOnly());
+		when(operations.getConverter()).thenReturn(converter);
+
+		this.derivedQuery = new PartTreeCassandraQuery(getQueryMethod("findByLastnameAndAge", String.class, int.class),
+				operations);
+		this.derivedInQuery = new PartTreeCassandraQuery(getQueryMethod("findByIdIn", Collection.class), operations);
+
+		SpelExpressionParser parser = new SpelExpressionParser();
+		ExtensionAwareEvaluationContextProvider evaluationContextProvider = new ExtensionAwareEvaluationContextProvider();
+
+		this.indexedQuery = new StringBasedCassandraQuery(getQueryMethod("findByIndexedParameters", String.class, int.class),
+				operations, parser, evaluationContextProvider);
+		this.namedQuery = new StringBasedCassandraQuery(getQueryMethod("findByNamedParameters", String.class, int.class),
+				operations, parser, evaluationContextProvider);
+		this.expressionQuery = new StringBasedCassandraQuery(getQueryMethod("findByExpression", String.class),
+				operations, parser, evaluationContextProvider);
+	}
+
+	@Benchmark
+	public Statement derivedQuery() {
+		return derivedQuery.createQuery(createAccessor(derivedQuery, "White", 52));
+	}
+
+	@Benchmark
+	public Statement derivedInQuery() {
+		return derivedInQuery.createQuery(
+				createAccessor(derivedInQuery, Arrays.asList("heisenberg", "pinkman", "saul")));
+	}
+
+	@Benchmark
+	public String derivedQueryAndRender() {
+		return derivedQuery().toString();
+	}
+
+	@Benchmark
+	public Statement stringQueryWithIndexedParameters() {
+		return indexedQuery.createQuery(createAccessor(indexedQuery, "White", 52));
+	}
+
+	@Benchmark
+	public Statement stringQueryWithNamedParameters() {
+		return namedQuery.createQuery(createAccessor(namedQuery, "White", 52));
+	}
+
+	@Benchmark
+	public Statement stringQueryWithExpression() {
+		return expressionQuery.createQuery(createAccessor(expressionQuery, "White"));
+	}
+
+	private CassandraParameterAccessor createAccessor(AbstractCassandraQuery query, Object... values) {
+		return new ConvertingParameterAccessor(converter,
+				new CassandraParametersParameterAccessor(query.getQueryMethod(), values));
+	}
+
+	private CassandraQueryMethod getQueryMethod(String name, Class<?>... parameterTypes) {
+
+		Method method = ReflectionUtils.findMethod(CustomerRepository.class, name, parameterTypes);
+
+		return new CassandraQueryMethod(method, new DefaultRepositoryMetadata(CustomerRepository.class),
+				new SpelAwareProxyProjectionFactory(), converter.getMappingContext());
+	}
+
+	interface CustomerRepository extends Repository<Customer, String> {
+
+		Customer findByLastnameAndAge(String lastname, int age);
+
+		Customer findByIdIn(Collection<String> ids);
+
+		@Query("SELECT * FROM customer WHERE lastname = ?0 AND age = ?1 ALLOW FILTERING;")
+		Customer findByIndexedParameters(String lastname, int age);
+
+		@Query("SELECT * FROM customer WHERE lastname = :lastname AND age = :age ALLOW FILTERING;")
+		Customer findByNamedParameters(@Param("lastname") String lastname, @Param("age") int age);
+
+		@Query("SELECT * FROM customer WHERE lastname = :#{[0]};")
+		Customer findByExpression(String lastname);
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core.support;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.data.cassandra.benchmark.AbstractMicrobenchmark;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+
+/**
+ * Benchmarks for {@link PreparedStatementCache} lookups of already prepared statements. Each invocation creates a new
+ * {@link SimpleStatement} to reflect the typical usage where statements are created per execution.
+ */
+public class PreparedStatementCacheBenchmark extends AbstractMicrobenchmark {
+
+	private static final int STATEMENTS = 64;
+
+	@Param({ "map", "bounded" }) String cacheType;
+
+	PreparedStatementCache cache;
+
+	Session session;
+
+	String[] cql;
+
+	int counter;
+
+	@Setup
+	public void setUp() {
+
+		Cluster cluster = mock(Cluster.class, withSettings().stubOnly());
+		PreparedStatement preparedStatement = mock(PreparedStatement.class, withSettings().stubOnly());
+
+		this.session = mock(Session.class, withSettings().stubOnly());
+
+		when(session.getCluster()).thenReturn(cluster);
+		when(session.getLoggedKeyspace()).thenReturn("benchmark");
+		when(session.prepare(any(RegularStatement.class))).thenReturn(preparedStatement);
+
+		this.cache = "bounded".equals(cacheType) ? BoundedPreparedStatementCache.create(STATEMENTS * 2)
+				: MapPreparedStatementCache.create();
+
+		this.cql = new String[STATEMENTS];
+
+		for (int i = 0; i < STATEMENTS; i++) {
+			this.cql[i] = String.format("SELECT * FROM customer WHERE id = ? AND bucket = %d;", i);
+			this.cache.getPreparedStatement(session, new SimpleStatement(this.cql[i]));
+		}
+	}
+
+	@Benchmark
+	public PreparedStatement getPreparedStatement() {
+		return cache.getPreparedStatement(session, new SimpleStatement(nextCql()));
+	}
+
+	@Benchmark
+	public PreparedStatement getIfPresent() {
+		return cache.getIfPresent(session, new SimpleStatement(nextCql()));
+	}
+
+	@Benchmark
+	@Threads(4)
+	public PreparedStatement getPreparedStatementContended() {
+		return cache.getPreparedStatement(session, new SimpleStatement(cql[0]));
+	}
+
+	private String nextCql() {
+		return cql[counter++ & (STATEMENTS - 1)];
+	}
+}
@@ -33,12 +33,15 @@ import org.springframework.data.cassandra.core.convert.MappingCassandraConverter
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.SimpleUserTypeResolver;
 import org.springframework.data.cassandra.core.mapping.Table;
+import org.springframework.data.cassandra.core.mapping.UserTypeResolver;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.cql.config.java.AbstractClusterConfiguration;
 import org.springframework.data.cql.core.session.DefaultSessionFactory;
 import org.springframework.data.cql.core.session.SessionFactory;
 import org.springframework.data.mapping.context.MappingContext;
 
+import com.datastax.driver.core.CodecRegistry;
+
 /**
  * Base class for Spring Data Cassandra configuration using JavaConfig.
  *
@@ -99,7 +102,12 @@ public abstract class AbstractCassandraConfiguration extends AbstractClusterConf
 
 	/**
 	 * Creates a {@link CassandraConverter} using the configured {@link #cassandraMapping()}. Will apply all specified
-	 * {@link #customConversions()}.
+	 * {@link #customConversions()} and use the {@link CodecRegistry} of the {@link #cluster()}.
+	 * <p>
+	 * Note that codecs of {@link CassandraCustomConversions} are registered with the {@link CodecRegistry} of the
+	 * {@link #cluster()} as a side effect. Registered codecs apply to all sessions of the cluster and remain registered
+	 * for its lifetime. Registration fails if the {@link CodecRegistry} already contains a different codec for the same
+	 * CQL and Java type.
 	 *
 	 * @return {@link CassandraConverter} used to convert Java and Cassandra value types during the mapping process.
 	 * @throws ClassNotFoundException if an error occurs initializing the initial entity set, see
@@ -112,7 +120,15 @@ public abstract class AbstractCassandraConfiguration extends AbstractClusterConf
 
 		MappingCassandraConverter mappingCassandraConverter = new MappingCassandraConverter(cassandraMapping());
 
-		mappingCassandraConverter.setCustomConversions(customConversions());
+		CustomConversions customConversions = customConversions();
+		CodecRegistry codecRegistry = cluster().getObject().getConfiguration().getCodecRegistry();
+
+		if (customConversions instanceof CassandraCustomConversions) {
+			((CassandraCustomConversions) customConversions).registerCodecs(codecRegistry);
+		}
+
+		mappingCassandraConverter.setCustomConversions(customConversions);
+		mappingCassandraConverter.setCodecRegistry(codecRegistry);
 
 		return mappingCassandraConverter;
 	}
@@ -149,11 +165,24 @@ public abstract class AbstractCassandraConfiguration extends AbstractClusterConf
 
 		mappingContext.setCustomConversions(customConversions);
 		mappingContext.setSimpleTypeHolder(customConversions.getSimpleTypeHolder());
-		mappingContext.setUserTypeResolver(new SimpleUserTypeResolver(cluster().getObject(), getKeyspaceName()));
+		mappingContext.setUserTypeResolver(userTypeResolver());
 
 		return mappingContext;
 	}
 
+	/**
+	 * Creates a {@link SimpleUserTypeResolver} resolving user types of the {@link #getKeyspaceName() configured keyspace}
+	 * using the {@link #cluster()}. The resolver listens to schema changes of the {@link #cluster()} and is
+	 * unregistered from the {@link #cluster()} when the application context is closed.
+	 *
+	 * @return the {@link UserTypeResolver} used by the {@link #cassandraMapping()}.
+	 * @since 2.0
+	 */
+	@Bean
+	public UserTypeResolver userTypeResolver() {
+		return new SimpleUserTypeResolver(cluster().getObject(), getKeyspaceName());
+	}
+
 	/**
 	 * Return the {@link Set} of initial entity classes. Scans by default the class path using
 	 * {@link #getEntityBasePackages()}. Can be overriden by subclasses to skip class path scanning and return a fixed set
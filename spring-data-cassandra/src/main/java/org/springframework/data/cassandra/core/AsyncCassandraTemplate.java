@@ -23,6 +23,7 @@ import java.util.function.Function;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.convert.PartitionKeyResolver;
 import org.springframework.data.cassandra.core.convert.QueryMapper;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
@@ -84,6 +85,8 @@ public class AsyncCassandraTemplate implements AsyncCassandraOperations {
 
 	private final StatementFactory statementFactory;
 
+	private final PartitionKeyResolver partitionKeyResolver;
+
 	/**
 	 * Creates an instance of {@link AsyncCassandraTemplate} initialized with the given {@link Session} and a default
 	 * {@link MappingCassandraConverter}.
@@ -143,7 +146,10 @@ public class AsyncCassandraTemplate implements AsyncCassandraOperations {
 		this.mappingContext = converter.getMappingContext();
 		this.cqlOperations = asyncCqlTemplate;
 		this.exceptionTranslator = asyncCqlTemplate.getExceptionTranslator();
-		this.statementFactory = new StatementFactory(new QueryMapper(converter), new UpdateMapper(converter));
+		this.partitionKeyResolver = new PartitionKeyResolver(converter,
+				() -> QueryUtils.getProtocolVersion(asyncCqlTemplate.getSessionFactory().getSession().getCluster()));
+		this.statementFactory = new StatementFactory(new QueryMapper(converter), new UpdateMapper(converter),
+				partitionKeyResolver);
 	}
 
 	/*
@@ -388,6 +394,7 @@ public class AsyncCassandraTemplate implements AsyncCassandraOperations {
 		Select select = QueryBuilder.select().from(entity.getTableName().toCql());
 
 		getConverter().write(id, select.where(), entity);
+		QueryUtils.addRoutingKeyForId(select, id, entity, partitionKeyResolver);
 
 		return new MappingListenableFutureAdapter<>(getAsyncCqlOperations().queryForResultSet(select),
 				resultSet -> resultSet.iterator().hasNext());
@@ -408,6 +415,7 @@ public class AsyncCassandraTemplate implements AsyncCassandraOperations {
 		Select select = QueryBuilder.select().all().from(entity.getTableName().toCql());
 
 		getConverter().write(id, select.where(), entity);
+		QueryUtils.addRoutingKeyForId(select, id, entity, partitionKeyResolver);
 
 		return selectOne(select, entityClass);
 	}
@@ -430,7 +438,8 @@ public class AsyncCassandraTemplate implements AsyncCassandraOperations {
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		Insert insert = QueryUtils.createInsertQuery(getTableName(entity).toCql(), entity, options, getConverter());
+		Insert insert = QueryUtils.createInsertQuery(getTableName(entity).toCql(), entity, options, getConverter(),
+				partitionKeyResolver);
 
 		return new MappingListenableFutureAdapter<>(getAsyncCqlOperations().execute(new AsyncStatementCallback(insert)),
 				resultSet -> resultSet.wasApplied() ? entity : null);
@@ -454,7 +463,8 @@ public class AsyncCassandraTemplate implements AsyncCassandraOperations {
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		Update update = QueryUtils.createUpdateQuery(getTableName(entity).toCql(), entity, options, getConverter());
+		Update update = QueryUtils.createUpdateQuery(getTableName(entity).toCql(), entity, options, getConverter(),
+				partitionKeyResolver);
 
 		return new MappingListenableFutureAdapter<>(getAsyncCqlOperations().execute(new AsyncStatementCallback(update)),
 				resultSet -> resultSet.wasApplied() ? entity : null);
@@ -478,7 +488,8 @@ public class AsyncCassandraTemplate implements AsyncCassandraOperations {
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		Delete delete = QueryUtils.createDeleteQuery(getTableName(entity).toCql(), entity, options, getConverter());
+		Delete delete = QueryUtils.createDeleteQuery(getTableName(entity).toCql(), entity, options, getConverter(),
+				partitionKeyResolver);
 
 		return new MappingListenableFutureAdapter<>(getAsyncCqlOperations().execute(new AsyncStatementCallback(delete)),
 				resultSet -> resultSet.wasApplied() ? entity : null);
@@ -499,6 +510,7 @@ public class AsyncCassandraTemplate implements AsyncCassandraOperations {
 		Delete delete = QueryBuilder.delete().from(entity.getTableName().toCql());
 
 		getConverter().write(id, delete.where(), entity);
+		QueryUtils.addRoutingKeyForId(delete, id, entity, partitionKeyResolver);
 
 		return getAsyncCqlOperations().execute(delete);
 	}
@@ -17,6 +17,8 @@ package org.springframework.data.cassandra.core;
 
 import org.springframework.data.cql.core.WriteOptions;
 
+import com.datastax.driver.core.BatchStatement;
+
 /**
  * Batch operations for insert/update/delete actions on a table. {@link CassandraBatchOperations} use logged Cassandra
  * {@code BATCH}es for single entities and collections of entities. A {@link CassandraBatchOperations} instance cannot
@@ -29,7 +31,8 @@ import org.springframework.data.cql.core.WriteOptions;
  * <p>
  * Multi partition batches should only be used to achieve atomicity for a few writes on different tables. Apart from
  * this they should be avoided because they’re too expensive. Single partition batches can be used to get atomicity and
- * isolation, they're not much more expensive than normal writes.
+ * isolation, they're not much more expensive than normal writes. {@link #splitByPartition(int)} groups statements by
+ * their partition key into single partition batches that are executed concurrently.
  *
  * @author Mark Paluch
  * @author Anup Sabbi
@@ -37,6 +40,13 @@ import org.springframework.data.cql.core.WriteOptions;
  */
 public interface CassandraBatchOperations {
 
+	/**
+	 * Default number of concurrently executed batches when {@link #splitByPartition(int) splitting by partition}.
+	 *
+	 * @since 2.0
+	 */
+	int DEFAULT_MAX_CONCURRENT_BATCHES = 16;
+
 	/**
 	 * Execute the batch. The batch can be executed only once.
 	 *
@@ -53,6 +63,45 @@ public interface CassandraBatchOperations {
 	 */
 	CassandraBatchOperations withTimestamp(long timestamp);
 
+	/**
+	 * Use the given {@link BatchStatement.Type} to execute the batch. Batches are {@link BatchStatement.Type#LOGGED
+	 * logged} by default.
+	 *
+	 * @param batchType the batch type; must not be {@literal null}.
+	 * @return {@code this} {@link CassandraBatchOperations}.
+	 * @throws IllegalStateException if the batch was already executed.
+	 * @since 2.0
+	 */
+	CassandraBatchOperations withBatchType(BatchStatement.Type batchType);
+
+	/**
+	 * Group statements by table and partition key and split each group into batches of at most {@code maxBatchSize}
+	 * statements. Partition key values are derived from the primary key of each entity. The resulting batches are
+	 * executed concurrently with at most {@link #DEFAULT_MAX_CONCURRENT_BATCHES} batches in flight. Atomicity is only
+	 * guaranteed within a single batch.
+	 *
+	 * @param maxBatchSize maximum number of statements per batch; must be greater than zero.
+	 * @return {@code this} {@link CassandraBatchOperations}.
+	 * @throws IllegalStateException if the batch was already executed.
+	 * @since 2.0
+	 * @see #splitByPartition(int, int)
+	 */
+	CassandraBatchOperations splitByPartition(int maxBatchSize);
+
+	/**
+	 * Group statements by table and partition key and split each group into batches of at most {@code maxBatchSize}
+	 * statements. Partition key values are derived from the primary key of each entity. The resulting batches are
+	 * executed concurrently with at most {@code maxConcurrentBatches} batches in flight. Atomicity is only guaranteed
+	 * within a single batch.
+	 *
+	 * @param maxBatchSize maximum number of statements per batch; must be greater than zero.
+	 * @param maxConcurrentBatches maximum number of concurrently executed batches; must be greater than zero.
+	 * @return {@code this} {@link CassandraBatchOperations}.
+	 * @throws IllegalStateException if the batch was already executed.
+	 * @since 2.0
+	 */
+	CassandraBatchOperations splitByPartition(int maxBatchSize, int maxConcurrentBatches);
+
 	/**
 	 * Add an array of inserts to the batch.
 	 *
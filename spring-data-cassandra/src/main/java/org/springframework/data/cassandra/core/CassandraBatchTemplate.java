@@ -15,12 +15,29 @@
  */
 package org.springframework.data.cassandra.core;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.springframework.data.cassandra.core.convert.PartitionKeyResolver;
+import org.springframework.data.cql.core.AsyncCqlTemplate;
+import org.springframework.data.cql.core.CqlOperations;
+import org.springframework.data.cql.core.CqlTemplate;
+import org.springframework.data.cql.core.SessionCallback;
 import org.springframework.data.cql.core.WriteOptions;
 import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
 
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.querybuilder.Batch;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 
@@ -40,8 +57,20 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 	private final Batch batch;
 
+	private final List<BatchEntry> entries = new ArrayList<>();
+
 	private final CassandraOperations operations;
 
+	private final PartitionKeyResolver partitionKeyResolver;
+
+	private BatchStatement.Type batchType;
+
+	private Long timestamp;
+
+	private int maxBatchSize = -1;
+
+	private int maxConcurrentBatches = DEFAULT_MAX_CONCURRENT_BATCHES;
+
 	/**
 	 * Create a new {@link CassandraBatchTemplate} given {@link CassandraOperations}.
 	 *
@@ -52,6 +81,9 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 		Assert.notNull(operations, "CassandraOperations must not be null");
 
 		this.operations = operations;
+		this.partitionKeyResolver = new PartitionKeyResolver(operations.getConverter(),
+				() -> operations.getCqlOperations().execute(
+						(SessionCallback<ProtocolVersion>) session -> QueryUtils.getProtocolVersion(session.getCluster())));
 		this.batch = QueryBuilder.batch();
 	}
 
@@ -62,7 +94,13 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 	public void execute() {
 
 		if (executed.compareAndSet(false, true)) {
-			operations.getCqlOperations().execute(batch);
+
+			if (batchType == null && maxBatchSize < 1) {
+				operations.getCqlOperations().execute(batch);
+				return;
+			}
+
+			execute(createBatches());
 			return;
 		}
 
@@ -78,6 +116,45 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 		assertNotExecuted();
 
 		batch.using(QueryBuilder.timestamp(timestamp));
+		this.timestamp = timestamp;
+
+		return this;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraBatchOperations#withBatchType(com.datastax.driver.core.BatchStatement.Type)
+	 */
+	@Override
+	public CassandraBatchOperations withBatchType(BatchStatement.Type batchType) {
+
+		assertNotExecuted();
+		Assert.notNull(batchType, "BatchStatement.Type must not be null");
+
+		this.batchType = batchType;
+
+		return this;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraBatchOperations#splitByPartition(int)
+	 */
+	@Override
+	public CassandraBatchOperations splitByPartition(int maxBatchSize) {
+		return splitByPartition(maxBatchSize, DEFAULT_MAX_CONCURRENT_BATCHES);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraBatchOperations#splitByPartition(int, int)
+	 */
+	@Override
+	public CassandraBatchOperations splitByPartition(int maxBatchSize, int maxConcurrentBatches) {
+
+		assertNotExecuted();
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be greater than zero");
+		Assert.isTrue(maxConcurrentBatches > 0, "Max concurrent batches must be greater than zero");
+
+		this.maxBatchSize = maxBatchSize;
+		this.maxConcurrentBatches = maxConcurrentBatches;
 
 		return this;
 	}
@@ -114,7 +191,12 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 		for (Object entity : entities) {
 
 			Assert.notNull(entity, "Entity must not be null");
-			batch.add(QueryUtils.createInsertQuery(getTableName(entity), entity, options, operations.getConverter()));
+
+			String tableName = getTableName(entity);
+			ByteBuffer routingKey = partitionKeyResolver.getRoutingKey(entity);
+
+			add(tableName, routingKey,
+					QueryUtils.createInsertQuery(tableName, entity, options, operations.getConverter(), routingKey));
 		}
 
 		return this;
@@ -152,7 +234,12 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 		for (Object entity : entities) {
 
 			Assert.notNull(entity, "Entity must not be null");
-			batch.add(QueryUtils.createUpdateQuery(getTableName(entity), entity, options, operations.getConverter()));
+
+			String tableName = getTableName(entity);
+			ByteBuffer routingKey = partitionKeyResolver.getRoutingKey(entity);
+
+			add(tableName, routingKey,
+					QueryUtils.createUpdateQuery(tableName, entity, options, operations.getConverter(), routingKey));
 		}
 
 		return this;
@@ -180,12 +267,133 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 		for (Object entity : entities) {
 			Assert.notNull(entity, "Entity must not be null");
-			batch.add(QueryUtils.createDeleteQuery(getTableName(entity), entity, null, operations.getConverter()));
+
+			String tableName = getTableName(entity);
+			ByteBuffer routingKey = partitionKeyResolver.getRoutingKey(entity);
+
+			add(tableName, routingKey,
+					QueryUtils.createDeleteQuery(tableName, entity, null, operations.getConverter(), routingKey));
 		}
 
 		return this;
 	}
 
+	private void add(String tableName, ByteBuffer routingKey, RegularStatement statement) {
+
+		batch.add(statement);
+		entries.add(new BatchEntry(tableName, routingKey, statement));
+	}
+
+	/**
+	 * Create {@link BatchStatement}s from the collected statements. Statements are grouped by table and routing key and
+	 * split into chunks of {@code maxBatchSize} statements if splitting is enabled. Statements without a routing key
+	 * are not grouped with other statements.
+	 *
+	 * @return the {@link BatchStatement}s to execute.
+	 */
+	List<BatchStatement> createBatches() {
+
+		BatchStatement.Type type = batchType != null ? batchType : BatchStatement.Type.LOGGED;
+
+		if (maxBatchSize < 1) {
+			return entries.isEmpty() ? new ArrayList<>() : Arrays.asList(createBatch(type, entries));
+		}
+
+		Map<List<Object>, List<BatchEntry>> partitions = new LinkedHashMap<>();
+
+		for (BatchEntry entry : entries) {
+
+			List<Object> partitionKey = Arrays.asList(entry.tableName,
+					entry.routingKey != null ? entry.routingKey : new Object());
+
+			partitions.computeIfAbsent(partitionKey, key -> new ArrayList<>()).add(entry);
+		}
+
+		List<BatchStatement> batches = new ArrayList<>();
+
+		for (List<BatchEntry> partition : partitions.values()) {
+			for (int offset = 0; offset < partition.size(); offset += maxBatchSize) {
+
+				List<BatchEntry> chunk = partition.subList(offset, Math.min(offset + maxBatchSize, partition.size()));
+				batches.add(createBatch(type, chunk));
+			}
+		}
+
+		return batches;
+	}
+
+	private BatchStatement createBatch(BatchStatement.Type type, List<BatchEntry> entries) {
+
+		BatchStatement batchStatement = new BatchStatement(type);
+
+		entries.forEach(entry -> batchStatement.add(entry.statement));
+
+		if (timestamp != null) {
+			batchStatement.setDefaultTimestamp(timestamp);
+		}
+
+		return batchStatement;
+	}
+
+	private void execute(List<BatchStatement> batches) {
+
+		CqlOperations cqlOperations = operations.getCqlOperations();
+
+		if (batches.size() == 1 || !(cqlOperations instanceof CqlTemplate)
+				|| ((CqlTemplate) cqlOperations).getSessionFactory() == null) {
+
+			batches.forEach(cqlOperations::execute);
+			return;
+		}
+
+		AsyncCqlTemplate asyncCqlTemplate = AsyncCqlTemplate.from((CqlTemplate) cqlOperations);
+
+		Semaphore inFlight = new Semaphore(maxConcurrentBatches);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+
+		try {
+
+			for (Statement batchStatement : batches) {
+
+				inFlight.acquire();
+
+				if (failure.get() != null) {
+					inFlight.release();
+					break;
+				}
+
+				ListenableFuture<Boolean> future;
+
+				try {
+					future = asyncCqlTemplate.execute(batchStatement);
+				} catch (RuntimeException e) {
+					inFlight.release();
+					failure.compareAndSet(null, e);
+					break;
+				}
+
+				future.addCallback(applied -> inFlight.release(), e -> {
+					failure.compareAndSet(null, e);
+					inFlight.release();
+				});
+			}
+
+			inFlight.acquire(maxConcurrentBatches);
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for batches to complete", e);
+		}
+
+		if (failure.get() instanceof RuntimeException) {
+			throw (RuntimeException) failure.get();
+		}
+
+		if (failure.get() != null) {
+			throw new IllegalStateException(failure.get());
+		}
+	}
+
 	private void assertNotExecuted() {
 		Assert.state(!executed.get(), "This Cassandra Batch was already executed");
 	}
@@ -196,4 +404,20 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 		return operations.getTableName(entity.getClass()).toCql();
 	}
+
+	/**
+	 * Statement along with the table and routing key of the entity it was created from.
+	 */
+	private static class BatchEntry {
+
+		final String tableName;
+		final ByteBuffer routingKey;
+		final RegularStatement statement;
+
+		BatchEntry(String tableName, ByteBuffer routingKey, RegularStatement statement) {
+			this.tableName = tableName;
+			this.routingKey = routingKey;
+			this.statement = statement;
+		}
+	}
 }
@@ -27,6 +27,7 @@ import org.springframework.data.cql.core.CqlIdentifier;
 import org.springframework.data.cql.core.CqlOperations;
 import org.springframework.data.cql.core.QueryOptions;
 import org.springframework.data.cql.core.WriteOptions;
+import org.springframework.data.domain.Slice;
 
 import com.datastax.driver.core.Statement;
 
@@ -143,6 +144,21 @@ public interface CassandraOperations {
 	 */
 	<T> Stream<T> stream(Statement statement, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Execute a {@code SELECT} query with paging and convert the resulting items of the current page to a {@link Slice}
+	 * of entities. Reads only the rows of the page fetched with the {@link Statement#getFetchSize() fetch size} and
+	 * exposes the {@link com.datastax.driver.core.PagingState} of the next page through
+	 * {@link Slice#getPageable()}, which is a {@link org.springframework.data.cassandra.core.query.CassandraPageRequest}.
+	 *
+	 * @param statement the CQL statement, must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the converted results
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 2.0
+	 * @see org.springframework.data.cassandra.core.query.CassandraPageRequest
+	 */
+	<T> Slice<T> slice(Statement statement, Class<T> entityClass) throws DataAccessException;
+
 	/**
 	 * Execute a {@code SELECT} query and convert the resulting item to an entity.
 	 *
@@ -181,6 +197,21 @@ public interface CassandraOperations {
 	 */
 	<T> Stream<T> stream(Query query, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Scan all rows of the table of {@code entityClass} by splitting the token ring into token ranges and querying
+	 * ranges in parallel. Rows are converted to entities and emitted range by range while up to
+	 * {@link ScanOptions#getParallelism()} range queries are in flight. Closing the {@link Stream} cancels range
+	 * queries in flight. Range queries carry no routing key and are not routed to a replica of the range.
+	 *
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return a {@link Stream} over all entities of the table.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 2.0
+	 * @see ScanOptions
+	 */
+	<T> Stream<T> scanAll(Class<T> entityClass, ScanOptions options) throws DataAccessException;
+
 	/**
 	 * Execute a {@code SELECT} query and convert the resulting item to an entity.
 	 *
@@ -245,7 +276,10 @@ public interface CassandraOperations {
 	<T> T selectOneById(Object id, Class<T> entityClass) throws DataAccessException;
 
 	/**
-	 * Select objects for the given {@code entityClass} and {@code ids}.
+	 * Select objects for the given {@code entityClass} and {@code ids}. Ids can be simple id values, instances of the
+	 * composite primary key class or {@link org.springframework.data.cassandra.repository.MapId}s. Each id is looked up
+	 * with a single-partition query. Lookups are grouped by partition and executed concurrently. Results are returned in
+	 * the order of {@code ids}, duplicate ids are looked up once.
 	 *
 	 * @param ids must not be {@literal null}.
 	 * @param entityClass The entity type must not be {@literal null}.
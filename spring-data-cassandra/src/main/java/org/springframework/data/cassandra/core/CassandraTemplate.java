@@ -15,22 +15,34 @@
  */
 package org.springframework.data.cassandra.core;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.cassandra.core.PreparedEntityStatementFactory.PreparedEntityStatement;
+import org.springframework.data.cassandra.core.TokenRangeScan.RowIterator;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.convert.PartitionKeyResolver;
 import org.springframework.data.cassandra.core.convert.QueryMapper;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.data.cql.core.AsyncCqlOperations;
+import org.springframework.data.cql.core.AsyncCqlTemplate;
 import org.springframework.data.cql.core.CqlIdentifier;
 import org.springframework.data.cql.core.CqlOperations;
 import org.springframework.data.cql.core.CqlProvider;
@@ -39,14 +51,24 @@ import org.springframework.data.cql.core.QueryOptions;
 import org.springframework.data.cql.core.SessionCallback;
 import org.springframework.data.cql.core.session.DefaultSessionFactory;
 import org.springframework.data.cql.core.session.SessionFactory;
+import org.springframework.data.cql.core.support.CachedPreparedStatementCreator;
+import org.springframework.data.cql.core.support.PreparedStatementCache;
+import org.springframework.data.cql.support.CassandraAccessor;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ProtocolVersion;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TokenRange;
 import com.datastax.driver.core.exceptions.DriverException;
 import com.datastax.driver.core.querybuilder.Delete;
 import com.datastax.driver.core.querybuilder.Insert;
@@ -73,6 +95,11 @@ import com.datastax.driver.core.querybuilder.Update;
  */
 public class CassandraTemplate implements CassandraOperations {
 
+	/**
+	 * Default number of in-flight lookups for {@link #selectBySimpleIds(Iterable, Class)}.
+	 */
+	public static final int DEFAULT_MAX_CONCURRENT_LOOKUPS = 32;
+
 	private final CassandraConverter converter;
 
 	private final MappingContext<? extends CassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext;
@@ -81,6 +108,20 @@ public class CassandraTemplate implements CassandraOperations {
 
 	private final StatementFactory statementFactory;
 
+	private final PreparedEntityStatementFactory preparedStatementFactory;
+
+	private final PartitionKeyResolver partitionKeyResolver;
+
+	private final IdLookupFactory idLookupFactory;
+
+	private AsyncCqlOperations asyncCqlOperations;
+
+	private PreparedStatementCache preparedStatementCache = PreparedStatementCache.create();
+
+	private boolean usePreparedStatements;
+
+	private int maxConcurrentLookups = DEFAULT_MAX_CONCURRENT_LOOKUPS;
+
 	/**
 	 * Creates an instance of {@link CassandraTemplate} initialized with the given {@link Session} and a default
 	 * {@link MappingCassandraConverter}.
@@ -136,10 +177,79 @@ public class CassandraTemplate implements CassandraOperations {
 		Assert.notNull(cqlOperations, "CqlOperations must not be null");
 		Assert.notNull(converter, "CassandraConverter must not be null");
 
-		this.converter = converter;
+		this.converter = QueryUtils.useCodecRegistry(converter, getCluster(cqlOperations));
 		this.cqlOperations = cqlOperations;
 		this.mappingContext = converter.getMappingContext();
-		this.statementFactory = new StatementFactory(new QueryMapper(converter), new UpdateMapper(converter));
+		this.partitionKeyResolver = new PartitionKeyResolver(converter, () -> cqlOperations
+				.execute((SessionCallback<ProtocolVersion>) session -> QueryUtils.getProtocolVersion(session.getCluster())));
+		this.statementFactory = new StatementFactory(new QueryMapper(converter), new UpdateMapper(converter),
+				partitionKeyResolver);
+		this.preparedStatementFactory = new PreparedEntityStatementFactory(converter);
+		this.idLookupFactory = new IdLookupFactory(converter, partitionKeyResolver);
+	}
+
+	/**
+	 * Enable or disable prepared statements for entity writes ({@link #insert(Object, InsertOptions)},
+	 * {@link #update(Object, UpdateOptions)} and {@link #delete(Object, QueryOptions)}) and id lookups
+	 * ({@link #selectBySimpleIds(Iterable, Class)}). Prepared entity writes render a parameterized statement once per
+	 * entity and option shape and bind entity values to the cached {@link PreparedStatement}.
+	 * Prepared inserts leave {@literal null} values unset and therefore require protocol version 4 or higher. Disabled by
+	 * default.
+	 *
+	 * @param usePreparedStatements {@literal true} to use prepared statements for entity writes and id lookups.
+	 * @see #setPreparedStatementCache(PreparedStatementCache)
+	 */
+	public void setUsePreparedStatements(boolean usePreparedStatements) {
+		this.usePreparedStatements = usePreparedStatements;
+	}
+
+	/**
+	 * @return {@literal true} if entity writes use prepared statements.
+	 */
+	public boolean isUsePreparedStatements() {
+		return this.usePreparedStatements;
+	}
+
+	/**
+	 * Set the {@link PreparedStatementCache} used to prepare statements for entity writes. Defaults to
+	 * {@link PreparedStatementCache#create()}.
+	 *
+	 * @param preparedStatementCache must not be {@literal null}.
+	 * @see #setUsePreparedStatements(boolean)
+	 */
+	public void setPreparedStatementCache(PreparedStatementCache preparedStatementCache) {
+
+		Assert.notNull(preparedStatementCache, "PreparedStatementCache must not be null");
+
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
+	/**
+	 * @return the {@link PreparedStatementCache} used to prepare statements for entity writes.
+	 */
+	public PreparedStatementCache getPreparedStatementCache() {
+		return this.preparedStatementCache;
+	}
+
+	/**
+	 * Set the maximum number of single-partition lookups that are executed concurrently by
+	 * {@link #selectBySimpleIds(Iterable, Class)}. Lookups are executed sequentially if the template is not backed by a
+	 * {@link CqlTemplate} with a {@link SessionFactory}. Defaults to {@link #DEFAULT_MAX_CONCURRENT_LOOKUPS}.
+	 *
+	 * @param maxConcurrentLookups must be greater than zero.
+	 */
+	public void setMaxConcurrentLookups(int maxConcurrentLookups) {
+
+		Assert.isTrue(maxConcurrentLookups > 0, "Max concurrent lookups must be greater than zero");
+
+		this.maxConcurrentLookups = maxConcurrentLookups;
+	}
+
+	/**
+	 * @return the maximum number of concurrently executed lookups for {@link #selectBySimpleIds(Iterable, Class)}.
+	 */
+	public int getMaxConcurrentLookups() {
+		return this.maxConcurrentLookups;
 	}
 
 	/* (non-Javadoc)
@@ -150,6 +260,20 @@ public class CassandraTemplate implements CassandraOperations {
 		return this.converter;
 	}
 
+	/* (non-Javadoc) */
+	private static Cluster getCluster(CqlOperations cqlOperations) {
+
+		if (cqlOperations instanceof CassandraAccessor) {
+
+			SessionFactory sessionFactory = ((CassandraAccessor) cqlOperations).getSessionFactory();
+			Session session = sessionFactory != null ? sessionFactory.getSession() : null;
+
+			return session != null ? session.getCluster() : null;
+		}
+
+		return null;
+	}
+
 	/* (non-Javadoc) */
 	private static MappingCassandraConverter newConverter() {
 
@@ -261,6 +385,20 @@ public class CassandraTemplate implements CassandraOperations {
 				.map(row -> getConverter().read(entityClass, row));
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#slice(com.datastax.driver.core.Statement, java.lang.Class)
+	 */
+	@Override
+	public <T> Slice<T> slice(Statement statement, Class<T> entityClass) throws DataAccessException {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+
+		ResultSet resultSet = getCqlOperations().queryForResultSet(statement);
+
+		return QueryUtils.readSlice(resultSet, (row, rowNum) -> getConverter().read(entityClass, row), statement);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.CassandraOperations#selectOne(com.datastax.driver.core.Statement, java.lang.Class)
@@ -300,6 +438,48 @@ public class CassandraTemplate implements CassandraOperations {
 				entityClass);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#scanAll(java.lang.Class, org.springframework.data.cassandra.core.ScanOptions)
+	 */
+	@Override
+	public <T> Stream<T> scanAll(Class<T> entityClass, ScanOptions options) throws DataAccessException {
+
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "ScanOptions must not be null");
+
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		TokenRangeScan scan = new TokenRangeScan(entity, partitionKeyResolver.getPartitionKeyColumns(entity), options);
+
+		SessionCallback<Set<TokenRange>> tokenRanges = session -> session.getCluster().getMetadata().getTokenRanges();
+
+		RowIterator rows = new RowIterator(scan, scan.getRanges(getCqlOperations().execute(tokenRanges)),
+				this::executeAsync);
+
+		return StreamSupport
+				.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(rows::cancel).map(row -> getConverter().read(entityClass, row));
+	}
+
+	/**
+	 * Execute a query. Queries are executed asynchronously if {@link CqlOperations} is backed by a {@link CqlTemplate}
+	 * and synchronously otherwise.
+	 */
+	private Future<ResultSet> executeAsync(Statement statement) {
+
+		CqlOperations cqlOperations = getCqlOperations();
+
+		if (asyncCqlOperations == null && cqlOperations instanceof CqlTemplate
+				&& ((CqlTemplate) cqlOperations).getSessionFactory() != null) {
+			asyncCqlOperations = AsyncCqlTemplate.from((CqlTemplate) cqlOperations);
+		}
+
+		if (asyncCqlOperations != null) {
+			return asyncCqlOperations.queryForResultSet(statement);
+		}
+
+		return CompletableFuture.completedFuture(cqlOperations.queryForResultSet(statement));
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.CassandraOperations#selectOne(org.springframework.data.cassandra.core.query.Query, java.lang.Class)
 	 */
@@ -373,6 +553,7 @@ public class CassandraTemplate implements CassandraOperations {
 		Select select = QueryBuilder.select().from(entity.getTableName().toCql());
 
 		getConverter().write(id, select.where(), entity);
+		QueryUtils.addRoutingKeyForId(select, id, entity, partitionKeyResolver);
 
 		return getCqlOperations().queryForResultSet(select).iterator().hasNext();
 	}
@@ -392,6 +573,7 @@ public class CassandraTemplate implements CassandraOperations {
 		Select select = QueryBuilder.select().all().from(entity.getTableName().toCql());
 
 		getConverter().write(id, select.where(), entity);
+		QueryUtils.addRoutingKeyForId(select, id, entity, partitionKeyResolver);
 
 		return selectOne(select, entityClass);
 	}
@@ -402,23 +584,71 @@ public class CassandraTemplate implements CassandraOperations {
 		Assert.notNull(ids, "Ids must not be null");
 		Assert.notNull(entityClass, "EntityClass must not be null");
 
-		CassandraPersistentEntity<?> entity = getMappingContext().getRequiredPersistentEntity(entityClass);
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+
+		List<Map<String, Object>> lookups = idLookupFactory.getLookups(ids, entity);
+		Map<List<String>, PreparedStatement> preparedStatements = new HashMap<>();
+
+		// Lookups are issued grouped by partition, results are collected per lookup to return them in the order of ids.
+		List<List<T>> results = new ArrayList<>(lookups.size());
+		lookups.forEach(lookup -> results.add(new ArrayList<>(1)));
+
+		Deque<Future<ResultSet>> inFlight = new ArrayDeque<>();
+		Deque<List<T>> pendingResults = new ArrayDeque<>();
+
+		try {
+
+			for (int position : idLookupFactory.getPartitionOrder(lookups, entity)) {
+
+				if (inFlight.size() >= maxConcurrentLookups) {
+					readAll(QueryUtils.getResult(inFlight.poll()), entityClass, pendingResults.poll());
+				}
 
-		CassandraPersistentProperty idProperty = entity.getIdProperty().orElseThrow(() -> new IllegalArgumentException(
-				String.format("Entity class [%s] has no primary key", entityClass.getName())));
+				Map<String, Object> lookup = lookups.get(position);
+				Statement statement = isUsePreparedStatements()
+						? bindLookup(lookup, entity, preparedStatements) : idLookupFactory.createSelect(lookup, entity);
 
-		if (idProperty.isCompositePrimaryKey()) {
+				inFlight.add(executeAsync(statement));
+				pendingResults.add(results.get(position));
+			}
 
-			throw new IllegalArgumentException(
-					String.format("Entity class [%s] uses a composite primary key class [%s] which this method can't support",
-							entityClass.getName(), idProperty.getType().getName()));
+			while (!inFlight.isEmpty()) {
+				readAll(QueryUtils.getResult(inFlight.poll()), entityClass, pendingResults.poll());
+			}
+		} catch (RuntimeException e) {
+
+			inFlight.forEach(future -> future.cancel(true));
+			throw e;
 		}
 
-		Select select = QueryBuilder.select().all().from(entity.getTableName().toCql());
+		List<T> result = new ArrayList<>(lookups.size());
+		results.forEach(result::addAll);
+
+		return result;
+	}
+
+	private BoundStatement bindLookup(Map<String, Object> lookup, CassandraPersistentEntity<?> entity,
+			Map<List<String>, PreparedStatement> preparedStatements) {
+
+		List<String> columns = new ArrayList<>(lookup.keySet());
+		PreparedEntityStatement select = preparedStatementFactory.selectById(entity, columns);
+
+		PreparedStatement preparedStatement = preparedStatements.computeIfAbsent(columns, key -> {
+
+			SessionCallback<PreparedStatement> callback = session -> getPreparedStatementCache()
+					.getPreparedStatement(session, select.getStatement());
 
-		select.where(QueryBuilder.in(idProperty.getColumnName().toCql(), toList(ids)));
+			return getCqlOperations().execute(callback);
+		});
 
-		return select(select, entityClass);
+		return select.bindLookup(preparedStatement, lookup);
+	}
+
+	private <T> void readAll(ResultSet resultSet, Class<T> entityClass, List<T> result) {
+
+		for (Row row : resultSet) {
+			result.add(getConverter().read(entityClass, row));
+		}
 	}
 
 	/*
@@ -439,7 +669,15 @@ public class CassandraTemplate implements CassandraOperations {
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		Insert insert = QueryUtils.createInsertQuery(getTableName(entity.getClass()).toCql(), entity, options, converter);
+		if (isUsePreparedStatements()) {
+
+			CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
+
+			return executePrepared(preparedStatementFactory.insert(persistentEntity, options), entity, options);
+		}
+
+		Insert insert = QueryUtils.createInsertQuery(getTableName(entity.getClass()).toCql(), entity, options, converter,
+				partitionKeyResolver);
 
 		return getCqlOperations().execute(new StatementCallback<>(insert, entity));
 	}
@@ -462,7 +700,15 @@ public class CassandraTemplate implements CassandraOperations {
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		Update update = QueryUtils.createUpdateQuery(getTableName(entity.getClass()).toCql(), entity, options, converter);
+		if (isUsePreparedStatements()) {
+
+			CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
+
+			return executePrepared(preparedStatementFactory.update(persistentEntity, options), entity, options);
+		}
+
+		Update update = QueryUtils.createUpdateQuery(getTableName(entity.getClass()).toCql(), entity, options, converter,
+				partitionKeyResolver);
 
 		return getCqlOperations().execute(new StatementCallback<>(update, entity));
 	}
@@ -485,7 +731,15 @@ public class CassandraTemplate implements CassandraOperations {
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		Delete delete = QueryUtils.createDeleteQuery(getTableName(entity.getClass()).toCql(), entity, options, converter);
+		if (isUsePreparedStatements()) {
+
+			CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
+
+			return executePrepared(preparedStatementFactory.delete(persistentEntity), entity, options);
+		}
+
+		Delete delete = QueryUtils.createDeleteQuery(getTableName(entity.getClass()).toCql(), entity, options, converter,
+				partitionKeyResolver);
 
 		return getCqlOperations().execute(new StatementCallback<>(delete, entity));
 	}
@@ -505,6 +759,7 @@ public class CassandraTemplate implements CassandraOperations {
 		Delete delete = QueryBuilder.delete().from(entity.getTableName().toCql());
 
 		getConverter().write(id, delete.where(), entity);
+		QueryUtils.addRoutingKeyForId(delete, id, entity, partitionKeyResolver);
 
 		return getCqlOperations().execute(delete);
 	}
@@ -535,7 +790,24 @@ public class CassandraTemplate implements CassandraOperations {
 	 */
 	@Override
 	public CqlIdentifier getTableName(Class<?> entityClass) {
-		return getMappingContext().getRequiredPersistentEntity(ClassUtils.getUserClass(entityClass)).getTableName();
+		return getRequiredPersistentEntity(entityClass).getTableName();
+	}
+
+	private CassandraPersistentEntity<?> getRequiredPersistentEntity(Class<?> entityClass) {
+		return getMappingContext().getRequiredPersistentEntity(ClassUtils.getUserClass(entityClass));
+	}
+
+	private <T> T executePrepared(PreparedEntityStatement statement, T entity, QueryOptions options) {
+
+		CachedPreparedStatementCreator preparedStatementCreator = CachedPreparedStatementCreator
+				.of(getPreparedStatementCache(), statement.getStatement());
+
+		return getCqlOperations().execute(preparedStatementCreator, (session, preparedStatement) -> {
+
+			BoundStatement boundStatement = statement.bind(preparedStatement, entity, options);
+
+			return session.execute(boundStatement).wasApplied() ? entity : null;
+		});
 	}
 
 	/*
@@ -547,19 +819,6 @@ public class CassandraTemplate implements CassandraOperations {
 		return new CassandraBatchTemplate(this);
 	}
 
-	private <T> List<T> toList(Iterable<T> iterable) {
-
-		if (iterable instanceof List) {
-			return (List<T>) iterable;
-		}
-
-		if (iterable instanceof Collection) {
-			return new ArrayList<>((Collection<T>) iterable);
-		}
-
-		return StreamSupport.stream(iterable.spliterator(), false).collect(Collectors.toList());
-	}
-
 	private static class StatementCallback<T> implements SessionCallback<T>, CqlProvider {
 
 		private final Statement statement;
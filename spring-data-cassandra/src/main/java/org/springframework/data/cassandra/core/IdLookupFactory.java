@@ -0,0 +1,195 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.convert.PartitionKeyResolver;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.repository.MapId;
+import org.springframework.data.cassandra.repository.MapIdentifiable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Select;
+
+/**
+ * Factory for single-partition lookups selecting entities by id. Ids are resolved to converted primary key column
+ * values. Simple ids, instances of the composite primary key class, {@link MapId}s and entity instances are supported.
+ * <p>
+ * Only intended for internal use.
+ *
+ * @since 2.0
+ * @see CassandraTemplate#selectBySimpleIds(Iterable, Class)
+ */
+class IdLookupFactory {
+
+	private final CassandraConverter converter;
+
+	private final PartitionKeyResolver partitionKeyResolver;
+
+	/**
+	 * Create a new {@link IdLookupFactory}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 * @param partitionKeyResolver must not be {@literal null}.
+	 */
+	IdLookupFactory(CassandraConverter converter, PartitionKeyResolver partitionKeyResolver) {
+
+		Assert.notNull(converter, "CassandraConverter must not be null");
+		Assert.notNull(partitionKeyResolver, "PartitionKeyResolver must not be null");
+
+		this.converter = converter;
+		this.partitionKeyResolver = partitionKeyResolver;
+	}
+
+	/**
+	 * Resolve {@code ids} to lookups in the order of {@code ids}. Each lookup contains converted primary key column
+	 * values keyed by their CQL column name. Duplicate ids are resolved to a single lookup.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return the lookups.
+	 * @see #getPartitionOrder(List, CassandraPersistentEntity)
+	 */
+	List<Map<String, Object>> getLookups(Iterable<?> ids, CassandraPersistentEntity<?> entity) {
+
+		Set<Map<String, Object>> lookups = new LinkedHashSet<>();
+
+		for (Object id : ids) {
+
+			Assert.notNull(id, "Id must not be null");
+
+			lookups.add(getColumnValues(id, entity));
+		}
+
+		return new ArrayList<>(lookups);
+	}
+
+	/**
+	 * Determine the order in which to issue {@code lookups}. Lookups are grouped by partition so that lookups of the same
+	 * partition are issued back to back. Partitions are ordered by their first lookup.
+	 *
+	 * @param lookups must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return the positions of {@code lookups} in the order to issue them.
+	 */
+	int[] getPartitionOrder(List<Map<String, Object>> lookups, CassandraPersistentEntity<?> entity) {
+
+		Map<Object, List<Integer>> partitions = new LinkedHashMap<>();
+
+		for (int position = 0; position < lookups.size(); position++) {
+
+			ByteBuffer routingKey = partitionKeyResolver.getRoutingKey(entity, lookups.get(position));
+
+			partitions.computeIfAbsent(routingKey != null ? routingKey : new Object(), key -> new ArrayList<>())
+					.add(position);
+		}
+
+		return partitions.values().stream().flatMap(List::stream).mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Resolve {@code id} to converted primary key column values keyed by their CQL column name.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return the column values in property order.
+	 */
+	Map<String, Object> getColumnValues(Object id, CassandraPersistentEntity<?> entity) {
+
+		Object idToUse = ClassUtils.isAssignableValue(entity.getType(), id) ? converter.getId(id, entity) : id;
+
+		if (idToUse instanceof MapIdentifiable) {
+			idToUse = ((MapIdentifiable) idToUse).getMapId();
+		}
+
+		Optional<CassandraPersistentProperty> idProperty = entity.getIdProperty();
+		Optional<CassandraPersistentProperty> compositePrimaryKey = idProperty
+				.filter(CassandraPersistentProperty::isCompositePrimaryKey);
+
+		CassandraPersistentEntity<?> keyEntity = compositePrimaryKey
+				.<CassandraPersistentEntity<?>> map(it -> converter.getMappingContext().getRequiredPersistentEntity(it))
+				.orElse(entity);
+
+		Map<String, Object> values = new LinkedHashMap<>();
+
+		if (idToUse instanceof MapId) {
+
+			MapId mapId = (MapId) idToUse;
+
+			mapId.keySet().forEach(name -> keyEntity.getPersistentProperty(name)
+					.orElseThrow(() -> new IllegalArgumentException(String.format(
+							"MapId contains references [%s] that is an unknown property of [%s]", name, keyEntity.getName()))));
+
+			keyEntity.getPersistentProperties().forEach(property -> {
+				if (mapId.containsKey(property.getName())) {
+					values.put(property.getColumnName().toCql(), convert(mapId.get(property.getName()), property));
+				}
+			});
+
+			return values;
+		}
+
+		if (compositePrimaryKey.isPresent()) {
+
+			Assert.isTrue(ClassUtils.isAssignableValue(compositePrimaryKey.get().getType(), idToUse),
+					String.format("Cannot use [%s] as composite Id for [%s]", id, entity.getName()));
+
+			converter.write(idToUse, values, keyEntity);
+
+			return values;
+		}
+
+		CassandraPersistentProperty property = idProperty.orElseThrow(() -> new IllegalArgumentException(
+				String.format("Entity class [%s] has no primary key", entity.getName())));
+
+		values.put(property.getColumnName().toCql(), convert(idToUse, property));
+
+		return values;
+	}
+
+	/**
+	 * Create a {@code SELECT} statement with inlined values for a lookup. The statement carries the routing key of the
+	 * partition if the lookup contains all partition key values.
+	 *
+	 * @param lookup must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link Select} statement.
+	 */
+	Select createSelect(Map<String, Object> lookup, CassandraPersistentEntity<?> entity) {
+
+		Select select = QueryBuilder.select().all().from(entity.getTableName().toCql());
+
+		lookup.forEach((column, value) -> select.where(QueryBuilder.eq(column, value)));
+
+		return PartitionKeyResolver.addRoutingKey(select, partitionKeyResolver.getRoutingKey(entity, lookup));
+	}
+
+	private Object convert(Object value, CassandraPersistentProperty property) {
+		return converter.convertToColumnType(Optional.ofNullable(value), property.getTypeInformation()).orElse(null);
+	}
+}
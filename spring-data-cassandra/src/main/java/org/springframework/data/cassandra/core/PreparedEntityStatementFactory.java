@@ -0,0 +1,388 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cql.core.QueryOptions;
+import org.springframework.data.cql.core.QueryOptionsUtil;
+import org.springframework.data.cql.core.WriteOptions;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.querybuilder.Delete;
+import com.datastax.driver.core.querybuilder.Insert;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Select;
+import com.datastax.driver.core.querybuilder.Update;
+
+/**
+ * Factory for parameterized {@code INSERT}, {@code UPDATE} and {@code DELETE} statements derived from a
+ * {@link CassandraPersistentEntity}. Statements are rendered once per entity and option shape (presence of a TTL and
+ * lightweight transaction usage) and cached. Parameterized {@code SELECT} statements for id lookups are cached per
+ * entity and restricted columns. Entities are bound to the {@link PreparedStatement} that was prepared from the cached
+ * statement through {@link CassandraConverter#write(Object, Object, CassandraPersistentEntity)}.
+ * <p>
+ * Only intended for internal use.
+ *
+ * @since 2.0
+ * @see CassandraTemplate#setUsePreparedStatements(boolean)
+ * @see org.springframework.data.cassandra.repository.support.SimpleCassandraRepository#setUsePreparedStatements(boolean)
+ */
+public class PreparedEntityStatementFactory {
+
+	private final CassandraConverter converter;
+
+	private final Map<StatementKey, PreparedEntityStatement> statements = new ConcurrentHashMap<>();
+
+	private final Map<SelectKey, PreparedEntityStatement> selects = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link PreparedEntityStatementFactory} given {@link CassandraConverter}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 */
+	public PreparedEntityStatementFactory(CassandraConverter converter) {
+
+		Assert.notNull(converter, "CassandraConverter must not be null");
+
+		this.converter = converter;
+	}
+
+	/**
+	 * Obtain the parameterized {@code INSERT} statement for the given {@link CassandraPersistentEntity} and
+	 * {@link WriteOptions}. {@literal null} values are left unset when binding the statement.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return the {@link PreparedEntityStatement}.
+	 */
+	public PreparedEntityStatement insert(CassandraPersistentEntity<?> entity, WriteOptions options) {
+
+		boolean ttl = options != null && options.getTtl() != null;
+		boolean ifNotExists = options instanceof InsertOptions && ((InsertOptions) options).isIfNotExists();
+
+		return statements.computeIfAbsent(new StatementKey(entity.getType(), StatementType.INSERT, ttl, ifNotExists),
+				key -> createInsert(entity, ttl, ifNotExists, true));
+	}
+
+	/**
+	 * Obtain the parameterized {@code INSERT} statement covering all columns of the given
+	 * {@link CassandraPersistentEntity}. {@literal null} values are bound as {@literal null} so that the insert replaces
+	 * all columns of an existing row.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link PreparedEntityStatement}.
+	 */
+	public PreparedEntityStatement fullInsert(CassandraPersistentEntity<?> entity) {
+
+		return statements.computeIfAbsent(new StatementKey(entity.getType(), StatementType.FULL_INSERT, false, false),
+				key -> createInsert(entity, false, false, false));
+	}
+
+	private PreparedEntityStatement createInsert(CassandraPersistentEntity<?> entity, boolean ttl,
+			boolean ifNotExists, boolean skipNullValues) {
+
+		List<String> columns = getColumnNames(entity, ColumnFilter.ALL);
+		Insert insert = QueryBuilder.insertInto(entity.getTableName().toCql());
+
+		columns.forEach(column -> insert.value(column, QueryBuilder.bindMarker()));
+
+		if (ifNotExists) {
+			insert.ifNotExists();
+		}
+
+		if (ttl) {
+			insert.using(QueryBuilder.ttl(QueryBuilder.bindMarker()));
+		}
+
+		// INSERT INTO ... VALUES (...) [IF NOT EXISTS] [USING TTL ?]
+		return new PreparedEntityStatement(entity, insert, columns, ttl ? columns.size() : -1, skipNullValues);
+	}
+
+	/**
+	 * Obtain the parameterized {@code UPDATE} statement for the given {@link CassandraPersistentEntity} and
+	 * {@link WriteOptions}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return the {@link PreparedEntityStatement}.
+	 */
+	public PreparedEntityStatement update(CassandraPersistentEntity<?> entity, WriteOptions options) {
+
+		boolean ttl = options != null && options.getTtl() != null;
+		boolean ifExists = options instanceof UpdateOptions && ((UpdateOptions) options).isIfExists();
+
+		return statements.computeIfAbsent(new StatementKey(entity.getType(), StatementType.UPDATE, ttl, ifExists),
+				key -> {
+
+					List<String> assignments = getColumnNames(entity, ColumnFilter.NON_KEY);
+					List<String> keyColumns = getColumnNames(entity, ColumnFilter.KEY);
+
+					Update update = QueryBuilder.update(entity.getTableName().toCql());
+
+					if (ttl) {
+						update.using(QueryBuilder.ttl(QueryBuilder.bindMarker()));
+					}
+
+					assignments.forEach(column -> update.with(QueryBuilder.set(column, QueryBuilder.bindMarker())));
+					keyColumns.forEach(column -> update.where(QueryBuilder.eq(column, QueryBuilder.bindMarker())));
+
+					if (ifExists) {
+						update.where().ifExists();
+					}
+
+					List<String> columns = new ArrayList<>(assignments.size() + keyColumns.size());
+					columns.addAll(assignments);
+					columns.addAll(keyColumns);
+
+					// UPDATE ... [USING TTL ?] SET ... WHERE ... [IF EXISTS]
+					return new PreparedEntityStatement(entity, update, columns, ttl ? 0 : -1, false);
+				});
+	}
+
+	/**
+	 * Obtain the parameterized {@code DELETE} statement for the given {@link CassandraPersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link PreparedEntityStatement}.
+	 */
+	public PreparedEntityStatement delete(CassandraPersistentEntity<?> entity) {
+
+		return statements.computeIfAbsent(new StatementKey(entity.getType(), StatementType.DELETE, false, false), key -> {
+
+			List<String> keyColumns = getColumnNames(entity, ColumnFilter.KEY);
+			Delete delete = QueryBuilder.delete().from(entity.getTableName().toCql());
+
+			keyColumns.forEach(column -> delete.where(QueryBuilder.eq(column, QueryBuilder.bindMarker())));
+
+			return new PreparedEntityStatement(entity, delete, keyColumns, -1, false);
+		});
+	}
+
+	/**
+	 * Obtain the parameterized {@code SELECT} statement for the given {@link CassandraPersistentEntity} restricting
+	 * {@code columns} by equality.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param columns CQL names of the restricted columns, must not be {@literal null} or empty.
+	 * @return the {@link PreparedEntityStatement}.
+	 */
+	public PreparedEntityStatement selectById(CassandraPersistentEntity<?> entity, List<String> columns) {
+
+		return selects.computeIfAbsent(new SelectKey(entity.getType(), columns), key -> {
+
+			Select select = QueryBuilder.select().all().from(entity.getTableName().toCql());
+
+			columns.forEach(column -> select.where(QueryBuilder.eq(column, QueryBuilder.bindMarker())));
+
+			return new PreparedEntityStatement(entity, select, new ArrayList<>(columns), -1, false);
+		});
+	}
+
+	private List<String> getColumnNames(CassandraPersistentEntity<?> entity, ColumnFilter filter) {
+
+		List<String> columns = new ArrayList<>();
+
+		entity.getPersistentProperties().forEach(property -> {
+
+			if (property.isCompositePrimaryKey()) {
+
+				if (filter != ColumnFilter.NON_KEY) {
+					columns.addAll(getColumnNames(converter.getMappingContext().getRequiredPersistentEntity(property),
+							ColumnFilter.ALL));
+				}
+
+				return;
+			}
+
+			if (filter.matches(property)) {
+				columns.add(property.getColumnName().toCql());
+			}
+		});
+
+		return columns;
+	}
+
+	enum StatementType {
+		INSERT, FULL_INSERT, UPDATE, DELETE
+	}
+
+	enum ColumnFilter {
+
+		ALL {
+			@Override
+			boolean matches(CassandraPersistentProperty property) {
+				return true;
+			}
+		},
+
+		KEY {
+			@Override
+			boolean matches(CassandraPersistentProperty property) {
+				return property.isPrimaryKeyColumn() || property.isIdProperty();
+			}
+		},
+
+		NON_KEY {
+			@Override
+			boolean matches(CassandraPersistentProperty property) {
+				return !KEY.matches(property);
+			}
+		};
+
+		abstract boolean matches(CassandraPersistentProperty property);
+	}
+
+	/**
+	 * Cache key for a statement shape.
+	 */
+	@EqualsAndHashCode
+	@RequiredArgsConstructor
+	static class StatementKey {
+
+		final Class<?> type;
+		final StatementType statementType;
+		final boolean ttl;
+		final boolean lightweightTransaction;
+	}
+
+	/**
+	 * Cache key for an id lookup shape.
+	 */
+	@EqualsAndHashCode
+	@RequiredArgsConstructor
+	static class SelectKey {
+
+		final Class<?> type;
+		final List<String> columns;
+	}
+
+	/**
+	 * Parameterized statement along with the column names in bind marker order.
+	 */
+	public class PreparedEntityStatement {
+
+		private final CassandraPersistentEntity<?> entity;
+
+		private final RegularStatement statement;
+
+		private final List<String> columns;
+
+		private final int ttlIndex;
+
+		private final boolean skipNullValues;
+
+		PreparedEntityStatement(CassandraPersistentEntity<?> entity, RegularStatement statement, List<String> columns,
+				int ttlIndex, boolean skipNullValues) {
+
+			this.entity = entity;
+			this.statement = statement;
+			this.columns = Collections.unmodifiableList(columns);
+			this.ttlIndex = ttlIndex;
+			this.skipNullValues = skipNullValues;
+		}
+
+		/**
+		 * @return the parameterized {@link RegularStatement} to prepare.
+		 */
+		public RegularStatement getStatement() {
+			return this.statement;
+		}
+
+		/**
+		 * @return the column names in bind marker order.
+		 */
+		public List<String> getColumns() {
+			return this.columns;
+		}
+
+		/**
+		 * Bind the entity to {@link PreparedStatement} through the {@link CassandraConverter}. {@literal null} values are
+		 * left unset for {@code INSERT} statements to not create tombstones (requires protocol version 4 or higher) and
+		 * bound as {@literal null} otherwise.
+		 *
+		 * @param preparedStatement must not be {@literal null}.
+		 * @param source the entity to bind, must not be {@literal null}.
+		 * @param options may be {@literal null}.
+		 * @return the {@link BoundStatement}.
+		 */
+		public BoundStatement bind(PreparedStatement preparedStatement, Object source, QueryOptions options) {
+
+			BoundStatement boundStatement = preparedStatement.bind();
+
+			converter.write(source, boundStatement, this.entity);
+
+			if (this.ttlIndex != -1) {
+				boundStatement.setInt(this.ttlIndex, ((WriteOptions) options).getTtl());
+			}
+
+			if (this.skipNullValues) {
+
+				int variables = preparedStatement.getVariables().size();
+
+				for (int index = 0; index < variables; index++) {
+					if (boundStatement.isNull(index)) {
+						boundStatement.unset(index);
+					}
+				}
+			}
+
+			return QueryOptionsUtil.addQueryOptions(boundStatement, options);
+		}
+
+		/**
+		 * Bind converted id values of a {@code SELECT} lookup to {@link PreparedStatement}.
+		 *
+		 * @param preparedStatement must not be {@literal null}.
+		 * @param values converted column values keyed by their CQL column name, must not be {@literal null}.
+		 * @return the {@link BoundStatement}.
+		 */
+		public BoundStatement bindLookup(PreparedStatement preparedStatement, Map<String, Object> values) {
+
+			BoundStatement boundStatement = preparedStatement.bind();
+			ColumnDefinitions variables = preparedStatement.getVariables();
+			CodecRegistry codecRegistry = preparedStatement.getCodecRegistry();
+
+			for (int index = 0; index < this.columns.size(); index++) {
+
+				Object value = values.get(this.columns.get(index));
+
+				if (value == null) {
+					boundStatement.setToNull(index);
+				} else {
+					boundStatement.set(index, value, codecRegistry.codecFor(variables.getType(index), value));
+				}
+			}
+
+			return boundStatement;
+		}
+	}
+}
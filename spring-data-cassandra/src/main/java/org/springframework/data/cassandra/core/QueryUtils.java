@@ -15,12 +15,34 @@
  */
 package org.springframework.data.cassandra.core;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.convert.PartitionKeyResolver;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.query.CassandraPageRequest;
 import org.springframework.data.convert.EntityWriter;
 import org.springframework.data.cql.core.QueryOptions;
 import org.springframework.data.cql.core.QueryOptionsUtil;
+import org.springframework.data.cql.core.RowMapper;
 import org.springframework.data.cql.core.WriteOptions;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.util.Assert;
 
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.querybuilder.BuiltStatement;
 import com.datastax.driver.core.querybuilder.Delete;
 import com.datastax.driver.core.querybuilder.Delete.Where;
 import com.datastax.driver.core.querybuilder.Insert;
@@ -44,10 +66,31 @@ class QueryUtils {
 	 * @param objectToUpdate the object to save, must not be {@literal null}.
 	 * @param options optional {@link WriteOptions} to apply to the {@link Insert} statement, may be {@literal null}.
 	 * @param entityWriter the {@link EntityWriter} to write insert values.
+	 * @param partitionKeyResolver the {@link PartitionKeyResolver} to compute the routing key.
 	 * @return The Query object to run with session.execute();
 	 */
 	public static Insert createInsertQuery(String tableName, Object objectToUpdate, WriteOptions options,
-			EntityWriter<Object, Object> entityWriter) {
+			EntityWriter<Object, Object> entityWriter, PartitionKeyResolver partitionKeyResolver) {
+
+		Assert.notNull(partitionKeyResolver, "PartitionKeyResolver must not be null");
+
+		return createInsertQuery(tableName, objectToUpdate, options, entityWriter,
+				partitionKeyResolver.getRoutingKey(objectToUpdate));
+	}
+
+	/**
+	 * Creates a Query Object for an insert using a previously computed routing key.
+	 *
+	 * @param tableName the table name, must not be empty and not {@literal null}.
+	 * @param objectToUpdate the object to save, must not be {@literal null}.
+	 * @param options optional {@link WriteOptions} to apply to the {@link Insert} statement, may be {@literal null}.
+	 * @param entityWriter the {@link EntityWriter} to write insert values.
+	 * @param routingKey the routing key, may be {@literal null}.
+	 * @return The Query object to run with session.execute();
+	 * @see PartitionKeyResolver#getRoutingKey(Object)
+	 */
+	static Insert createInsertQuery(String tableName, Object objectToUpdate, WriteOptions options,
+			EntityWriter<Object, Object> entityWriter, ByteBuffer routingKey) {
 
 		Assert.hasText(tableName, "TableName must not be empty");
 		Assert.notNull(objectToUpdate, "Object to insert must not be null");
@@ -66,7 +109,7 @@ class QueryUtils {
 
 		entityWriter.write(objectToUpdate, insert);
 
-		return insert;
+		return PartitionKeyResolver.addRoutingKey(insert, routingKey);
 	}
 
 	/**
@@ -77,10 +120,31 @@ class QueryUtils {
 	 * @param objectToUpdate the object to update, must not be {@literal null}.
 	 * @param options optional {@link WriteOptions} to apply to the {@link Update} statement, may be {@literal null}.
 	 * @param entityWriter the {@link EntityWriter} to write update assignments and where clauses.
+	 * @param partitionKeyResolver the {@link PartitionKeyResolver} to compute the routing key.
 	 * @return The Query object to run with session.execute();
 	 */
 	public static Update createUpdateQuery(String tableName, Object objectToUpdate, WriteOptions options,
-			EntityWriter<Object, Object> entityWriter) {
+			EntityWriter<Object, Object> entityWriter, PartitionKeyResolver partitionKeyResolver) {
+
+		Assert.notNull(partitionKeyResolver, "PartitionKeyResolver must not be null");
+
+		return createUpdateQuery(tableName, objectToUpdate, options, entityWriter,
+				partitionKeyResolver.getRoutingKey(objectToUpdate));
+	}
+
+	/**
+	 * Creates a Query Object for an Update using a previously computed routing key.
+	 *
+	 * @param tableName the table name, must not be empty and not {@literal null}.
+	 * @param objectToUpdate the object to update, must not be {@literal null}.
+	 * @param options optional {@link WriteOptions} to apply to the {@link Update} statement, may be {@literal null}.
+	 * @param entityWriter the {@link EntityWriter} to write update assignments and where clauses.
+	 * @param routingKey the routing key, may be {@literal null}.
+	 * @return The Query object to run with session.execute();
+	 * @see PartitionKeyResolver#getRoutingKey(Object)
+	 */
+	static Update createUpdateQuery(String tableName, Object objectToUpdate, WriteOptions options,
+			EntityWriter<Object, Object> entityWriter, ByteBuffer routingKey) {
 
 		Assert.hasText(tableName, "TableName must not be empty");
 		Assert.notNull(objectToUpdate, "Object to update must not be null");
@@ -99,7 +163,7 @@ class QueryUtils {
 
 		entityWriter.write(objectToUpdate, update);
 
-		return update;
+		return PartitionKeyResolver.addRoutingKey(update, routingKey);
 	}
 
 	/**
@@ -110,10 +174,31 @@ class QueryUtils {
 	 * @param objectToDelete the object to delete, must not be {@literal null}.
 	 * @param options optional {@link QueryOptions} to apply to the {@link Delete} statement, may be {@literal null}.
 	 * @param entityWriter the {@link EntityWriter} to write delete where clauses.
+	 * @param partitionKeyResolver the {@link PartitionKeyResolver} to compute the routing key.
 	 * @return The Query object to run with session.execute();
 	 */
 	public static Delete createDeleteQuery(String tableName, Object objectToDelete, QueryOptions options,
-			EntityWriter<Object, Object> entityWriter) {
+			EntityWriter<Object, Object> entityWriter, PartitionKeyResolver partitionKeyResolver) {
+
+		Assert.notNull(partitionKeyResolver, "PartitionKeyResolver must not be null");
+
+		return createDeleteQuery(tableName, objectToDelete, options, entityWriter,
+				partitionKeyResolver.getRoutingKey(objectToDelete));
+	}
+
+	/**
+	 * Creates a Delete Query Object from an annotated POJO using a previously computed routing key.
+	 *
+	 * @param tableName the table name, must not be empty and not {@literal null}.
+	 * @param objectToDelete the object to delete, must not be {@literal null}.
+	 * @param options optional {@link QueryOptions} to apply to the {@link Delete} statement, may be {@literal null}.
+	 * @param entityWriter the {@link EntityWriter} to write delete where clauses.
+	 * @param routingKey the routing key, may be {@literal null}.
+	 * @return The Query object to run with session.execute();
+	 * @see PartitionKeyResolver#getRoutingKey(Object)
+	 */
+	static Delete createDeleteQuery(String tableName, Object objectToDelete, QueryOptions options,
+			EntityWriter<Object, Object> entityWriter, ByteBuffer routingKey) {
 
 		Assert.hasText(tableName, "TableName must not be empty");
 		Assert.notNull(objectToDelete, "Object to delete must not be null");
@@ -125,6 +210,136 @@ class QueryUtils {
 
 		entityWriter.write(objectToDelete, where);
 
-		return delete;
+		return PartitionKeyResolver.addRoutingKey(delete, routingKey);
+	}
+
+	/**
+	 * Set the routing key of {@code entity} on the {@link BuiltStatement} to enable token-aware routing of statements
+	 * with inlined values. The routing key is not set if a partition key value is {@literal null}.
+	 *
+	 * @param statement the statement to route, must not be {@literal null}.
+	 * @param entity the entity providing the partition key values, must not be {@literal null}.
+	 * @param partitionKeyResolver the {@link PartitionKeyResolver} to compute the routing key.
+	 * @return the {@code statement}.
+	 */
+	static <T extends BuiltStatement> T addRoutingKey(T statement, Object entity,
+			PartitionKeyResolver partitionKeyResolver) {
+
+		Assert.notNull(partitionKeyResolver, "PartitionKeyResolver must not be null");
+
+		return PartitionKeyResolver.addRoutingKey(statement, partitionKeyResolver.getRoutingKey(entity));
+	}
+
+	/**
+	 * Set the routing key of the entity identified by {@code id} on the {@link BuiltStatement}. The routing key is not
+	 * set if {@code id} does not contain all partition key values.
+	 *
+	 * @param statement the statement to route, must not be {@literal null}.
+	 * @param id the id value, must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param partitionKeyResolver the {@link PartitionKeyResolver} to compute the routing key.
+	 * @return the {@code statement}.
+	 * @see PartitionKeyResolver#getRoutingKeyForId(Object, CassandraPersistentEntity)
+	 */
+	static <T extends BuiltStatement> T addRoutingKeyForId(T statement, Object id, CassandraPersistentEntity<?> entity,
+			PartitionKeyResolver partitionKeyResolver) {
+
+		Assert.notNull(partitionKeyResolver, "PartitionKeyResolver must not be null");
+
+		return PartitionKeyResolver.addRoutingKey(statement, partitionKeyResolver.getRoutingKeyForId(id, entity));
+	}
+
+	/**
+	 * Returns the {@link ProtocolVersion} negotiated by the {@link Cluster}.
+	 *
+	 * @param cluster must not be {@literal null}.
+	 * @return the negotiated {@link ProtocolVersion} or {@literal null} if the {@link Cluster} is not initialized.
+	 */
+	static ProtocolVersion getProtocolVersion(Cluster cluster) {
+		return cluster.getConfiguration().getProtocolOptions().getProtocolVersion();
+	}
+
+	/**
+	 * Configure the {@link CodecRegistry} of the {@link Cluster} on a {@link MappingCassandraConverter} that still uses
+	 * {@link CodecRegistry#DEFAULT_INSTANCE} so that codecs registered with the {@link Cluster} are considered when
+	 * converting values. Converters with an explicitly configured {@link CodecRegistry} remain unchanged.
+	 *
+	 * @param converter must not be {@literal null}.
+	 * @param cluster may be {@literal null}.
+	 * @return the {@code converter}.
+	 */
+	static <T extends CassandraConverter> T useCodecRegistry(T converter, Cluster cluster) {
+
+		if (cluster != null && converter instanceof MappingCassandraConverter) {
+
+			MappingCassandraConverter mappingCassandraConverter = (MappingCassandraConverter) converter;
+
+			if (mappingCassandraConverter.getCodecRegistry() == CodecRegistry.DEFAULT_INSTANCE) {
+				mappingCassandraConverter.setCodecRegistry(cluster.getConfiguration().getCodecRegistry());
+			}
+		}
+
+		return converter;
+	}
+
+	/**
+	 * Await the {@link ResultSet} of an asynchronously executed query. The cause of a failed query is rethrown.
+	 *
+	 * @param future must not be {@literal null}.
+	 * @return the {@link ResultSet}.
+	 */
+	static ResultSet getResult(Future<ResultSet> future) {
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for query result", e);
+		} catch (ExecutionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Read a {@link Slice} from the rows of the current page of the {@link ResultSet}. Reads only rows that are available
+	 * without fetching and exposes the {@link PagingState} of the next page through a {@link CassandraPageRequest}.
+	 *
+	 * @param resultSet must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @param statement the executed {@link Statement} to determine the page size, must not be {@literal null}.
+	 * @return the {@link Slice}.
+	 */
+	static <T> Slice<T> readSlice(ResultSet resultSet, RowMapper<T> mapper, Statement statement) {
+
+		int toRead = resultSet.getAvailableWithoutFetching();
+		List<T> content = new ArrayList<>(toRead);
+
+		for (int index = 0; index < toRead; index++) {
+			content.add(mapper.mapRow(resultSet.one(), index));
+		}
+
+		return createSlice(content, resultSet.getExecutionInfo().getPagingState(), statement);
+	}
+
+	/**
+	 * Create a {@link Slice} for the given {@code content} and the {@link PagingState} of the next page.
+	 *
+	 * @param content must not be {@literal null}.
+	 * @param nextPage the {@link PagingState} of the next page, may be {@literal null} if there are no more pages.
+	 * @param statement the executed {@link Statement} to determine the page size, must not be {@literal null}.
+	 * @return the {@link Slice}.
+	 */
+	static <T> Slice<T> createSlice(List<T> content, PagingState nextPage, Statement statement) {
+
+		int pageSize = statement.getFetchSize() > 0 ? statement.getFetchSize()
+				: Math.max(content.size(), com.datastax.driver.core.QueryOptions.DEFAULT_FETCH_SIZE);
+
+		return new SliceImpl<>(content, CassandraPageRequest.of(new PageRequest(0, pageSize), nextPage), nextPage != null);
 	}
 }
@@ -23,9 +23,11 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.query.Query;
 import org.springframework.data.cassandra.core.query.Update;
+import org.springframework.data.cql.core.ConcurrencyLimit;
 import org.springframework.data.cql.core.QueryOptions;
 import org.springframework.data.cql.core.ReactiveCqlOperations;
 import org.springframework.data.cql.core.WriteOptions;
+import org.springframework.data.domain.Slice;
 
 import com.datastax.driver.core.Statement;
 
@@ -83,6 +85,21 @@ public interface ReactiveCassandraOperations {
 	 */
 	<T> Flux<T> select(Statement statement, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Execute a {@code SELECT} query with paging and convert the resulting items of the current page to a {@link Slice}
+	 * of entities. Reads only the rows of the page fetched with the {@link Statement#getFetchSize() fetch size} and
+	 * exposes the {@link com.datastax.driver.core.PagingState} of the next page through
+	 * {@link Slice#getPageable()}, which is a {@link org.springframework.data.cassandra.core.query.CassandraPageRequest}.
+	 *
+	 * @param statement the CQL statement, must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the converted results
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 2.0
+	 * @see org.springframework.data.cassandra.core.query.CassandraPageRequest
+	 */
+	<T> Mono<Slice<T>> slice(Statement statement, Class<T> entityClass) throws DataAccessException;
+
 	/**
 	 * Execute a {@code SELECT} query and convert the resulting item to an entity.
 	 *
@@ -107,6 +124,20 @@ public interface ReactiveCassandraOperations {
 	 */
 	<T> Flux<T> select(Query query, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Scan all rows of the table of {@code entityClass} by splitting the token ring into token ranges and querying up to
+	 * {@link ScanOptions#getParallelism()} ranges concurrently. Rows of different ranges are emitted interleaved. Range
+	 * queries carry no routing key and are not routed to a replica of the range.
+	 *
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the converted entities of the table.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 2.0
+	 * @see ScanOptions
+	 */
+	<T> Flux<T> scanAll(Class<T> entityClass, ScanOptions options) throws DataAccessException;
+
 	/**
 	 * Execute a {@code SELECT} query and convert the resulting item to an entity.
 	 *
@@ -208,6 +239,19 @@ public interface ReactiveCassandraOperations {
 	 */
 	<T> Flux<T> insert(Publisher<? extends T> entities, InsertOptions options) throws DataAccessException;
 
+	/**
+	 * Insert the given entities applying {@link WriteOptions} and emit the entity if the insert was applied. Limits the
+	 * number of concurrently executed {@code INSERT} operations to the given {@link ConcurrencyLimit}.
+	 *
+	 * @param entities The entities to insert, must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @param concurrencyLimit must not be {@literal null}.
+	 * @return the inserted entities. Does not emit items for which the {@code INSERT} operation was not applied.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 */
+	<T> Flux<T> insert(Publisher<? extends T> entities, InsertOptions options, ConcurrencyLimit concurrencyLimit)
+			throws DataAccessException;
+
 	/**
 	 * Update the given entity and emit the entity if the update was applied.
 	 *
@@ -246,6 +290,19 @@ public interface ReactiveCassandraOperations {
 	 */
 	<T> Flux<T> update(Publisher<? extends T> entities, UpdateOptions options) throws DataAccessException;
 
+	/**
+	 * Update the given entities applying {@link WriteOptions} and emit the entity if the update was applied. Limits the
+	 * number of concurrently executed {@code UPDATE} operations to the given {@link ConcurrencyLimit}.
+	 *
+	 * @param entities The entities to update, must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @param concurrencyLimit must not be {@literal null}.
+	 * @return the updated entities. Does not emit items for which the {@code UPDATE} operation was not applied.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 */
+	<T> Flux<T> update(Publisher<? extends T> entities, UpdateOptions options, ConcurrencyLimit concurrencyLimit)
+			throws DataAccessException;
+
 	/**
 	 * Remove the given object from the table by id.
 	 *
@@ -294,6 +351,19 @@ public interface ReactiveCassandraOperations {
 	 */
 	<T> Flux<T> delete(Publisher<? extends T> entities, QueryOptions options) throws DataAccessException;
 
+	/**
+	 * Delete the given entities applying {@link QueryOptions} and emit the entity if the delete was applied. Limits the
+	 * number of concurrently executed {@code DELETE} operations to the given {@link ConcurrencyLimit}.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @param concurrencyLimit must not be {@literal null}.
+	 * @return the deleted entities.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 */
+	<T> Flux<T> delete(Publisher<? extends T> entities, QueryOptions options, ConcurrencyLimit concurrencyLimit)
+			throws DataAccessException;
+
 	/**
 	 * Execute a {@code TRUNCATE} query to remove all entities of a given class.
 	 *
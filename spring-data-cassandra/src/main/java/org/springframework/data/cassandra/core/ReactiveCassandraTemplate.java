@@ -22,12 +22,14 @@ import org.reactivestreams.Publisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.convert.PartitionKeyResolver;
 import org.springframework.data.cassandra.core.convert.QueryMapper;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.data.cql.core.ConcurrencyLimit;
 import org.springframework.data.cql.core.CqlIdentifier;
 import org.springframework.data.cql.core.CqlProvider;
 import org.springframework.data.cql.core.QueryOptions;
@@ -38,13 +40,17 @@ import org.springframework.data.cql.core.session.DefaultReactiveSessionFactory;
 import org.springframework.data.cql.core.session.ReactiveResultSet;
 import org.springframework.data.cql.core.session.ReactiveSession;
 import org.springframework.data.cql.core.session.ReactiveSessionFactory;
+import org.springframework.data.cql.support.ReactiveCassandraAccessor;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
+import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TokenRange;
 import com.datastax.driver.core.exceptions.DriverException;
 import com.datastax.driver.core.querybuilder.Delete;
 import com.datastax.driver.core.querybuilder.Insert;
@@ -79,6 +85,10 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 
 	private final StatementFactory statementFactory;
 
+	private final PartitionKeyResolver partitionKeyResolver;
+
+	private ConcurrencyLimit concurrencyLimit = ConcurrencyLimit.create();
+
 	/**
 	 * Creates an instance of {@link ReactiveCassandraTemplate} initialized with the given {@link ReactiveSession} and a
 	 * default {@link MappingCassandraConverter}.
@@ -120,10 +130,12 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 		Assert.notNull(sessionFactory, "ReactiveSessionFactory must not be null");
 		Assert.notNull(converter, "CassandraConverter must not be null");
 
-		this.converter = converter;
+		this.converter = QueryUtils.useCodecRegistry(converter, getCluster(sessionFactory));
 		this.cqlOperations = new ReactiveCqlTemplate(sessionFactory);
 		this.mappingContext = this.converter.getMappingContext();
-		this.statementFactory = new StatementFactory(new QueryMapper(converter), new UpdateMapper(converter));
+		this.partitionKeyResolver = createPartitionKeyResolver(converter, this.cqlOperations);
+		this.statementFactory = new StatementFactory(new QueryMapper(converter), new UpdateMapper(converter),
+				partitionKeyResolver);
 	}
 
 	/**
@@ -142,10 +154,32 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 		Assert.notNull(reactiveCqlOperations, "ReactiveCqlOperations must not be null");
 		Assert.notNull(converter, "CassandraConverter must not be null");
 
-		this.converter = converter;
+		this.converter = QueryUtils.useCodecRegistry(converter,
+				reactiveCqlOperations instanceof ReactiveCassandraAccessor
+						? getCluster(((ReactiveCassandraAccessor) reactiveCqlOperations).getSessionFactory()) : null);
 		this.cqlOperations = reactiveCqlOperations;
 		this.mappingContext = this.converter.getMappingContext();
-		this.statementFactory = new StatementFactory(new QueryMapper(converter), new UpdateMapper(converter));
+		this.partitionKeyResolver = createPartitionKeyResolver(converter, reactiveCqlOperations);
+		this.statementFactory = new StatementFactory(new QueryMapper(converter), new UpdateMapper(converter),
+				partitionKeyResolver);
+	}
+
+	/**
+	 * Create a {@link PartitionKeyResolver} obtaining the negotiated protocol version from the session of
+	 * {@link ReactiveCqlOperations}. Falls back to the newest supported protocol version if the session is not accessible.
+	 */
+	private static PartitionKeyResolver createPartitionKeyResolver(CassandraConverter converter,
+			ReactiveCqlOperations cqlOperations) {
+
+		if (cqlOperations instanceof ReactiveCassandraAccessor) {
+
+			ReactiveCassandraAccessor accessor = (ReactiveCassandraAccessor) cqlOperations;
+
+			return new PartitionKeyResolver(converter,
+					() -> QueryUtils.getProtocolVersion(accessor.getSessionFactory().getSession().getCluster()));
+		}
+
+		return new PartitionKeyResolver(converter);
 	}
 
 	/*
@@ -157,6 +191,14 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 		return this.converter;
 	}
 
+	/* (non-Javadoc) */
+	private static Cluster getCluster(ReactiveSessionFactory sessionFactory) {
+
+		ReactiveSession session = sessionFactory != null ? sessionFactory.getSession() : null;
+
+		return session != null ? session.getCluster() : null;
+	}
+
 	/* (non-Javadoc) */
 	private static MappingCassandraConverter newConverter() {
 
@@ -197,6 +239,26 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 		return this.statementFactory;
 	}
 
+	/**
+	 * Set the {@link ConcurrencyLimit} applied to bulk {@code INSERT}, {@code UPDATE} and {@code DELETE} operations
+	 * accepting a {@link Publisher} of entities. Defaults to {@link ConcurrencyLimit#create()}.
+	 *
+	 * @param concurrencyLimit must not be {@literal null}.
+	 */
+	public void setConcurrencyLimit(ConcurrencyLimit concurrencyLimit) {
+
+		Assert.notNull(concurrencyLimit, "ConcurrencyLimit must not be null");
+
+		this.concurrencyLimit = concurrencyLimit;
+	}
+
+	/**
+	 * @return the {@link ConcurrencyLimit} applied to bulk operations.
+	 */
+	public ConcurrencyLimit getConcurrencyLimit() {
+		return this.concurrencyLimit;
+	}
+
 	/* (non-Javadoc) */
 	private CqlIdentifier getTableName(Object entity) {
 		return getMappingContext().getRequiredPersistentEntity(ClassUtils.getUserClass(entity)).getTableName();
@@ -244,6 +306,22 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 		return getReactiveCqlOperations().query(cql, (row, rowNum) -> getConverter().read(entityClass, row));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#slice(com.datastax.driver.core.Statement, java.lang.Class)
+	 */
+	@Override
+	public <T> Mono<Slice<T>> slice(Statement statement, Class<T> entityClass) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+
+		return getReactiveCqlOperations().queryForResultSet(statement)
+				.flatMap(resultSet -> resultSet.availableRows().map(row -> getConverter().read(entityClass, row)).collectList()
+						.map(content -> QueryUtils.createSlice(content, resultSet.getExecutionInfo().getPagingState(),
+								statement)));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#selectOne(com.datastax.driver.core.Statement, java.lang.Class)
@@ -270,6 +348,37 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 				entityClass);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#scanAll(java.lang.Class, org.springframework.data.cassandra.core.ScanOptions)
+	 */
+	@Override
+	public <T> Flux<T> scanAll(Class<T> entityClass, ScanOptions options) throws DataAccessException {
+
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "ScanOptions must not be null");
+
+		CassandraPersistentEntity<?> entity = getMappingContext()
+				.getRequiredPersistentEntity(ClassUtils.getUserClass(entityClass));
+		TokenRangeScan scan = new TokenRangeScan(entity, partitionKeyResolver.getPartitionKeyColumns(entity), options);
+
+		ReactiveSessionCallback<TokenRange> tokenRanges = session -> Flux
+				.fromIterable(session.getCluster().getMetadata().getTokenRanges());
+
+		// Each range is followed by a completion marker so that the range is reported once its rows were emitted.
+		return getReactiveCqlOperations().execute(tokenRanges).collectList()
+				.flatMapMany(ring -> Flux.fromIterable(scan.getRanges(ring)))
+				.flatMap(range -> Flux.<Object> concat(select(scan.createStatement(range), entityClass),
+						Mono.just(new RangeCompletion(range))), options.getParallelism())
+				.<T> handle((element, sink) -> {
+
+					if (element instanceof RangeCompletion) {
+						scan.rangeCompleted(((RangeCompletion) element).range);
+					} else {
+						sink.next(entityClass.cast(element));
+					}
+				});
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#selectOne(org.springframework.data.cassandra.core.query.Query, java.lang.Class)
 	 */
@@ -330,6 +439,7 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 		Select select = QueryBuilder.select().all().from(entity.getTableName().toCql());
 
 		getConverter().write(id, select.where(), entity);
+		QueryUtils.addRoutingKeyForId(select, id, entity, partitionKeyResolver);
 
 		return selectOne(select, entityClass);
 	}
@@ -349,6 +459,7 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 		Select select = QueryBuilder.select().from(entity.getTableName().toCql());
 
 		getConverter().write(id, select.where(), entity);
+		QueryUtils.addRoutingKeyForId(select, id, entity, partitionKeyResolver);
 
 		return getReactiveCqlOperations().queryForRows(select).hasElements();
 	}
@@ -386,7 +497,8 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		Insert insert = QueryUtils.createInsertQuery(getTableName(entity).toCql(), entity, options, getConverter());
+		Insert insert = QueryUtils.createInsertQuery(getTableName(entity).toCql(), entity, options, getConverter(),
+				partitionKeyResolver);
 
 		class InsertCallback implements ReactiveSessionCallback<T>, CqlProvider {
 
@@ -420,10 +532,20 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 	 */
 	@Override
 	public <T> Flux<T> insert(Publisher<? extends T> entities, InsertOptions options) {
+		return insert(entities, options, this.concurrencyLimit);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#insert(org.reactivestreams.Publisher, org.springframework.data.cassandra.core.InsertOptions, org.springframework.data.cql.core.ConcurrencyLimit)
+	 */
+	@Override
+	public <T> Flux<T> insert(Publisher<? extends T> entities, InsertOptions options, ConcurrencyLimit concurrencyLimit) {
 
 		Assert.notNull(entities, "Entity publisher must not be null");
+		Assert.notNull(concurrencyLimit, "ConcurrencyLimit must not be null");
 
-		return Flux.from(entities).flatMap(entity -> insert(entity, options));
+		return concurrencyLimit.<T, T> flatMap(entities, entity -> insert(entity, options));
 	}
 
 	/*
@@ -444,7 +566,8 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		Update update = QueryUtils.createUpdateQuery(getTableName(entity).toCql(), entity, options, converter);
+		Update update = QueryUtils.createUpdateQuery(getTableName(entity).toCql(), entity, options, converter,
+				partitionKeyResolver);
 
 		class UpdateCallback implements ReactiveSessionCallback<T>, CqlProvider {
 
@@ -478,10 +601,20 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 	 */
 	@Override
 	public <T> Flux<T> update(Publisher<? extends T> entities, UpdateOptions options) {
+		return update(entities, options, this.concurrencyLimit);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#update(org.reactivestreams.Publisher, org.springframework.data.cassandra.core.UpdateOptions, org.springframework.data.cql.core.ConcurrencyLimit)
+	 */
+	@Override
+	public <T> Flux<T> update(Publisher<? extends T> entities, UpdateOptions options, ConcurrencyLimit concurrencyLimit) {
 
 		Assert.notNull(entities, "Entity publisher must not be null");
+		Assert.notNull(concurrencyLimit, "ConcurrencyLimit must not be null");
 
-		return Flux.from(entities).flatMap(entity -> update(entity, options));
+		return concurrencyLimit.<T, T> flatMap(entities, entity -> update(entity, options));
 	}
 
 	/*
@@ -499,6 +632,7 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 		Delete delete = QueryBuilder.delete().from(entity.getTableName().toCql());
 
 		getConverter().write(id, delete.where(), entity);
+		QueryUtils.addRoutingKeyForId(delete, id, entity, partitionKeyResolver);
 
 		return getReactiveCqlOperations().execute(delete);
 	}
@@ -521,7 +655,8 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		Delete delete = QueryUtils.createDeleteQuery(getTableName(entity).toCql(), entity, options, getConverter());
+		Delete delete = QueryUtils.createDeleteQuery(getTableName(entity).toCql(), entity, options, getConverter(),
+				partitionKeyResolver);
 
 		class DeleteCallback implements ReactiveSessionCallback<T>, CqlProvider {
 
@@ -555,10 +690,20 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 	 */
 	@Override
 	public <T> Flux<T> delete(Publisher<? extends T> entities, QueryOptions options) {
+		return delete(entities, options, this.concurrencyLimit);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#delete(org.reactivestreams.Publisher, org.springframework.data.cql.core.QueryOptions, org.springframework.data.cql.core.ConcurrencyLimit)
+	 */
+	@Override
+	public <T> Flux<T> delete(Publisher<? extends T> entities, QueryOptions options, ConcurrencyLimit concurrencyLimit) {
 
 		Assert.notNull(entities, "Entity publisher must not be null");
+		Assert.notNull(concurrencyLimit, "ConcurrencyLimit must not be null");
 
-		return Flux.from(entities).flatMap(entity -> delete(entity, options));
+		return concurrencyLimit.<T, T> flatMap(entities, entity -> delete(entity, options));
 	}
 
 	/*
@@ -575,4 +720,16 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 
 		return getReactiveCqlOperations().execute(truncate).then();
 	}
+
+	/**
+	 * Marker emitted after the rows of a token range.
+	 */
+	private static class RangeCompletion {
+
+		final TokenRange range;
+
+		RangeCompletion(TokenRange range) {
+			this.range = range;
+		}
+	}
 }
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.springframework.data.cql.core.QueryOptions;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.TokenRange;
+import com.datastax.driver.core.policies.RetryPolicy;
+
+/**
+ * Extension to {@link QueryOptions} for token range scans of a whole table. A scan splits the token ring into
+ * {@link TokenRange token ranges} and queries up to {@link #getParallelism() parallelism} ranges concurrently.
+ * <p>
+ * Scans can be resumed by registering a {@link #getRangeCompletionListener() range completion listener} that records
+ * completed ranges and passing these ranges as {@link #getCompletedRanges() completed ranges} to a subsequent scan.
+ * Ranges are compared after splitting so a resumed scan requires the same {@link #getSplitsPerRange() splits per
+ * range} and an unchanged cluster topology.
+ * <p>
+ * Range queries carry no routing key. Token-aware load balancing policies cannot route them to a replica of the range,
+ * so a coordinator may have to fetch rows of a range from other nodes.
+ *
+ * @since 2.0
+ * @see CassandraOperations#scanAll(Class, ScanOptions)
+ * @see ReactiveCassandraOperations#scanAll(Class, ScanOptions)
+ */
+public class ScanOptions extends QueryOptions {
+
+	/**
+	 * Default number of token ranges that are queried concurrently.
+	 */
+	public static final int DEFAULT_PARALLELISM = 4;
+
+	private static final Consumer<TokenRange> NO_OP_LISTENER = range -> {};
+
+	private int parallelism = DEFAULT_PARALLELISM;
+
+	private int splitsPerRange = 1;
+
+	private Set<TokenRange> completedRanges = Collections.emptySet();
+
+	private Consumer<TokenRange> rangeCompletionListener = NO_OP_LISTENER;
+
+	/**
+	 * Creates new {@link ScanOptions}.
+	 */
+	ScanOptions() {}
+
+	/**
+	 * Create a new {@link ScanOptionsBuilder}.
+	 *
+	 * @return a new {@link ScanOptionsBuilder}.
+	 */
+	public static ScanOptionsBuilder builder() {
+		return new ScanOptionsBuilder();
+	}
+
+	/**
+	 * @return the maximum number of token ranges that are queried concurrently.
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	/**
+	 * @return the number of sub-ranges each token range of the ring is split into.
+	 */
+	public int getSplitsPerRange() {
+		return this.splitsPerRange;
+	}
+
+	/**
+	 * @return token ranges that were completed by a previous scan and are skipped.
+	 */
+	public Set<TokenRange> getCompletedRanges() {
+		return this.completedRanges;
+	}
+
+	/**
+	 * @return the listener notified with each token range once all of its rows were emitted.
+	 */
+	public Consumer<TokenRange> getRangeCompletionListener() {
+		return this.rangeCompletionListener;
+	}
+
+	/**
+	 * Builder for {@link ScanOptions}.
+	 *
+	 * @since 2.0
+	 */
+	public static class ScanOptionsBuilder extends QueryOptionsBuilder {
+
+		private int parallelism = DEFAULT_PARALLELISM;
+
+		private int splitsPerRange = 1;
+
+		private Set<TokenRange> completedRanges = Collections.emptySet();
+
+		private Consumer<TokenRange> rangeCompletionListener = NO_OP_LISTENER;
+
+		private ScanOptionsBuilder() {}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cql.core.QueryOptions.QueryOptionsBuilder#consistencyLevel(com.datastax.driver.core.ConsistencyLevel)
+		 */
+		@Override
+		public ScanOptionsBuilder consistencyLevel(ConsistencyLevel consistencyLevel) {
+			return (ScanOptionsBuilder) super.consistencyLevel(consistencyLevel);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cql.core.QueryOptions.QueryOptionsBuilder#retryPolicy(com.datastax.driver.core.policies.RetryPolicy)
+		 */
+		@Override
+		public ScanOptionsBuilder retryPolicy(RetryPolicy driverRetryPolicy) {
+			return (ScanOptionsBuilder) super.retryPolicy(driverRetryPolicy);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cql.core.QueryOptions.QueryOptionsBuilder#fetchSize(int)
+		 */
+		@Override
+		public ScanOptionsBuilder fetchSize(int fetchSize) {
+			return (ScanOptionsBuilder) super.fetchSize(fetchSize);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cql.core.QueryOptions.QueryOptionsBuilder#readTimeout(long)
+		 */
+		@Override
+		public ScanOptionsBuilder readTimeout(long readTimeout) {
+			return (ScanOptionsBuilder) super.readTimeout(readTimeout);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cql.core.QueryOptions.QueryOptionsBuilder#readTimeout(long, java.util.concurrent.TimeUnit)
+		 */
+		@Override
+		public ScanOptionsBuilder readTimeout(long readTimeout, TimeUnit timeUnit) {
+			return (ScanOptionsBuilder) super.readTimeout(readTimeout, timeUnit);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cql.core.QueryOptions.QueryOptionsBuilder#tracing(boolean)
+		 */
+		@Override
+		public ScanOptionsBuilder tracing(boolean tracing) {
+			return (ScanOptionsBuilder) super.tracing(tracing);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cql.core.QueryOptions.QueryOptionsBuilder#withTracing()
+		 */
+		@Override
+		public ScanOptionsBuilder withTracing() {
+			return (ScanOptionsBuilder) super.withTracing();
+		}
+
+		/**
+		 * Set the maximum number of token ranges that are queried concurrently. Defaults to
+		 * {@link ScanOptions#DEFAULT_PARALLELISM}.
+		 *
+		 * @param parallelism must be greater than zero.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder parallelism(int parallelism) {
+
+			Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero");
+
+			this.parallelism = parallelism;
+
+			return this;
+		}
+
+		/**
+		 * Split each token range of the ring into {@code splitsPerRange} sub-ranges of roughly equal size. Smaller ranges
+		 * reduce the amount of work that is repeated when resuming a scan. Defaults to {@code 1}.
+		 *
+		 * @param splitsPerRange must be greater than zero.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder splitsPerRange(int splitsPerRange) {
+
+			Assert.isTrue(splitsPerRange > 0, "Splits per range must be greater than zero");
+
+			this.splitsPerRange = splitsPerRange;
+
+			return this;
+		}
+
+		/**
+		 * Skip token ranges that were completed by a previous scan.
+		 *
+		 * @param completedRanges must not be {@literal null}.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 * @see #rangeCompletionListener(Consumer)
+		 */
+		public ScanOptionsBuilder completedRanges(Collection<TokenRange> completedRanges) {
+
+			Assert.notNull(completedRanges, "Completed ranges must not be null");
+
+			this.completedRanges = Collections.unmodifiableSet(new LinkedHashSet<>(completedRanges));
+
+			return this;
+		}
+
+		/**
+		 * Register a listener that is notified with each token range once all of its rows were emitted. Completed ranges
+		 * can be used to {@link #completedRanges(Collection) resume} an interrupted scan.
+		 *
+		 * @param rangeCompletionListener must not be {@literal null}.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder rangeCompletionListener(Consumer<TokenRange> rangeCompletionListener) {
+
+			Assert.notNull(rangeCompletionListener, "Range completion listener must not be null");
+
+			this.rangeCompletionListener = rangeCompletionListener;
+
+			return this;
+		}
+
+		/**
+		 * Builds a new {@link ScanOptions} with the configured values.
+		 *
+		 * @return a new {@link ScanOptions} with the configured values
+		 */
+		public ScanOptions build() {
+
+			ScanOptions scanOptions = applyOptions(new ScanOptions());
+
+			scanOptions.parallelism = this.parallelism;
+			scanOptions.splitsPerRange = this.splitsPerRange;
+			scanOptions.completedRanges = this.completedRanges;
+			scanOptions.rangeCompletionListener = this.rangeCompletionListener;
+
+			return scanOptions;
+		}
+	}
+}
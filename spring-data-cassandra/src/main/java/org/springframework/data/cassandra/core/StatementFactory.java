@@ -16,10 +16,14 @@
 package org.springframework.data.cassandra.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import org.springframework.data.cassandra.core.convert.PartitionKeyResolver;
 import org.springframework.data.cassandra.core.convert.QueryMapper;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
@@ -46,10 +50,12 @@ import org.springframework.data.cql.core.WriteOptions;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
 
 import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.querybuilder.Assignment;
+import com.datastax.driver.core.querybuilder.BuiltStatement;
 import com.datastax.driver.core.querybuilder.Clause;
 import com.datastax.driver.core.querybuilder.Delete;
 import com.datastax.driver.core.querybuilder.Ordering;
@@ -60,7 +66,8 @@ import com.datastax.driver.core.querybuilder.Select.SelectionOrAlias;
 import com.google.common.primitives.Ints;
 
 /**
- * Statement factory to render {@link Statement} from {@link Query} and {@link Update} objects.
+ * Statement factory to render {@link Statement} from {@link Query} and {@link Update} objects. Statements restricting
+ * all partition key columns by equality carry a routing key so token-aware load balancing can route them to a replica.
  *
  * @author Mark Paluch
  * @author John Blum
@@ -80,6 +87,8 @@ public class StatementFactory {
 
 	private final UpdateMapper updateMapper;
 
+	private final PartitionKeyResolver partitionKeyResolver;
+
 	/**
 	 * Create {@link StatementFactory} given {@link UpdateMapper}.
 	 *
@@ -97,11 +106,25 @@ public class StatementFactory {
 	 */
 	public StatementFactory(QueryMapper queryMapper, UpdateMapper updateMapper) {
 
+		this(queryMapper, updateMapper, new PartitionKeyResolver(queryMapper));
+	}
+
+	/**
+	 * Create {@link StatementFactory} given {@link QueryMapper}, {@link UpdateMapper} and {@link PartitionKeyResolver}.
+	 *
+	 * @param queryMapper must not be {@literal null}.
+	 * @param updateMapper must not be {@literal null}.
+	 * @param partitionKeyResolver must not be {@literal null}.
+	 */
+	StatementFactory(QueryMapper queryMapper, UpdateMapper updateMapper, PartitionKeyResolver partitionKeyResolver) {
+
 		Assert.notNull(queryMapper, "QueryMapper must not be null");
 		Assert.notNull(updateMapper, "UpdateMapper must not be null");
+		Assert.notNull(partitionKeyResolver, "PartitionKeyResolver must not be null");
 
 		this.queryMapper = queryMapper;
 		this.updateMapper = updateMapper;
+		this.partitionKeyResolver = partitionKeyResolver;
 	}
 
 	/**
@@ -136,6 +159,32 @@ public class StatementFactory {
 		Assert.notNull(query, "Query must not be null");
 		Assert.notNull(entity, "Entity must not be null");
 
+		return select(query, entity, null, false);
+	}
+
+	/**
+	 * Create a parameterized {@literal SELECT} statement by mapping {@link Query} to {@link Select}. Criteria values are
+	 * rendered as bind markers instead of being inlined into the CQL text and are added to {@code bindValues} in bind
+	 * marker order. The CQL text depends only on the shape of the {@link Query} so the statement can be prepared once
+	 * and executed with different values.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param bindValues must not be {@literal null}.
+	 * @return the rendered {@link RegularStatement}.
+	 */
+	public RegularStatement select(Query query, CassandraPersistentEntity<?> entity, List<Object> bindValues) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entity, "Entity must not be null");
+		Assert.notNull(bindValues, "Bind values must not be null");
+
+		return select(query, entity, bindValues, true);
+	}
+
+	private RegularStatement select(Query query, CassandraPersistentEntity<?> entity, List<Object> bindValues,
+			boolean parameterized) {
+
 		Filter filter = getQueryMapper().getMappedObject(query, entity);
 
 		List<Selector> selectors = getQueryMapper().getMappedSelectors(query.getColumns(), entity);
@@ -143,7 +192,13 @@ public class StatementFactory {
 		Sort sort = Optional.ofNullable(query.getSort()).map(querySort -> getQueryMapper().getMappedSort(querySort, entity))
 				.orElse(null);
 
-		Select select = select(selectors, entity.getTableName(), filter, sort);
+		Select select = select(selectors, entity.getTableName(), filter, sort, bindValues);
+
+		if (parameterized) {
+			select.setForceNoValues(true);
+		}
+
+		addRoutingKey(select, filter, entity);
 
 		query.getQueryOptions().ifPresent(queryOptions -> QueryOptionsUtil.addQueryOptions(select, queryOptions));
 
@@ -160,7 +215,8 @@ public class StatementFactory {
 		return select;
 	}
 
-	private static Select select(List<Selector> selectors, CqlIdentifier from, Filter filter, Sort sort) {
+	private static Select select(List<Selector> selectors, CqlIdentifier from, Filter filter, Sort sort,
+			List<Object> bindValues) {
 
 		Select select;
 
@@ -175,7 +231,7 @@ public class StatementFactory {
 		}
 
 		for (CriteriaDefinition criteriaDefinition : filter) {
-			select.where(toClause(criteriaDefinition));
+			select.where(toClause(criteriaDefinition, bindValues));
 		}
 
 		if (sort != null) {
@@ -235,6 +291,8 @@ public class StatementFactory {
 
 		com.datastax.driver.core.querybuilder.Update update = update(entity.getTableName(), mappedUpdate, filter);
 
+		addRoutingKey(update, filter, entity);
+
 		query.getQueryOptions().ifPresent(queryOptions -> {
 			if (queryOptions instanceof WriteOptions) {
 				QueryOptionsUtil.addWriteOptions(update, (WriteOptions) queryOptions);
@@ -358,6 +416,8 @@ public class StatementFactory {
 
 		Delete delete = delete(columnNames, entity.getTableName(), filter);
 
+		addRoutingKey(delete, filter, entity);
+
 		query.getQueryOptions().ifPresent(queryOptions -> QueryOptionsUtil.addQueryOptions(delete, queryOptions));
 
 		query.getPagingState().ifPresent(delete::setPagingState);
@@ -384,11 +444,42 @@ public class StatementFactory {
 		return select;
 	}
 
+	/**
+	 * Set the routing key on {@link BuiltStatement} if {@link Filter} restricts all partition key columns by equality.
+	 */
+	private void addRoutingKey(BuiltStatement statement, Filter filter, CassandraPersistentEntity<?> entity) {
+
+		Map<String, Object> values = new HashMap<>();
+
+		for (CriteriaDefinition criteriaDefinition : filter) {
+
+			Predicate predicate = criteriaDefinition.getPredicate();
+
+			if ("=".equals(predicate.getOperator().toString())) {
+				values.put(criteriaDefinition.getColumnName().toCql(), predicate.getValue());
+			}
+		}
+
+		PartitionKeyResolver.addRoutingKey(statement, partitionKeyResolver.getRoutingKey(entity, values));
+	}
+
 	private static Clause toClause(CriteriaDefinition criteriaDefinition) {
+		return toClause(criteriaDefinition, null);
+	}
+
+	/**
+	 * Render {@link CriteriaDefinition} to a {@link Clause}. Values are inlined if {@code bindValues} is {@literal null}
+	 * and rendered as bind markers otherwise.
+	 */
+	private static Clause toClause(CriteriaDefinition criteriaDefinition, List<Object> bindValues) {
 
 		Predicate predicate = criteriaDefinition.getPredicate();
 		String columnName = criteriaDefinition.getColumnName().toCql();
 
+		if (bindValues != null) {
+			predicate = bind(predicate, bindValues);
+		}
+
 		switch (predicate.getOperator().toString()) {
 
 			case "=":
@@ -431,4 +522,39 @@ public class StatementFactory {
 		throw new IllegalArgumentException(
 				String.format("Criteria %s %s %s not supported", columnName, predicate.getOperator(), predicate.getValue()));
 	}
+
+	/**
+	 * Replace the {@link Predicate} value with bind markers and collect the actual value in {@code bindValues}. Each
+	 * element of an {@code IN} predicate is bound individually.
+	 */
+	private static Predicate bind(Predicate predicate, List<Object> bindValues) {
+
+		Object value = predicate.getValue();
+
+		if (!"IN".equals(predicate.getOperator().toString())) {
+
+			bindValues.add(value);
+
+			return new Predicate(predicate.getOperator(), QueryBuilder.bindMarker());
+		}
+
+		List<Object> elements = new ArrayList<>();
+
+		if (value instanceof Collection) {
+			elements.addAll((Collection<?>) value);
+		} else if (value != null && value.getClass().isArray()) {
+			elements.addAll(CollectionUtils.arrayToList(value));
+		} else {
+			elements.add(value);
+		}
+
+		List<Object> bindMarkers = new ArrayList<>(elements.size());
+
+		for (Object element : elements) {
+			bindValues.add(element);
+			bindMarkers.add(QueryBuilder.bindMarker());
+		}
+
+		return new Predicate(predicate.getOperator(), bindMarkers);
+	}
 }
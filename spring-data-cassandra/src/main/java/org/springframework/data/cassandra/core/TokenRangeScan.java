@@ -0,0 +1,260 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cql.core.CqlIdentifier;
+import org.springframework.data.cql.core.QueryOptionsUtil;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.Token;
+import com.datastax.driver.core.TokenRange;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Select;
+
+/**
+ * Token range scan of a table. Splits the token ring into non-wrapping {@link TokenRange}s according to
+ * {@link ScanOptions} and creates a {@code SELECT} statement restricted to the token range for each range.
+ * <p>
+ * Range statements carry no routing key. The load balancing policy picks their coordinator like for any other
+ * statement without a routing key, so the coordinator is not necessarily a replica of the range.
+ * <p>
+ * Only intended for internal use.
+ *
+ * @since 2.0
+ * @see ScanOptions
+ */
+class TokenRangeScan {
+
+	private final CassandraPersistentEntity<?> entity;
+
+	private final String token;
+
+	private final ScanOptions options;
+
+	/**
+	 * Create a new {@link TokenRangeScan}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param partitionKeyColumns must not be {@literal null} or empty.
+	 * @param options must not be {@literal null}.
+	 */
+	TokenRangeScan(CassandraPersistentEntity<?> entity, List<CqlIdentifier> partitionKeyColumns, ScanOptions options) {
+
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+		Assert.notEmpty(partitionKeyColumns, "Partition key columns must not be empty");
+		Assert.notNull(options, "ScanOptions must not be null");
+
+		this.entity = entity;
+		this.token = QueryBuilder.token(partitionKeyColumns.stream().map(CqlIdentifier::toCql).toArray(String[]::new));
+		this.options = options;
+	}
+
+	/**
+	 * Split the token ring into ranges to scan. Ranges are split into {@link ScanOptions#getSplitsPerRange()} sub-ranges
+	 * and unwrapped. {@link ScanOptions#getCompletedRanges() Completed ranges} are skipped.
+	 * <p>
+	 * A cluster with a single token reports the full ring as a range from the minimum token to the minimum token. The
+	 * driver splits such a range between the minimum and the maximum token of the partitioner, so single-token clusters
+	 * are scanned with {@link ScanOptions#getSplitsPerRange()} ranges as well.
+	 *
+	 * @param ring token ranges of the ring, must not be {@literal null}.
+	 * @return the ranges to scan.
+	 */
+	List<TokenRange> getRanges(Collection<TokenRange> ring) {
+
+		List<TokenRange> ranges = new ArrayList<>();
+
+		for (TokenRange range : ring) {
+
+			List<TokenRange> splits = options.getSplitsPerRange() > 1 && !range.isEmpty()
+					? range.splitEvenly(options.getSplitsPerRange()) : Collections.singletonList(range);
+
+			for (TokenRange split : splits) {
+				for (TokenRange unwrapped : isFullRing(split) ? Collections.singletonList(split) : split.unwrap()) {
+					if (!options.getCompletedRanges().contains(unwrapped)) {
+						ranges.add(unwrapped);
+					}
+				}
+			}
+		}
+
+		return ranges;
+	}
+
+	/**
+	 * Create a {@code SELECT} statement for the given non-wrapping {@link TokenRange}. Ranges are start-exclusive and
+	 * end-inclusive. A range ending with the minimum token is bounded by its start only.
+	 *
+	 * @param range must not be {@literal null}.
+	 * @return the {@link Statement} selecting all rows of the token range.
+	 */
+	Statement createStatement(TokenRange range) {
+
+		Select select = QueryBuilder.select().all().from(entity.getTableName().toCql());
+
+		Token start = range.getStart();
+		Token end = range.getEnd();
+
+		if (!isFullRing(range)) {
+
+			select.where(QueryBuilder.gt(token, start.getValue()));
+
+			if (end.compareTo(start) > 0) {
+				select.where().and(QueryBuilder.lte(token, end.getValue()));
+			}
+		}
+
+		return QueryOptionsUtil.addQueryOptions(select, options);
+	}
+
+	/**
+	 * Notify the {@link ScanOptions#getRangeCompletionListener() range completion listener}.
+	 *
+	 * @param range the completed range.
+	 */
+	void rangeCompleted(TokenRange range) {
+		options.getRangeCompletionListener().accept(range);
+	}
+
+	private static boolean isFullRing(TokenRange range) {
+		return range.getStart().equals(range.getEnd());
+	}
+
+	/**
+	 * {@link Iterator} over the rows of multiple token ranges. Keeps up to {@link ScanOptions#getParallelism()} range
+	 * queries in flight while emitting rows range by range in the order of ranges. Subsequent pages of a range are
+	 * fetched while iterating the range.
+	 */
+	static class RowIterator implements Iterator<Row> {
+
+		private final TokenRangeScan scan;
+
+		private final Iterator<TokenRange> ranges;
+
+		private final Function<Statement, Future<ResultSet>> executor;
+
+		private final Deque<PendingRange> inFlight = new ArrayDeque<>();
+
+		private TokenRange currentRange;
+
+		private Iterator<Row> current;
+
+		/**
+		 * Create a new {@link RowIterator}.
+		 *
+		 * @param scan must not be {@literal null}.
+		 * @param ranges must not be {@literal null}.
+		 * @param executor function executing a range query, must not be {@literal null}.
+		 */
+		RowIterator(TokenRangeScan scan, List<TokenRange> ranges, Function<Statement, Future<ResultSet>> executor) {
+
+			this.scan = scan;
+			this.ranges = ranges.iterator();
+			this.executor = executor;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+
+			while (current == null || !current.hasNext()) {
+
+				if (currentRange != null) {
+					scan.rangeCompleted(currentRange);
+					currentRange = null;
+				}
+
+				fill();
+
+				PendingRange next = inFlight.poll();
+
+				if (next == null) {
+					return false;
+				}
+
+				currentRange = next.range;
+				current = QueryUtils.getResult(next.future).iterator();
+
+				fill();
+			}
+
+			return true;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public Row next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			return current.next();
+		}
+
+		/**
+		 * Cancel range queries that are in flight.
+		 */
+		void cancel() {
+
+			PendingRange pending;
+
+			while ((pending = inFlight.poll()) != null) {
+				pending.future.cancel(true);
+			}
+		}
+
+		private void fill() {
+
+			while (inFlight.size() < scan.options.getParallelism() && ranges.hasNext()) {
+
+				TokenRange range = ranges.next();
+
+				inFlight.add(new PendingRange(range, executor.apply(scan.createStatement(range))));
+			}
+		}
+	}
+
+	private static class PendingRange {
+
+		final TokenRange range;
+		final Future<ResultSet> future;
+
+		PendingRange(TokenRange range, Future<ResultSet> future) {
+			this.range = range;
+			this.future = future;
+		}
+	}
+}
@@ -22,6 +22,7 @@ import org.springframework.data.mapping.model.DefaultSpELExpressionEvaluator;
 import org.springframework.data.mapping.model.SpELExpressionEvaluator;
 import org.springframework.util.Assert;
 
+import com.datastax.driver.core.CodecRegistry;
 import com.datastax.driver.core.Row;
 
 /**
@@ -36,21 +37,65 @@ public class BasicCassandraRowValueProvider implements CassandraRowValueProvider
 
 	private final ColumnReader reader;
 
+	private final ColumnAccessPlan plan;
+
 	private final SpELExpressionEvaluator evaluator;
 
+	private int position;
+
 	/**
 	 * Create a new {@link BasicCassandraRowValueProvider} with the given {@link Row} and
-	 * {@link DefaultSpELExpressionEvaluator}.
+	 * {@link DefaultSpELExpressionEvaluator}. Values are read using {@link CodecRegistry#DEFAULT_INSTANCE}.
 	 *
 	 * @param source must not be {@literal null}.
 	 * @param evaluator must not be {@literal null}.
+	 * @deprecated since 2.0, use
+	 *             {@link #BasicCassandraRowValueProvider(Row, DefaultSpELExpressionEvaluator, CodecRegistry)} to read
+	 *             values using the {@link CodecRegistry} of the {@link com.datastax.driver.core.Cluster}.
 	 */
+	@Deprecated
 	public BasicCassandraRowValueProvider(Row source, DefaultSpELExpressionEvaluator evaluator) {
+		this(source, evaluator, CodecRegistry.DEFAULT_INSTANCE);
+	}
+
+	/**
+	 * Create a new {@link BasicCassandraRowValueProvider} with the given {@link Row},
+	 * {@link DefaultSpELExpressionEvaluator} and {@link CodecRegistry}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param evaluator must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 * @since 2.0
+	 * @see MappingCassandraConverter#getCodecRegistry()
+	 */
+	public BasicCassandraRowValueProvider(Row source, DefaultSpELExpressionEvaluator evaluator,
+			CodecRegistry codecRegistry) {
 
 		Assert.notNull(source, "Source Row must not be null");
 		Assert.notNull(evaluator, "DefaultSpELExpressionEvaluator must not be null");
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null");
 
-		this.reader = new ColumnReader(source);
+		this.plan = new ColumnAccessPlan(source.getColumnDefinitions(), codecRegistry);
+		this.reader = new ColumnReader(source, plan);
+		this.evaluator = evaluator;
+	}
+
+	/**
+	 * Create a new {@link BasicCassandraRowValueProvider} with the given {@link Row}, {@link SpELExpressionEvaluator}
+	 * and a {@link ColumnAccessPlan} that was resolved for the row's {@link com.datastax.driver.core.ColumnDefinitions}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param evaluator must not be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 */
+	BasicCassandraRowValueProvider(Row source, SpELExpressionEvaluator evaluator, ColumnAccessPlan plan) {
+
+		Assert.notNull(source, "Source Row must not be null");
+		Assert.notNull(evaluator, "SpELExpressionEvaluator must not be null");
+		Assert.notNull(plan, "ColumnAccessPlan must not be null");
+
+		this.plan = plan;
+		this.reader = new ColumnReader(source, plan);
 		this.evaluator = evaluator;
 	}
 
@@ -60,13 +105,28 @@ public class BasicCassandraRowValueProvider implements CassandraRowValueProvider
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> Optional<T> getPropertyValue(CassandraPersistentProperty property) {
+		return Optional.ofNullable((T) getNullablePropertyValue(property));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.convert.CassandraValueProvider#getNullablePropertyValue(org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty)
+	 */
+	@Override
+	public Object getNullablePropertyValue(CassandraPersistentProperty property) {
 
 		Optional<String> spelExpression = property.getSpelExpression();
 		if (spelExpression.isPresent()) {
-			return spelExpression.flatMap(s -> Optional.ofNullable(evaluator.evaluate(s)));
+			return evaluator.evaluate(spelExpression.get());
+		}
+
+		int index = getIndex(property);
+
+		if (index == -1) {
+			throw new IllegalArgumentException(
+					"Column does not exist in Cassandra table: " + property.getColumnName().toCql());
 		}
 
-		return Optional.ofNullable((T) reader.get(property.getColumnName()));
+		return plan.read(reader.getRow(), property, index);
 	}
 
 	/* (non-Javadoc)
@@ -85,6 +145,23 @@ public class BasicCassandraRowValueProvider implements CassandraRowValueProvider
 
 		Assert.notNull(property, "CassandraPersistentProperty must not be null");
 
-		return getRow().getColumnDefinitions().contains(property.getColumnName().toCql());
+		return getIndex(property) != -1;
+	}
+
+	/**
+	 * Resolve the column index of {@link CassandraPersistentProperty}. Properties are typically read in entity order so
+	 * the lookup starts at the position of the previously resolved property.
+	 */
+	private int getIndex(CassandraPersistentProperty property) {
+
+		int position = plan.getPosition(property, this.position);
+
+		if (position == -1) {
+			return plan.getIndex(property);
+		}
+
+		this.position = position;
+
+		return plan.getIndex(position);
 	}
 }
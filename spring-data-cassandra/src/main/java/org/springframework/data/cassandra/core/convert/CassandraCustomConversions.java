@@ -16,15 +16,35 @@
 package org.springframework.data.cassandra.core.convert;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.mapping.CassandraSimpleTypeHolder;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.DataType.Name;
+import com.datastax.driver.core.TypeCodec;
+import com.datastax.driver.core.exceptions.CodecNotFoundException;
 
 /**
  * Value object to capture custom conversion. {@link CassandraCustomConversions} also act as factory for
  * {@link SimpleTypeHolder}
+ * <p>
+ * Besides {@link org.springframework.core.convert.converter.Converter}s, {@link CassandraCustomConversions} accept
+ * driver {@link TypeCodec}s. Java types handled by a {@link TypeCodec} are considered simple types and values of these
+ * types are decoded by the codec straight into the Java type instead of decoding into the default Java type of the CQL
+ * type and converting the result. Codecs must be {@link #registerCodecs(CodecRegistry) registered} with the
+ * {@link CodecRegistry} used by the {@link com.datastax.driver.core.Cluster} to write values of these types.
  *
  * @author Mark Paluch
  * @since 2.0
@@ -49,12 +69,145 @@ public class CassandraCustomConversions extends org.springframework.data.convert
 		STORE_CONVERSIONS = StoreConversions.of(CassandraSimpleTypeHolder.HOLDER, STORE_CONVERTERS);
 	}
 
+	private final Map<Class<?>, TypeCodec<?>> codecs;
+
 	/**
 	 * Create a new {@link CassandraCustomConversions} instance registering the given converters.
 	 *
 	 * @param converters must not be {@literal null}.
 	 */
 	public CassandraCustomConversions(List<?> converters) {
-		super(STORE_CONVERSIONS, converters);
+		this(converters, Collections.emptyList());
+	}
+
+	/**
+	 * Create a new {@link CassandraCustomConversions} instance registering the given converters and {@link TypeCodec}s.
+	 *
+	 * @param converters must not be {@literal null}.
+	 * @param codecs must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public CassandraCustomConversions(List<?> converters, List<? extends TypeCodec<?>> codecs) {
+
+		super(getStoreConversions(codecs), converters);
+
+		Map<Class<?>, TypeCodec<?>> codecsByJavaType = new LinkedHashMap<>();
+		codecs.forEach(codec -> codecsByJavaType.put(codec.getJavaType().getRawType(), codec));
+
+		this.codecs = Collections.unmodifiableMap(codecsByJavaType);
+	}
+
+	private static StoreConversions getStoreConversions(List<? extends TypeCodec<?>> codecs) {
+
+		Assert.notNull(codecs, "Codecs must not be null");
+
+		if (codecs.isEmpty()) {
+			return STORE_CONVERSIONS;
+		}
+
+		Set<Class<?>> codecTypes = new HashSet<>();
+		codecs.forEach(codec -> codecTypes.add(codec.getJavaType().getRawType()));
+
+		return StoreConversions.of(new SimpleTypeHolder(codecTypes, CassandraSimpleTypeHolder.HOLDER), STORE_CONVERTERS);
+	}
+
+	/**
+	 * @return the registered {@link TypeCodec}s.
+	 * @since 2.0
+	 */
+	public Collection<TypeCodec<?>> getCodecs() {
+		return codecs.values();
+	}
+
+	/**
+	 * Retrieve the {@link TypeCodec} registered for the given Java {@code type}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return the {@link TypeCodec} for {@code type} or {@link Optional#empty()} if none is registered.
+	 * @since 2.0
+	 */
+	public Optional<TypeCodec<?>> getCodecFor(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null");
+
+		return Optional.ofNullable(codecs.get(type));
+	}
+
+	/**
+	 * Retrieve the {@link TypeCodec} to read values of {@link CassandraPersistentProperty} from a column or field of
+	 * {@code cqlType}. Collection properties are read with a list or set codec wrapping the element codec.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @param cqlType must not be {@literal null}.
+	 * @return the {@link TypeCodec} or {@link Optional#empty()} if no registered codec applies.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	Optional<TypeCodec<?>> getCodecFor(CassandraPersistentProperty property, DataType cqlType) {
+
+		if (codecs.isEmpty() || property.isMapLike()) {
+			return Optional.empty();
+		}
+
+		TypeCodec codec = codecs.get(property.getActualType());
+
+		if (codec == null) {
+			return Optional.empty();
+		}
+
+		if (!property.isCollectionLike()) {
+			return codec.accepts(cqlType) ? Optional.of(codec) : Optional.empty();
+		}
+
+		List<DataType> typeArguments = cqlType.getTypeArguments();
+
+		if (typeArguments.size() != 1 || !codec.accepts(typeArguments.get(0))) {
+			return Optional.empty();
+		}
+
+		if (Name.LIST.equals(cqlType.getName()) && List.class.isAssignableFrom(property.getType())) {
+			return Optional.of(TypeCodec.list(codec));
+		}
+
+		if (Name.SET.equals(cqlType.getName()) && Set.class.isAssignableFrom(property.getType())) {
+			return Optional.of(TypeCodec.set(codec));
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Register the {@link TypeCodec}s with the given {@link CodecRegistry}. Registration modifies the
+	 * {@link CodecRegistry} and therefore affects every {@link com.datastax.driver.core.Session} sharing it. Codecs that
+	 * are already registered are skipped.
+	 *
+	 * @param codecRegistry must not be {@literal null}.
+	 * @throws IllegalStateException if the {@link CodecRegistry} already contains a different codec for the CQL and Java
+	 *           type of a {@link TypeCodec}. The {@link CodecRegistry} would silently ignore the codec otherwise.
+	 * @since 2.0
+	 */
+	public void registerCodecs(CodecRegistry codecRegistry) {
+
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null");
+
+		for (TypeCodec<?> codec : codecs.values()) {
+
+			TypeCodec<?> registered = getRegisteredCodec(codecRegistry, codec);
+
+			if (registered == null) {
+				codecRegistry.register(codec);
+			} else if (registered != codec && registered.getClass() != codec.getClass()) {
+				throw new IllegalStateException(
+						String.format("Cannot register codec %s: CodecRegistry already contains %s", codec, registered));
+			}
+		}
+	}
+
+	private static TypeCodec<?> getRegisteredCodec(CodecRegistry codecRegistry, TypeCodec<?> codec) {
+
+		try {
+			return codecRegistry.codecFor(codec.getCqlType(), codec.getJavaType());
+		} catch (CodecNotFoundException e) {
+			return null;
+		}
 	}
 }
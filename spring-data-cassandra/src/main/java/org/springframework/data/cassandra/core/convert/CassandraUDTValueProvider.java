@@ -23,7 +23,6 @@ import org.springframework.data.mapping.model.SpELExpressionEvaluator;
 import org.springframework.util.Assert;
 
 import com.datastax.driver.core.CodecRegistry;
-import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.UDTValue;
 
 /**
@@ -36,7 +35,7 @@ public class CassandraUDTValueProvider implements CassandraValueProvider {
 
 	private final UDTValue udtValue;
 
-	private final CodecRegistry codecRegistry;
+	private final UserTypeAccessPlan plan;
 
 	private final SpELExpressionEvaluator evaluator;
 
@@ -56,7 +55,27 @@ public class CassandraUDTValueProvider implements CassandraValueProvider {
 		Assert.notNull(evaluator, "SpELExpressionEvaluator must not be null");
 
 		this.udtValue = udtValue;
-		this.codecRegistry = codecRegistry;
+		this.plan = new UserTypeAccessPlan(udtValue.getType(), codecRegistry);
+		this.evaluator = evaluator;
+	}
+
+	/**
+	 * Create a new {@link CassandraUDTValueProvider} with the given {@link UDTValue}, {@link SpELExpressionEvaluator}
+	 * and a {@link UserTypeAccessPlan} that was resolved for the value's {@link com.datastax.driver.core.UserType}.
+	 *
+	 * @param udtValue must not be {@literal null}.
+	 * @param evaluator must not be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @since 2.0
+	 */
+	CassandraUDTValueProvider(UDTValue udtValue, SpELExpressionEvaluator evaluator, UserTypeAccessPlan plan) {
+
+		Assert.notNull(udtValue, "UDTValue must not be null");
+		Assert.notNull(evaluator, "SpELExpressionEvaluator must not be null");
+		Assert.notNull(plan, "UserTypeAccessPlan must not be null");
+
+		this.udtValue = udtValue;
+		this.plan = plan;
 		this.evaluator = evaluator;
 	}
 
@@ -65,16 +84,21 @@ public class CassandraUDTValueProvider implements CassandraValueProvider {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> Optional<T> getPropertyValue(CassandraPersistentProperty property) {
+		return Optional.ofNullable((T) getNullablePropertyValue(property));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.convert.CassandraValueProvider#getNullablePropertyValue(org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty)
+	 */
+	@Override
+	public Object getNullablePropertyValue(CassandraPersistentProperty property) {
 
 		Optional<String> spelExpression = property.getSpelExpression();
 		if (spelExpression.isPresent()) {
-			return spelExpression.flatMap(s -> Optional.ofNullable(evaluator.evaluate(s)));
+			return evaluator.evaluate(spelExpression.get());
 		}
 
-		String name = property.getColumnName().toCql();
-		DataType fieldType = udtValue.getType().getFieldType(name);
-
-		return Optional.ofNullable(udtValue.get(name, codecRegistry.codecFor(fieldType)));
+		return plan.read(udtValue, property);
 	}
 
 	/* (non-Javadoc)
@@ -82,6 +106,6 @@ public class CassandraUDTValueProvider implements CassandraValueProvider {
 	 */
 	@Override
 	public boolean hasProperty(CassandraPersistentProperty property) {
-		return udtValue.getType().contains(property.getColumnName().toCql());
+		return plan.getIndex(property) != -1;
 	}
 }
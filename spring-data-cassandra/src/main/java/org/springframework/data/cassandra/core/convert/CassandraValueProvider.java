@@ -35,4 +35,16 @@ public interface CassandraValueProvider extends PropertyValueProvider<CassandraP
 	 *         {@link CassandraPersistentProperty}.
 	 */
 	boolean hasProperty(CassandraPersistentProperty property);
+
+	/**
+	 * Returns the value for the given {@link CassandraPersistentProperty} as nullable reference. Implementations should
+	 * override this method to avoid allocating an {@link java.util.Optional} per value when reading entities.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return the property value, may be {@literal null}.
+	 * @since 2.0
+	 */
+	default Object getNullablePropertyValue(CassandraPersistentProperty property) {
+		return getPropertyValue(property).orElse(null);
+	}
 }
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.DataType.Name;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.TypeCodec;
+
+/**
+ * Column access plan for rows sharing the same {@link ColumnDefinitions}. Resolves column indexes of
+ * {@link CassandraPersistentProperty properties} and {@link TypeCodec codecs} for collection columns once so that
+ * reading a row requires only index-based access.
+ * <p>
+ * Column indexes of the properties the plan is created for are resolved into an array ordered by the properties when
+ * the plan is built. Properties are looked up by their {@link #getPosition(CassandraPersistentProperty, int) position}
+ * within that array. Readers visiting properties in entity order pass the previous position as hint so that each
+ * lookup requires a single comparison.
+ * <p>
+ * Rows of a result set share their {@link ColumnDefinitions} instance. Plans are bound to a particular
+ * {@link ColumnDefinitions} instance, see {@link #isFor(ColumnDefinitions)}.
+ * <p>
+ * Properties of a Java type with a {@link TypeCodec} registered in {@link CassandraCustomConversions} are decoded by
+ * that codec, see {@link #read(Row, CassandraPersistentProperty, int)}.
+ *
+ * @since 2.0
+ */
+class ColumnAccessPlan {
+
+	private final ColumnDefinitions columns;
+
+	private final CodecRegistry codecRegistry;
+
+	private final CassandraPersistentProperty[] properties;
+
+	private final int[] indexes;
+
+	private final TypeCodec<?>[] codecs;
+
+	private final CassandraCustomConversions conversions;
+
+	private final Map<CassandraPersistentProperty, Optional<TypeCodec<?>>> customCodecs = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link ColumnAccessPlan} for {@link ColumnDefinitions} and {@link CodecRegistry}.
+	 *
+	 * @param columns must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 */
+	ColumnAccessPlan(ColumnDefinitions columns, CodecRegistry codecRegistry) {
+		this(columns, codecRegistry, null, Collections.emptyList());
+	}
+
+	/**
+	 * Create a new {@link ColumnAccessPlan} for {@link ColumnDefinitions}, {@link CodecRegistry} and
+	 * {@link CassandraCustomConversions} providing custom {@link TypeCodec}s. Column indexes of {@code properties} are
+	 * resolved upfront.
+	 *
+	 * @param columns must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 * @param conversions may be {@literal null}.
+	 * @param properties properties in the order they are read, must not be {@literal null}.
+	 */
+	ColumnAccessPlan(ColumnDefinitions columns, CodecRegistry codecRegistry, CassandraCustomConversions conversions,
+			List<CassandraPersistentProperty> properties) {
+
+		Assert.notNull(columns, "ColumnDefinitions must not be null");
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null");
+		Assert.notNull(properties, "Properties must not be null");
+
+		this.columns = columns;
+		this.codecRegistry = codecRegistry;
+		this.codecs = new TypeCodec<?>[columns.size()];
+		this.conversions = conversions;
+		this.properties = properties.toArray(new CassandraPersistentProperty[properties.size()]);
+		this.indexes = new int[this.properties.length];
+
+		for (int position = 0; position < this.properties.length; position++) {
+			this.indexes[position] = columns.getIndexOf(this.properties[position].getColumnName().toCql());
+		}
+	}
+
+	/**
+	 * @param columns the {@link ColumnDefinitions} to check.
+	 * @return {@literal true} if this plan was created for the given {@link ColumnDefinitions} instance.
+	 */
+	boolean isFor(ColumnDefinitions columns) {
+		return this.columns == columns;
+	}
+
+	/**
+	 * @return the {@link ColumnDefinitions} of this plan.
+	 */
+	ColumnDefinitions getColumns() {
+		return this.columns;
+	}
+
+	/**
+	 * @return the {@link CodecRegistry} of this plan.
+	 */
+	CodecRegistry getCodecRegistry() {
+		return this.codecRegistry;
+	}
+
+	/**
+	 * Resolve the position of {@link CassandraPersistentProperty} within the properties of this plan. The search starts
+	 * at {@code hint} and wraps around.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @param hint the position to start the search at, typically the previously resolved position.
+	 * @return the position or {@code -1} if the property is not part of this plan.
+	 */
+	int getPosition(CassandraPersistentProperty property, int hint) {
+
+		int start = hint >= 0 && hint < properties.length ? hint : 0;
+
+		for (int position = start; position < properties.length; position++) {
+			if (properties[position] == property) {
+				return position;
+			}
+		}
+
+		for (int position = 0; position < start; position++) {
+			if (properties[position] == property) {
+				return position;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Return the column index of the property at {@code position}.
+	 *
+	 * @param position the position obtained from {@link #getPosition(CassandraPersistentProperty, int)}.
+	 * @return the column index or {@code -1} if the column is not part of the {@link ColumnDefinitions}.
+	 */
+	int getIndex(int position) {
+		return indexes[position];
+	}
+
+	/**
+	 * Resolve the column index for the given {@link CassandraPersistentProperty}. Properties that are not part of this
+	 * plan are resolved by their column name.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return the column index or {@code -1} if the column is not part of the {@link ColumnDefinitions}.
+	 */
+	int getIndex(CassandraPersistentProperty property) {
+
+		int position = getPosition(property, 0);
+
+		return position != -1 ? indexes[position] : columns.getIndexOf(property.getColumnName().toCql());
+	}
+
+	/**
+	 * Read the value of the column at {@code index} from {@link Row}.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @param index the column index.
+	 * @return the column value, may be {@literal null}.
+	 */
+	Object read(Row row, int index) {
+
+		if (row.isNull(index)) {
+			return null;
+		}
+
+		DataType type = columns.getType(index);
+
+		if (type.isCollection()) {
+			return row.get(index, getCodec(index, type));
+		}
+
+		if (Name.TUPLE.equals(type.getName())) {
+			return row.getTupleValue(index);
+		}
+
+		if (Name.UDT.equals(type.getName())) {
+			return row.getUDTValue(index);
+		}
+
+		return row.getObject(index);
+	}
+
+	/**
+	 * Read the value of the column at {@code index} mapped by {@link CassandraPersistentProperty} from {@link Row}.
+	 * Values are decoded by a custom {@link TypeCodec} for the property type if one is registered and accepts the column
+	 * type.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @param property must not be {@literal null}.
+	 * @param index the column index of {@code property}.
+	 * @return the column value, may be {@literal null}.
+	 */
+	Object read(Row row, CassandraPersistentProperty property, int index) {
+
+		if (conversions == null) {
+			return read(row, index);
+		}
+
+		Optional<TypeCodec<?>> codec = customCodecs.computeIfAbsent(property,
+				it -> conversions.getCodecFor(it, columns.getType(index)));
+
+		if (!codec.isPresent()) {
+			return read(row, index);
+		}
+
+		return row.isNull(index) ? null : row.get(index, codec.get());
+	}
+
+	private TypeCodec<?> getCodec(int index, DataType type) {
+
+		if (index >= codecs.length) {
+			return codecRegistry.codecFor(type);
+		}
+
+		// benign race: codecs are immutable and resolve to the same instance
+		TypeCodec<?> codec = codecs[index];
+
+		if (codec == null) {
+			codec = codecRegistry.codecFor(type);
+			codecs[index] = codec;
+		}
+
+		return codec;
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ColumnDefinitions;
+
+/**
+ * Cache for values derived from a {@link CassandraPersistentEntity} and a {@link ColumnDefinitions} instance, such as
+ * read and bind plans.
+ * <p>
+ * Rows of a result set and bound statements of a prepared statement share their {@link ColumnDefinitions} instance.
+ * Values are therefore looked up by {@link ColumnDefinitions} identity. Each entity retains up to
+ * {@code maximumSize} values so that interleaved queries using different {@link ColumnDefinitions} (projections,
+ * tables, insert and update statements) do not evict each other. The least recently created value is discarded once
+ * an entity exceeds {@code maximumSize} values.
+ *
+ * @since 2.0
+ */
+class ColumnDefinitionsCache<T> {
+
+	private final int maximumSize;
+
+	private final Map<CassandraPersistentEntity<?>, CacheEntry<T>[]> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link ColumnDefinitionsCache} retaining up to {@code maximumSize} values per entity.
+	 *
+	 * @param maximumSize must be greater than zero.
+	 */
+	ColumnDefinitionsCache(int maximumSize) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * Obtain the value for {@link CassandraPersistentEntity} and {@link ColumnDefinitions}, creating it with
+	 * {@code factory} if not cached.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param columns must not be {@literal null}.
+	 * @param factory must not be {@literal null}.
+	 * @return the cached or newly created value.
+	 */
+	T get(CassandraPersistentEntity<?> entity, ColumnDefinitions columns,
+			BiFunction<CassandraPersistentEntity<?>, ColumnDefinitions, T> factory) {
+
+		CacheEntry<T>[] entries = cache.get(entity);
+
+		if (entries != null) {
+			for (CacheEntry<T> entry : entries) {
+				if (entry.columns == columns) {
+					return entry.value;
+				}
+			}
+		}
+
+		T value = factory.apply(entity, columns);
+
+		cache.compute(entity, (key, existing) -> prepend(new CacheEntry<>(columns, value), existing));
+
+		return value;
+	}
+
+	/**
+	 * Discard all cached values.
+	 */
+	void clear() {
+		cache.clear();
+	}
+
+	@SuppressWarnings("unchecked")
+	private CacheEntry<T>[] prepend(CacheEntry<T> entry, CacheEntry<T>[] existing) {
+
+		int retained = existing == null ? 0 : Math.min(existing.length, maximumSize - 1);
+		CacheEntry<T>[] entries = new CacheEntry[retained + 1];
+
+		entries[0] = entry;
+
+		if (retained > 0) {
+			System.arraycopy(existing, 0, entries, 1, retained);
+		}
+
+		return entries;
+	}
+
+	private static class CacheEntry<T> {
+
+		final ColumnDefinitions columns;
+		final T value;
+
+		CacheEntry(ColumnDefinitions columns, T value) {
+			this.columns = columns;
+			this.value = value;
+		}
+	}
+}
@@ -22,7 +22,6 @@ import org.springframework.data.cql.core.CqlIdentifier;
 import com.datastax.driver.core.CodecRegistry;
 import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.DataType;
-import com.datastax.driver.core.DataType.Name;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.TypeCodec;
 
@@ -38,11 +37,35 @@ public class ColumnReader {
 	protected Row row;
 	protected ColumnDefinitions columns;
 	private final CodecRegistry codecRegistry;
+	private final ColumnAccessPlan plan;
 
 	public ColumnReader(Row row) {
+		this(row, CodecRegistry.DEFAULT_INSTANCE);
+	}
+
+	/**
+	 * Create a new {@link ColumnReader} using the given {@link CodecRegistry} to resolve collection codecs.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public ColumnReader(Row row, CodecRegistry codecRegistry) {
+		this(row, new ColumnAccessPlan(row.getColumnDefinitions(), codecRegistry));
+	}
+
+	/**
+	 * Create a new {@link ColumnReader} reusing a {@link ColumnAccessPlan} resolved for the row's
+	 * {@link ColumnDefinitions}.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 */
+	ColumnReader(Row row, ColumnAccessPlan plan) {
 		this.row = row;
-		this.columns = row.getColumnDefinitions();
-		this.codecRegistry = CodecRegistry.DEFAULT_INSTANCE;
+		this.columns = plan.getColumns();
+		this.codecRegistry = plan.getCodecRegistry();
+		this.plan = plan;
 	}
 
 	/**
@@ -67,26 +90,7 @@ public class ColumnReader {
 	 * @return
 	 */
 	public Object get(int index) {
-
-		if (row.isNull(index)) {
-			return null;
-		}
-
-		DataType type = columns.getType(index);
-
-		if (type.isCollection()) {
-			return getCollection(index, type);
-		}
-
-		if (Name.TUPLE.equals(type.getName())) {
-			return row.getTupleValue(index);
-		}
-
-		if (Name.UDT.equals(type.getName())) {
-			return row.getUDTValue(index);
-		}
-
-		return row.getObject(index);
+		return plan.read(row, index);
 	}
 
 	public Object getCollection(int i, DataType type) {
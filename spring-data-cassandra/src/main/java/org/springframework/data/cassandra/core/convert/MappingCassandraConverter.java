@@ -25,6 +25,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,21 +44,25 @@ import org.springframework.data.cassandra.core.mapping.CassandraPersistentProper
 import org.springframework.data.cassandra.core.mapping.CassandraType;
 import org.springframework.data.cassandra.repository.MapId;
 import org.springframework.data.cassandra.repository.MapIdentifiable;
+import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.convert.EntityInstantiator;
+import org.springframework.data.convert.EntityInstantiators;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
-import org.springframework.data.mapping.model.DefaultSpELExpressionEvaluator;
 import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
 import org.springframework.data.mapping.model.SpELContext;
+import org.springframework.data.mapping.model.SpELExpressionEvaluator;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
 
+import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.TypeCodec;
@@ -83,6 +89,11 @@ import com.datastax.driver.core.querybuilder.Update;
 public class MappingCassandraConverter extends AbstractCassandraConverter
 		implements CassandraConverter, ApplicationContextAware, BeanClassLoaderAware {
 
+	/**
+	 * Number of read and bind plans retained per entity for distinct {@link ColumnDefinitions} instances.
+	 */
+	private static final int MAX_PLANS_PER_ENTITY = 8;
+
 	private final Logger log = LoggerFactory.getLogger(getClass());
 
 	private final CassandraMappingContext mappingContext;
@@ -91,6 +102,20 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 	private SpELContext spELContext;
 
+	private SpELExpressionCache expressionCache = new SpELExpressionCache(null);
+
+	private final Map<Class<?>, Function<Row, ?>> rowReaders = new ConcurrentHashMap<>();
+
+	private final ColumnDefinitionsCache<RowReadPlan> rowReadPlans = new ColumnDefinitionsCache<>(
+			MAX_PLANS_PER_ENTITY);
+
+	private final ColumnDefinitionsCache<StatementBindPlan> statementBindPlans = new ColumnDefinitionsCache<>(
+			MAX_PLANS_PER_ENTITY);
+
+	private final Map<CassandraPersistentEntity<?>, UserTypeAccessPlan> userTypeAccessPlans = new ConcurrentHashMap<>();
+
+	private CodecRegistry codecRegistry = CodecRegistry.DEFAULT_INSTANCE;
+
 	/**
 	 * Create a new {@link MappingCassandraConverter} with a {@link CassandraMappingContext}.
 	 */
@@ -126,7 +151,92 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	 */
 	@Override
 	public void setBeanClassLoader(ClassLoader classLoader) {
+
 		this.beanClassLoader = classLoader;
+		this.expressionCache = new SpELExpressionCache(classLoader);
+
+		clearReadPlans();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.convert.AbstractCassandraConverter#setInstantiators(org.springframework.data.convert.EntityInstantiators)
+	 */
+	@Override
+	public void setInstantiators(EntityInstantiators instantiators) {
+
+		super.setInstantiators(instantiators);
+
+		clearReadPlans();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.convert.AbstractCassandraConverter#setCustomConversions(org.springframework.data.convert.CustomConversions)
+	 */
+	@Override
+	public void setCustomConversions(CustomConversions conversions) {
+
+		super.setCustomConversions(conversions);
+
+		clearReadPlans();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.convert.AbstractCassandraConverter#afterPropertiesSet()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+
+		super.afterPropertiesSet();
+
+		clearReadPlans();
+	}
+
+	/**
+	 * Configure the {@link CodecRegistry} to resolve {@link TypeCodec codecs} when reading and writing values. Should be
+	 * the {@link CodecRegistry} of the {@link com.datastax.driver.core.Cluster} so that codecs registered with the
+	 * cluster are considered. Defaults to {@link CodecRegistry#DEFAULT_INSTANCE}. Templates replace the default with the
+	 * {@link CodecRegistry} of their session's cluster.
+	 *
+	 * @param codecRegistry must not be {@literal null}.
+	 * @since 2.0
+	 * @see CassandraCustomConversions#registerCodecs(CodecRegistry)
+	 */
+	public void setCodecRegistry(CodecRegistry codecRegistry) {
+
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null");
+
+		this.codecRegistry = codecRegistry;
+
+		clearReadPlans();
+	}
+
+	/**
+	 * @return the {@link CodecRegistry} used to resolve {@link TypeCodec codecs}.
+	 * @since 2.0
+	 */
+	public CodecRegistry getCodecRegistry() {
+		return codecRegistry;
+	}
+
+	/**
+	 * Discard cached read plans as their resolution depends on the class loader, conversions, instantiators and the
+	 * {@link CodecRegistry}.
+	 */
+	private void clearReadPlans() {
+
+		rowReaders.clear();
+		rowReadPlans.clear();
+		userTypeAccessPlans.clear();
+	}
+
+	/**
+	 * @return the {@link CassandraCustomConversions} providing custom {@link TypeCodec}s, may be {@literal null}.
+	 */
+	private CassandraCustomConversions getCassandraCustomConversions() {
+
+		CustomConversions conversions = getCustomConversions();
+
+		return conversions instanceof CassandraCustomConversions ? (CassandraCustomConversions) conversions : null;
 	}
 
 	/* (non-Javadoc)
@@ -139,54 +249,97 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 	@SuppressWarnings("unchecked")
 	public <R> R readRow(Class<R> type, Row row) {
+		return (R) rowReaders.computeIfAbsent(type, this::createRowReader).apply(row);
+	}
 
-		Class<R> beanClassLoaderClass = transformClassToBeanClassLoaderClass(type);
-		TypeInformation<? extends R> typeInfo = ClassTypeInformation.from(beanClassLoaderClass);
-		Class<? extends R> rawType = typeInfo.getType();
+	/**
+	 * Resolve how to read a {@link Row} into {@code type}. Resolution involves class loading, type introspection and
+	 * conversion lookups and is therefore performed once per type.
+	 *
+	 * @param type the requested result type.
+	 * @return the {@link Function} reading a {@link Row}.
+	 */
+	private Function<Row, ?> createRowReader(Class<?> type) {
+
+		Class<?> beanClassLoaderClass = transformClassToBeanClassLoaderClass(type);
+		TypeInformation<?> typeInfo = ClassTypeInformation.from(beanClassLoaderClass);
+		Class<?> rawType = typeInfo.getType();
 
 		if (Row.class.isAssignableFrom(rawType)) {
-			return (R) row;
+			return Function.identity();
 		}
 
 		if (getCustomConversions().hasCustomReadTarget(Row.class, rawType)
 				|| getConversionService().canConvert(Row.class, rawType)) {
 
-			return getConversionService().convert(row, rawType);
+			return row -> getConversionService().convert(row, rawType);
 		}
 
 		if (typeInfo.isCollectionLike() || typeInfo.isMap()) {
-			return getConversionService().convert(row, type);
+			return row -> getConversionService().convert(row, type);
 		}
 
-		CassandraPersistentEntity<R> persistentEntity = (CassandraPersistentEntity<R>) getMappingContext()
-				.getRequiredPersistentEntity(typeInfo);
+		CassandraPersistentEntity<?> persistentEntity = getMappingContext().getRequiredPersistentEntity(typeInfo);
 
-		return readEntityFromRow(persistentEntity, row);
+		return row -> readEntityFromRow(persistentEntity, row);
 	}
 
 	protected <S> S readEntityFromRow(CassandraPersistentEntity<S> entity, Row row) {
 
-		DefaultSpELExpressionEvaluator expressionEvaluator = new DefaultSpELExpressionEvaluator(row, spELContext);
+		RowReadPlan plan = getRowReadPlan(entity, row.getColumnDefinitions());
+
+		SpELExpressionEvaluator expressionEvaluator = expressionCache.getEvaluator(row, spELContext);
 
-		BasicCassandraRowValueProvider rowValueProvider = new BasicCassandraRowValueProvider(row, expressionEvaluator);
+		BasicCassandraRowValueProvider rowValueProvider = new BasicCassandraRowValueProvider(row, expressionEvaluator,
+				plan.columnAccessPlan);
 
 		PersistentEntityParameterValueProvider<CassandraPersistentProperty> parameterValueProvider = new PersistentEntityParameterValueProvider<>(
 				entity, new MappingAndConvertingValueProvider(rowValueProvider), Optional.empty());
 
-		EntityInstantiator instantiator = instantiators.getInstantiatorFor(entity);
-		S instance = instantiator.createInstance(entity, parameterValueProvider);
+		S instance = plan.instantiator.createInstance(entity, parameterValueProvider);
 
 		readPropertiesFromRow(entity, rowValueProvider, getConvertingAccessor(instance, entity));
 
 		return instance;
 	}
 
+	/**
+	 * Obtain the {@link RowReadPlan} for {@link CassandraPersistentEntity} and {@link ColumnDefinitions}. Rows of a result
+	 * set share their {@link ColumnDefinitions} instance, plans are retained for the most recently read
+	 * {@link ColumnDefinitions} instances per entity.
+	 */
+	private RowReadPlan getRowReadPlan(CassandraPersistentEntity<?> entity, ColumnDefinitions columns) {
+		return rowReadPlans.get(entity, columns,
+				(it, definitions) -> new RowReadPlan(new ColumnAccessPlan(definitions, codecRegistry,
+						getCassandraCustomConversions(), getColumnProperties(it)), instantiators.getInstantiatorFor(it)));
+	}
+
+	/**
+	 * Collect the properties mapped to columns in the order {@link #readProperties} visits them. Properties of composite
+	 * primary keys take the place of the composite primary key property.
+	 */
+	private List<CassandraPersistentProperty> getColumnProperties(CassandraPersistentEntity<?> entity) {
+
+		List<CassandraPersistentProperty> properties = new ArrayList<>();
+
+		entity.getPersistentProperties().forEach(property -> {
+
+			if (property.isCompositePrimaryKey()) {
+				properties.addAll(getColumnProperties(mappingContext.getRequiredPersistentEntity(property)));
+			} else {
+				properties.add(property);
+			}
+		});
+
+		return properties;
+	}
+
 	protected <S> S readEntityFromUdt(CassandraPersistentEntity<S> entity, UDTValue udtValue) {
 
-		DefaultSpELExpressionEvaluator expressionEvaluator = new DefaultSpELExpressionEvaluator(udtValue, spELContext);
+		SpELExpressionEvaluator expressionEvaluator = expressionCache.getEvaluator(udtValue, spELContext);
 
-		CassandraUDTValueProvider valueProvider = new CassandraUDTValueProvider(udtValue, CodecRegistry.DEFAULT_INSTANCE,
-				expressionEvaluator);
+		CassandraUDTValueProvider valueProvider = new CassandraUDTValueProvider(udtValue, expressionEvaluator,
+				getUserTypeAccessPlan(entity, udtValue.getType()));
 
 		PersistentEntityParameterValueProvider<CassandraPersistentProperty> parameterValueProvider = getParameterValueProvider(
 				entity, valueProvider);
@@ -291,14 +444,24 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 		Assert.notNull(typeInformation, "TypeInformation must not be null");
 
-		return obj.flatMap(object -> {
+		return obj.isPresent() ? Optional.ofNullable(convertNullableToColumnType(obj.get(), typeInformation))
+				: Optional.empty();
+	}
 
-			if (object.getClass().isArray()) {
-				return Optional.of(object);
-			}
+	/**
+	 * Convert a nullable {@code value} into a value that can be used as column value.
+	 *
+	 * @param value may be {@literal null}.
+	 * @param typeInformation must not be {@literal null}.
+	 * @return the converted value, may be {@literal null}.
+	 */
+	private Object convertNullableToColumnType(Object value, TypeInformation<?> typeInformation) {
 
-			return getWriteValue(obj, typeInformation);
-		});
+		if (value == null || value.getClass().isArray()) {
+			return value;
+		}
+
+		return getWriteValue(value, typeInformation);
 	}
 
 	@Override
@@ -337,6 +500,8 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 			writeMapFromWrapper(getConvertingAccessor(source, entity), (Map<String, Object>) sink, entity);
 		} else if (sink instanceof Insert) {
 			writeInsertFromObject(source, (Insert) sink, entity);
+		} else if (sink instanceof BoundStatement) {
+			writeBoundStatementFromWrapper(getConvertingAccessor(source, entity), (BoundStatement) sink, entity);
 		} else if (sink instanceof Update) {
 			writeUpdateFromObject(source, (Update) sink, entity);
 		} else if (sink instanceof Select.Where) {
@@ -359,7 +524,7 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 		entity.getPersistentProperties().forEach(property -> {
 
-			Optional<Object> value = getWriteValue(property, accessor);
+			Object value = getWriteValue(property, accessor);
 
 			if (log.isDebugEnabled()) {
 				log.debug("doWithProperties Property.type {}, Property.value {}", property.getType().getName(), value);
@@ -372,7 +537,7 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 				}
 
 				CassandraPersistentEntity<?> compositePrimaryKey = mappingContext.getRequiredPersistentEntity(property);
-				writeMapFromWrapper(getConvertingAccessor(value.orElse(null), compositePrimaryKey), insert,
+				writeMapFromWrapper(getConvertingAccessor(value, compositePrimaryKey), insert,
 						compositePrimaryKey);
 
 				return;
@@ -382,7 +547,7 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 				log.debug("Adding map.entry [{}] - [{}]", property.getColumnName().toCql(), value);
 			}
 
-			insert.put(property.getColumnName().toCql(), value.orElse(null));
+			insert.put(property.getColumnName().toCql(), value);
 		});
 	}
 
@@ -391,7 +556,7 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 		entity.getPersistentProperties().forEach(property -> {
 
-			Optional<Object> value = getWriteValue(property, accessor);
+			Object value = getWriteValue(property, accessor);
 
 			if (log.isDebugEnabled()) {
 				log.debug("doWithProperties Property.type {}, Property.value {}", property.getType().getName(), value);
@@ -404,13 +569,13 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 				}
 
 				CassandraPersistentEntity<?> compositePrimaryKey = mappingContext.getRequiredPersistentEntity(property);
-				writeInsertFromWrapper(getConvertingAccessor(value.orElse(null), compositePrimaryKey), insert,
+				writeInsertFromWrapper(getConvertingAccessor(value, compositePrimaryKey), insert,
 						compositePrimaryKey);
 
 				return;
 			}
 
-			if (!value.isPresent()) {
+			if (value == null) {
 				return;
 			}
 
@@ -418,10 +583,61 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 				log.debug("Adding insert.value [{}] - [{}]", property.getColumnName().toCql(), value);
 			}
 
-			insert.value(property.getColumnName().toCql(), value.orElse(null));
+			insert.value(property.getColumnName().toCql(), value);
 		});
 	}
 
+	/**
+	 * Bind converted property values to {@link BoundStatement}. Properties are bound by the index of their column within
+	 * the {@link com.datastax.driver.core.PreparedStatement#getVariables() bind variables}. Indexes are resolved once per
+	 * entity and {@link ColumnDefinitions} instance. Properties without a bind variable are skipped, {@literal null}
+	 * values are bound as {@literal null}.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @param boundStatement must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @since 2.0
+	 */
+	protected void writeBoundStatementFromWrapper(ConvertingPropertyAccessor accessor, BoundStatement boundStatement,
+			CassandraPersistentEntity<?> entity) {
+
+		ColumnDefinitions variables = boundStatement.preparedStatement().getVariables();
+		CodecRegistry codecRegistry = boundStatement.preparedStatement().getCodecRegistry();
+		StatementBindPlan plan = getStatementBindPlan(entity, variables);
+
+		for (int i = 0; i < plan.properties.size(); i++) {
+
+			CassandraPersistentProperty property = plan.properties.get(i);
+			Object value = getWriteValue(property, accessor);
+
+			if (property.isCompositePrimaryKey()) {
+
+				CassandraPersistentEntity<?> compositePrimaryKey = mappingContext.getRequiredPersistentEntity(property);
+				writeBoundStatementFromWrapper(getConvertingAccessor(value, compositePrimaryKey), boundStatement,
+						compositePrimaryKey);
+
+				continue;
+			}
+
+			int index = plan.indexes[i];
+
+			if (value == null) {
+				boundStatement.setToNull(index);
+			} else {
+				boundStatement.set(index, value, codecRegistry.codecFor(variables.getType(index), value));
+			}
+		}
+	}
+
+	/**
+	 * Obtain the {@link StatementBindPlan} for {@link CassandraPersistentEntity} and bind variables. Bound statements of
+	 * a prepared statement share their {@link ColumnDefinitions} instance so plans are retained per entity and
+	 * {@link ColumnDefinitions} instance, see {@link ColumnDefinitionsCache}.
+	 */
+	private StatementBindPlan getStatementBindPlan(CassandraPersistentEntity<?> entity, ColumnDefinitions variables) {
+		return statementBindPlans.get(entity, variables, StatementBindPlan::new);
+	}
+
 	protected void writeUpdateFromObject(final Object object, final Update update, CassandraPersistentEntity<?> entity) {
 		writeUpdateFromWrapper(getConvertingAccessor(object, entity), update, entity);
 	}
@@ -431,21 +647,21 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 		entity.getPersistentProperties().forEach(property -> {
 
-			Optional<Object> value = getWriteValue(property, accessor);
+			Object value = getWriteValue(property, accessor);
 
 			if (property.isCompositePrimaryKey()) {
 
 				CassandraPersistentEntity<?> compositePrimaryKey = mappingContext.getRequiredPersistentEntity(property);
 
-				writeUpdateFromWrapper(getConvertingAccessor(value.orElse(null), compositePrimaryKey), update,
+				writeUpdateFromWrapper(getConvertingAccessor(value, compositePrimaryKey), update,
 						compositePrimaryKey);
 				return;
 			}
 
 			if (isPrimaryKeyPart(property)) {
-				update.where(QueryBuilder.eq(property.getColumnName().toCql(), value.orElse(null)));
+				update.where(QueryBuilder.eq(property.getColumnName().toCql(), value));
 			} else {
-				update.with(QueryBuilder.set(property.getColumnName().toCql(), value.orElse(null)));
+				update.with(QueryBuilder.set(property.getColumnName().toCql(), value));
 			}
 		});
 	}
@@ -463,9 +679,11 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	protected void writeUDTValueWhereFromObject(final ConvertingPropertyAccessor accessor, final UDTValue udtValue,
 			CassandraPersistentEntity<?> entity) {
 
+		UserTypeAccessPlan plan = getUserTypeAccessPlan(entity, udtValue.getType());
+
 		entity.getPersistentProperties().forEach(property -> {
 
-			Optional<Object> value = getWriteValue(property, accessor);
+			Object value = getWriteValue(property, accessor);
 
 			if (log.isDebugEnabled()) {
 				log.debug("writeUDTValueWhereFromObject Property.type {}, Property.value {}", property.getType().getName(),
@@ -476,12 +694,28 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 				log.debug("Adding udt.value [{}] - [{}]", property.getColumnName().toCql(), value);
 			}
 
-			TypeCodec<Object> typeCodec = CodecRegistry.DEFAULT_INSTANCE.codecFor(getMappingContext().getDataType(property));
-
-			udtValue.set(property.getColumnName().toCql(), value.orElse(null), typeCodec);
+			plan.write(udtValue, property, value);
 		});
 	}
 
+	/**
+	 * Obtain the {@link UserTypeAccessPlan} for {@link CassandraPersistentEntity} and {@link UserType}. The plan is
+	 * retained per entity and replaced once the entity is used with a different {@link UserType}, e.g. after a schema
+	 * change.
+	 */
+	private UserTypeAccessPlan getUserTypeAccessPlan(CassandraPersistentEntity<?> entity, UserType userType) {
+
+		UserTypeAccessPlan plan = userTypeAccessPlans.get(entity);
+
+		if (plan == null || !plan.isFor(userType)) {
+
+			plan = new UserTypeAccessPlan(userType, codecRegistry, getCassandraCustomConversions());
+			userTypeAccessPlans.put(entity, plan);
+		}
+
+		return plan;
+	}
+
 	@SuppressWarnings("unchecked")
 	private Collection<Clause> getWhereClauses(Object source, CassandraPersistentEntity<?> entity) {
 
@@ -525,7 +759,7 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 		if (getConversionService().canConvert(id.getClass(), targetType)) {
 			return Collections.singleton(QueryBuilder.eq(idProperty.getColumnName().toCql(),
-					getPotentiallyConvertedSimpleValue(Optional.of(id), (Class<Object>) targetType).orElse(null)));
+					getPotentiallyConvertedSimpleValue(id, targetType)));
 		}
 
 		return Collections.singleton(QueryBuilder.eq(idProperty.getColumnName().toCql(), id));
@@ -575,9 +809,8 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 					.orElseThrow(() -> new IllegalArgumentException(String.format(
 							"MapId contains references [%s] that is an unknown property of [%s]", entry.getKey(), entity.getName())));
 
-			Optional<Object> writeValue = getWriteValue(Optional.ofNullable(entry.getValue()),
-					persistentProperty.getTypeInformation());
-			clauses.add(QueryBuilder.eq(persistentProperty.getColumnName().toCql(), writeValue.orElse(null)));
+			Object writeValue = getWriteValue(entry.getValue(), persistentProperty.getTypeInformation());
+			clauses.add(QueryBuilder.eq(persistentProperty.getColumnName().toCql(), writeValue));
 		}
 
 		return clauses;
@@ -615,7 +848,7 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		entity.getPersistentProperties() //
 				.filter(CassandraPersistentProperty::isPrimaryKeyColumn) //
 				.forEach(property -> {
-					id.with(property.getName(), getWriteValue(property, accessor).orElse(null));
+					id.with(property.getName(), getWriteValue(property, accessor));
 				});
 
 		return id;
@@ -673,7 +906,7 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 			return property.getType();
 		}
 
-		TypeCodec<Object> codec = CodecRegistry.DEFAULT_INSTANCE.codecFor(getMappingContext().getDataType(property));
+		TypeCodec<Object> codec = codecRegistry.codecFor(getMappingContext().getDataType(property));
 
 		return codec.getJavaType().getRawType();
 	}
@@ -686,48 +919,45 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	 * @param accessor the property accessor
 	 * @return the return value, may be {@literal null}.
 	 */
-	@SuppressWarnings("unchecked")
-	private <T> Optional<T> getWriteValue(CassandraPersistentProperty property, ConvertingPropertyAccessor accessor) {
-		return getWriteValue(accessor.getProperty(property, (Class<T>) getTargetType(property)),
+	private Object getWriteValue(CassandraPersistentProperty property, ConvertingPropertyAccessor accessor) {
+		return getWriteValue(accessor.getProperty(property, getTargetType(property)).orElse(null),
 				property.getTypeInformation());
 	}
 
 	/**
 	 * Retrieve the value from {@code value} applying the given {@link TypeInformation} and perform optionally a
-	 * conversion of collection element types.
+	 * conversion of collection element types. Values are passed as nullable references rather than {@link Optional} to
+	 * not allocate wrappers per column value.
 	 *
-	 * @param optional the value, may be {@literal null}.
+	 * @param value the value, may be {@literal null}.
 	 * @param typeInformation the type information.
 	 * @return the return value, may be {@literal null}.
 	 */
 	@SuppressWarnings("unchecked")
-	private <I, O> Optional<O> getWriteValue(Optional<I> optional, TypeInformation<?> typeInformation) {
+	private Object getWriteValue(Object value, TypeInformation<?> typeInformation) {
 
-		if (!optional.isPresent()) {
-			return Optional.empty();
+		if (value == null) {
+			return null;
 		}
 
-		I value = optional.get();
-
-		Class<O> requestedTargetType = Optional.ofNullable(typeInformation).map(typeInfo -> (Class<O>) typeInfo.getType())
-				.orElse(null);
+		Class<?> requestedTargetType = typeInformation != null ? typeInformation.getType() : null;
 
 		if (getCustomConversions().hasCustomWriteTarget(value.getClass(), requestedTargetType)) {
-			return Optional.ofNullable((O) getConversionService().convert(value, getCustomConversions()
-					.getCustomWriteTarget(value.getClass(), requestedTargetType).orElse(requestedTargetType)));
+			return getConversionService().convert(value, getCustomConversions()
+					.getCustomWriteTarget(value.getClass(), requestedTargetType).orElse((Class) requestedTargetType));
 		}
 
 		if (getCustomConversions().hasCustomWriteTarget(value.getClass())) {
-			return Optional.ofNullable((O) getConversionService().convert(value,
-					getCustomConversions().getCustomWriteTarget(value.getClass()).get()));
+			return getConversionService().convert(value,
+					getCustomConversions().getCustomWriteTarget(value.getClass()).get());
 		}
 
 		if (getCustomConversions().isSimpleType(value.getClass())) {
-			return getPotentiallyConvertedSimpleValue(optional, requestedTargetType);
+			return getPotentiallyConvertedSimpleValue(value, requestedTargetType);
 		}
 
-		TypeInformation<?> type = Optional.ofNullable(typeInformation)
-				.orElseGet(() -> ClassTypeInformation.from((Class) value.getClass()));
+		TypeInformation<?> type = typeInformation != null ? typeInformation
+				: ClassTypeInformation.from((Class) value.getClass());
 
 		TypeInformation<?> actualType = type.getActualType();
 
@@ -736,10 +966,11 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 			Collection<Object> original = (Collection<Object>) value;
 			Collection<Object> converted = CollectionFactory.createCollection(getCollectionType(type), original.size());
 
-			original.stream().map(element -> convertToColumnType(Optional.ofNullable(element), actualType).orElse(null))
-					.forEach(converted::add);
+			for (Object element : original) {
+				converted.add(convertNullableToColumnType(element, actualType));
+			}
 
-			return Optional.of((O) converted);
+			return converted;
 		}
 
 		Optional<BasicCassandraPersistentEntity<?>> optionalUdt = getMappingContext()
@@ -747,49 +978,40 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 		if (optionalUdt.isPresent()) {
 
-			return optionalUdt.map(persistentEntity -> {
-
-				UDTValue udtValue = persistentEntity.getUserType().newValue();
+			BasicCassandraPersistentEntity<?> persistentEntity = optionalUdt.get();
+			UDTValue udtValue = persistentEntity.getUserType().newValue();
 
-				write(value, udtValue, persistentEntity);
-
-				return (O) udtValue;
-			});
+			write(value, udtValue, persistentEntity);
 
+			return udtValue;
 		}
 
-		return (Optional<O>) optional;
+		return value;
 	}
 
 	/**
 	 * Performs special enum handling or simply returns the value as is.
 	 *
-	 * @param optionalValue may be {@literal null}.
-	 * @param requestedTargetType must not be {@literal null}.
+	 * @param value may be {@literal null}.
+	 * @param requestedTargetType may be {@literal null}.
 	 * @see CassandraType
 	 */
-	@SuppressWarnings("unchecked")
-	private <I, O> Optional<O> getPotentiallyConvertedSimpleValue(Optional<I> optionalValue,
-			Class<O> requestedTargetType) {
+	private Object getPotentiallyConvertedSimpleValue(Object value, Class<?> requestedTargetType) {
 
-		if (optionalValue.isPresent()) {
+		// Cassandra has no default enum handling - convert it to either a String
+		// or, if requested, to a different type
+		if (value != null && Enum.class.isAssignableFrom(value.getClass())) {
 
-			Object value = optionalValue.get();
+			if (requestedTargetType != null && !requestedTargetType.isEnum()
+					&& getConversionService().canConvert(value.getClass(), requestedTargetType)) {
 
-			// Cassandra has no default enum handling - convert it to either a String
-			// or, if requested, to a different type
-			if (Enum.class.isAssignableFrom(value.getClass())) {
-				if (requestedTargetType != null && !requestedTargetType.isEnum()
-						&& getConversionService().canConvert(value.getClass(), requestedTargetType)) {
-
-					return Optional.ofNullable(getConversionService().convert(value, requestedTargetType));
-				}
-
-				return Optional.of((O) ((Enum<?>) value).name());
+				return getConversionService().convert(value, requestedTargetType);
 			}
+
+			return ((Enum<?>) value).name();
 		}
 
-		return (Optional<O>) optionalValue;
+		return value;
 	}
 
 	/**
@@ -841,7 +1063,8 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 	/**
 	 * Retrieve the value to read for the given {@link CassandraPersistentProperty} from
-	 * {@link BasicCassandraRowValueProvider} and perform optionally a conversion of collection element types.
+	 * {@link BasicCassandraRowValueProvider} and perform optionally a conversion of collection element types. Entity,
+	 * UDT and constructor argument reads obtain property values through this method.
 	 *
 	 * @param row the row.
 	 * @param property the property.
@@ -849,52 +1072,60 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	 */
 	@SuppressWarnings("unchecked")
 	protected <T> Optional<T> getReadValue(CassandraValueProvider row, CassandraPersistentProperty property) {
+		return Optional.ofNullable((T) readValue(row, property));
+	}
+
+	/**
+	 * Retrieve the value to read for the given {@link CassandraPersistentProperty} from {@link CassandraValueProvider}
+	 * as nullable reference and perform optionally a conversion of collection element types.
+	 *
+	 * @param valueProvider the value provider.
+	 * @param property the property.
+	 * @return the return value, may be {@literal null}.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private Object readValue(CassandraValueProvider valueProvider, CassandraPersistentProperty property) {
 
 		if (property.isCompositePrimaryKey()) {
 
 			CassandraPersistentEntity<?> keyEntity = mappingContext.getRequiredPersistentEntity(property);
-			return Optional.of((T) instantiatePrimaryKey(keyEntity, property, row));
+			return instantiatePrimaryKey(keyEntity, property, valueProvider);
 		}
 
-		Optional<Object> obj = row.getPropertyValue(property);
+		Object value = valueProvider.getNullablePropertyValue(property);
 
-		if (!obj.isPresent()) {
-			return Optional.empty();
+		if (value == null) {
+			return null;
 		}
 
-		if (getCustomConversions().hasCustomWriteTarget(property.getActualType()) && property.isCollectionLike()) {
-
-			if (obj.filter(it -> it instanceof Collection).isPresent()) {
-
-				return obj.map(it -> {
+		if (value instanceof Collection && property.isCollectionLike()) {
 
-					Collection<Object> original = (Collection<Object>) it;
+			if (getCustomConversions().hasCustomWriteTarget(property.getActualType())) {
 
-					Collection<Object> converted = CollectionFactory.createCollection(property.getType(), original.size());
+				Collection<Object> original = (Collection<Object>) value;
+				Collection<Object> converted = CollectionFactory.createCollection(property.getType(), original.size());
 
-					for (Object element : original) {
-						converted.add(getConversionService().convert(element, property.getActualType()));
-					}
-
-					return (T) converted;
-				});
+				for (Object element : original) {
+					converted.add(getConversionService().convert(element, property.getActualType()));
+				}
 
+				return converted;
 			}
-		}
 
-		if (property.isCollectionLike() && obj.filter(it -> it instanceof Collection).isPresent()) {
-			return obj.map(it -> (T) readCollectionOrArray(property.getTypeInformation(), (Collection) it));
+			return readCollectionOrArray(property.getTypeInformation(), (Collection) value);
 		}
 
-		Optional<BasicCassandraPersistentEntity<?>> persistentEntity = getMappingContext()
-				.getPersistentEntity(property.getActualType()).filter(CassandraPersistentEntity::isUserDefinedType);
+		if (value instanceof UDTValue) {
+
+			Optional<BasicCassandraPersistentEntity<?>> persistentEntity = getMappingContext()
+					.getPersistentEntity(property.getActualType()).filter(CassandraPersistentEntity::isUserDefinedType);
 
-		if (persistentEntity.isPresent() && obj.filter(it -> it instanceof UDTValue).isPresent()) {
-			return persistentEntity.flatMap(
-					cassandraPersistentEntity -> obj.map(it -> (T) readEntityFromUdt(cassandraPersistentEntity, (UDTValue) it)));
+			if (persistentEntity.isPresent()) {
+				return readEntityFromUdt(persistentEntity.get(), (UDTValue) value);
+			}
 		}
 
-		return obj.flatMap(it -> Optional.of((T) getPotentiallyConvertedSimpleRead(it, property.getType())));
+		return getPotentiallyConvertedSimpleRead(value, property.getType());
 	}
 
 	/**
@@ -944,7 +1175,58 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	}
 
 	private TypeCodec<Object> getCodec(CassandraPersistentProperty property) {
-		return CodecRegistry.DEFAULT_INSTANCE.codecFor(mappingContext.getDataType(property));
+		return codecRegistry.codecFor(mappingContext.getDataType(property));
+	}
+
+	/**
+	 * Entity read plan for a particular {@link ColumnDefinitions} instance. Captures the {@link EntityInstantiator} and
+	 * the {@link ColumnAccessPlan} resolving column indexes and codecs.
+	 *
+	 * @since 2.0
+	 */
+	static class RowReadPlan {
+
+		final ColumnAccessPlan columnAccessPlan;
+
+		final EntityInstantiator instantiator;
+
+		RowReadPlan(ColumnAccessPlan columnAccessPlan, EntityInstantiator instantiator) {
+
+			this.columnAccessPlan = columnAccessPlan;
+			this.instantiator = instantiator;
+		}
+	}
+
+	/**
+	 * Bind plan for a particular set of bind variables. Captures the properties to bind along with the index of their
+	 * bind variable. Composite primary key properties are retained without index as their properties are bound
+	 * individually.
+	 *
+	 * @since 2.0
+	 */
+	static class StatementBindPlan {
+
+		final List<CassandraPersistentProperty> properties = new ArrayList<>();
+
+		final int[] indexes;
+
+		StatementBindPlan(CassandraPersistentEntity<?> entity, ColumnDefinitions variables) {
+
+			List<Integer> indexes = new ArrayList<>();
+
+			entity.getPersistentProperties().forEach(property -> {
+
+				int index = property.isCompositePrimaryKey() ? -1
+						: variables.getIndexOf(property.getColumnName().toCql());
+
+				if (property.isCompositePrimaryKey() || index != -1) {
+					properties.add(property);
+					indexes.add(index);
+				}
+			});
+
+			this.indexes = indexes.stream().mapToInt(Integer::intValue).toArray();
+		}
 	}
 
 	/**
@@ -974,5 +1256,13 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		public <T> Optional<T> getPropertyValue(CassandraPersistentProperty property) {
 			return getReadValue(parent, property);
 		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.convert.CassandraValueProvider#getNullablePropertyValue(org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty)
+		 */
+		@Override
+		public Object getNullablePropertyValue(CassandraPersistentProperty property) {
+			return getReadValue(parent, property).orElse(null);
+		}
 	}
 }
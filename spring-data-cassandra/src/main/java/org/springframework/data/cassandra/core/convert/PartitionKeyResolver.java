@@ -0,0 +1,428 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.repository.MapId;
+import org.springframework.data.cassandra.repository.MapIdentifiable;
+import org.springframework.data.cql.core.CqlIdentifier;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+import com.datastax.driver.core.exceptions.DriverException;
+import com.datastax.driver.core.querybuilder.BuiltStatement;
+
+/**
+ * Resolves partition key columns and partition key values of entities. Partition key columns are the
+ * {@link org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty#isPartitionKeyColumn() partition
+ * key columns} of an entity or its composite primary key class. Entities using a single {@code @Id} or
+ * {@code @PrimaryKey} property are partitioned by that property. Resolved columns are cached per entity.
+ * <p>
+ * {@link #getRoutingKey(Object) Routing keys} are the serialized partition key values as expected by
+ * {@link com.datastax.driver.core.Statement#getRoutingKey(ProtocolVersion, CodecRegistry)}. Setting the routing key on
+ * statements with inlined values allows token-aware load balancing policies to route the statement to a replica.
+ * Values are serialized with the {@link CodecRegistry} of the {@link MappingCassandraConverter} and, for collection,
+ * tuple and user-defined types, the {@link ProtocolVersion} negotiated by the session.
+ *
+ * @since 2.0
+ */
+public class PartitionKeyResolver {
+
+	private final CassandraConverter converter;
+
+	private final Supplier<ProtocolVersion> protocolVersionSupplier;
+
+	private volatile ProtocolVersion protocolVersion;
+
+	private final Map<CassandraPersistentEntity<?>, List<PartitionKeyProperty>> partitionKeyProperties = new ConcurrentHashMap<>();
+
+	private final Map<CassandraPersistentEntity<?>, List<CqlIdentifier>> partitionKeyColumns = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link PartitionKeyResolver} given {@link CassandraConverter}. Collection, tuple and user-defined type
+	 * values are serialized using {@link ProtocolVersion#NEWEST_SUPPORTED}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 */
+	public PartitionKeyResolver(CassandraConverter converter) {
+		this(converter, () -> ProtocolVersion.NEWEST_SUPPORTED);
+	}
+
+	/**
+	 * Create a new {@link PartitionKeyResolver} given {@link CassandraConverter} and a {@link Supplier} of the
+	 * {@link ProtocolVersion} negotiated by the session. The {@link ProtocolVersion} is obtained once it is required to
+	 * serialize a collection, tuple or user-defined type value.
+	 *
+	 * @param converter must not be {@literal null}.
+	 * @param protocolVersion must not be {@literal null}.
+	 */
+	public PartitionKeyResolver(CassandraConverter converter, Supplier<ProtocolVersion> protocolVersion) {
+
+		Assert.notNull(converter, "CassandraConverter must not be null");
+		Assert.notNull(protocolVersion, "ProtocolVersion supplier must not be null");
+
+		this.converter = converter;
+		this.protocolVersionSupplier = protocolVersion;
+	}
+
+	/**
+	 * Create a new {@link PartitionKeyResolver} given the {@link CassandraConverter} of {@link QueryMapper}.
+	 *
+	 * @param queryMapper must not be {@literal null}.
+	 */
+	public PartitionKeyResolver(QueryMapper queryMapper) {
+
+		Assert.notNull(queryMapper, "QueryMapper must not be null");
+
+		this.converter = queryMapper.getConverter();
+		this.protocolVersionSupplier = () -> ProtocolVersion.NEWEST_SUPPORTED;
+	}
+
+	/**
+	 * Set the routing key on the {@link BuiltStatement}. The routing key is not set if {@code routingKey} is
+	 * {@literal null} because the partition key could not be resolved.
+	 *
+	 * @param statement the statement to route, must not be {@literal null}.
+	 * @param routingKey the routing key, may be {@literal null}.
+	 * @return the {@code statement}.
+	 */
+	public static <T extends BuiltStatement> T addRoutingKey(T statement, ByteBuffer routingKey) {
+
+		Assert.notNull(statement, "Statement must not be null");
+
+		if (routingKey != null) {
+			statement.setRoutingKey(routingKey);
+		}
+
+		return statement;
+	}
+
+	/**
+	 * Returns the partition key columns of the given {@link CassandraPersistentEntity} ordered by
+	 * {@link org.springframework.data.cassandra.core.mapping.PrimaryKeyColumn#ordinal() ordinal}. This is the order of
+	 * the columns in the partition key and therefore the order in which routing key components are composed.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the partition key columns.
+	 */
+	public List<CqlIdentifier> getPartitionKeyColumns(CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+
+		return partitionKeyColumns.computeIfAbsent(entity, it -> {
+
+			List<CqlIdentifier> columns = new ArrayList<>();
+			getPartitionKeyProperties(it).forEach(property -> columns.add(property.property.getColumnName()));
+
+			return Collections.unmodifiableList(columns);
+		});
+	}
+
+	/**
+	 * Returns the converted partition key values of the given {@code entity} in the order of
+	 * {@link #getPartitionKeyColumns(CassandraPersistentEntity)}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the partition key values.
+	 */
+	public List<Object> getPartitionKey(Object entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = converter.getMappingContext()
+				.getRequiredPersistentEntity(entity.getClass());
+
+		Map<String, Object> values = new LinkedHashMap<>();
+		converter.write(entity, values, persistentEntity);
+
+		List<CqlIdentifier> columns = getPartitionKeyColumns(persistentEntity);
+		List<Object> partitionKey = new ArrayList<>(columns.size());
+
+		columns.forEach(column -> partitionKey.add(values.get(column.toCql())));
+
+		return partitionKey;
+	}
+
+	/**
+	 * Returns the routing key of the given {@code entity}. The routing key is composed from the serialized partition key
+	 * values.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the routing key or {@literal null} if a partition key value is {@literal null} or cannot be serialized.
+	 */
+	public ByteBuffer getRoutingKey(Object entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = converter.getMappingContext()
+				.getRequiredPersistentEntity(entity.getClass());
+		PersistentPropertyAccessor accessor = persistentEntity.getPropertyAccessor(entity);
+
+		return getRoutingKey(persistentEntity, property -> {
+
+			if (property.compositePrimaryKey == null) {
+				return accessor.getProperty(property.property).orElse(null);
+			}
+
+			return accessor.getProperty(property.compositePrimaryKey) //
+					.map(key -> getPropertyValue(key, property.property)) //
+					.orElse(null);
+		});
+	}
+
+	/**
+	 * Returns the routing key for an entity identified by {@code id}. The {@code id} can be an entity instance, a
+	 * {@link MapId}, an instance of the composite primary key class or a simple id value.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return the routing key or {@literal null} if {@code id} does not contain all partition key values.
+	 */
+	public ByteBuffer getRoutingKeyForId(Object id, CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(id, "Id must not be null");
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+
+		if (ClassUtils.isAssignableValue(entity.getType(), id)) {
+			return getRoutingKey(id);
+		}
+
+		Object idToUse = id instanceof MapIdentifiable ? ((MapIdentifiable) id).getMapId() : id;
+
+		if (idToUse instanceof MapId) {
+
+			MapId mapId = (MapId) idToUse;
+
+			return getRoutingKey(entity, property -> mapId.get(property.property.getName()));
+		}
+
+		Optional<CassandraPersistentProperty> compositePrimaryKey = entity.getIdProperty()
+				.filter(CassandraPersistentProperty::isCompositePrimaryKey);
+
+		if (compositePrimaryKey.isPresent()) {
+
+			return ClassUtils.isAssignableValue(compositePrimaryKey.get().getType(), idToUse)
+					? getRoutingKey(entity, property -> getPropertyValue(idToUse, property.property)) : null;
+		}
+
+		return getRoutingKey(entity, property -> property.property.isIdProperty() ? idToUse : null);
+	}
+
+	/**
+	 * Returns the routing key given converted {@code columnValues} keyed by their CQL column name.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param columnValues must not be {@literal null}.
+	 * @return the routing key or {@literal null} if {@code columnValues} does not contain all partition key values.
+	 */
+	public ByteBuffer getRoutingKey(CassandraPersistentEntity<?> entity, Map<String, Object> columnValues) {
+
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+		Assert.notNull(columnValues, "Column values must not be null");
+
+		List<PartitionKeyProperty> properties = getPartitionKeyProperties(entity);
+		ByteBuffer[] components = new ByteBuffer[properties.size()];
+
+		for (int index = 0; index < components.length; index++) {
+
+			CassandraPersistentProperty property = properties.get(index).property;
+
+			components[index] = serialize(property, columnValues.get(property.getColumnName().toCql()));
+
+			if (components[index] == null) {
+				return null;
+			}
+		}
+
+		return compose(components);
+	}
+
+	private ByteBuffer getRoutingKey(CassandraPersistentEntity<?> entity,
+			Function<PartitionKeyProperty, Object> valueFunction) {
+
+		List<PartitionKeyProperty> properties = getPartitionKeyProperties(entity);
+		ByteBuffer[] components = new ByteBuffer[properties.size()];
+
+		for (int index = 0; index < components.length; index++) {
+
+			PartitionKeyProperty property = properties.get(index);
+			Object value = converter
+					.convertToColumnType(Optional.ofNullable(valueFunction.apply(property)),
+							property.property.getTypeInformation())
+					.orElse(null);
+
+			components[index] = serialize(property.property, value);
+
+			if (components[index] == null) {
+				return null;
+			}
+		}
+
+		return compose(components);
+	}
+
+	private Object getPropertyValue(Object source, CassandraPersistentProperty property) {
+
+		return converter.getMappingContext().getRequiredPersistentEntity(source.getClass()).getPropertyAccessor(source)
+				.getProperty(property).orElse(null);
+	}
+
+	/**
+	 * Serialize a converted partition key value. Routing keys are a hint for load balancing so values that cannot be
+	 * serialized do not fail the statement but leave it without a routing key.
+	 */
+	private ByteBuffer serialize(CassandraPersistentProperty property, Object value) {
+
+		if (value == null) {
+			return null;
+		}
+
+		try {
+
+			DataType dataType = converter.getMappingContext().getDataType(property);
+			TypeCodec<Object> codec = getCodecRegistry().codecFor(dataType, value);
+
+			return codec.serialize(value, isProtocolVersionDependent(dataType) ? getProtocolVersion()
+					: ProtocolVersion.NEWEST_SUPPORTED);
+		} catch (DriverException e) {
+			return null;
+		}
+	}
+
+	private CodecRegistry getCodecRegistry() {
+
+		return converter instanceof MappingCassandraConverter
+				? ((MappingCassandraConverter) converter).getCodecRegistry() : CodecRegistry.DEFAULT_INSTANCE;
+	}
+
+	private ProtocolVersion getProtocolVersion() {
+
+		ProtocolVersion protocolVersion = this.protocolVersion;
+
+		if (protocolVersion == null) {
+
+			protocolVersion = protocolVersionSupplier.get();
+
+			if (protocolVersion == null) {
+				return ProtocolVersion.NEWEST_SUPPORTED;
+			}
+
+			this.protocolVersion = protocolVersion;
+		}
+
+		return protocolVersion;
+	}
+
+	/**
+	 * The encoding of primitive values is the same for all protocol versions. Collections, tuples and user-defined types
+	 * encode element sizes depending on the protocol version.
+	 */
+	private static boolean isProtocolVersionDependent(DataType dataType) {
+		return dataType.isCollection() || dataType.getName() == DataType.Name.TUPLE
+				|| dataType.getName() == DataType.Name.UDT;
+	}
+
+	/**
+	 * Compose routing key components using the composite partition key format: each component is prefixed with its
+	 * length as unsigned short and followed by a zero byte.
+	 */
+	private static ByteBuffer compose(ByteBuffer[] components) {
+
+		if (components.length == 1) {
+			return components[0];
+		}
+
+		int size = 0;
+
+		for (ByteBuffer component : components) {
+			size += 2 + component.remaining() + 1;
+		}
+
+		ByteBuffer routingKey = ByteBuffer.allocate(size);
+
+		for (ByteBuffer component : components) {
+			routingKey.putShort((short) component.remaining());
+			routingKey.put(component.duplicate());
+			routingKey.put((byte) 0);
+		}
+
+		routingKey.flip();
+
+		return routingKey;
+	}
+
+	private List<PartitionKeyProperty> getPartitionKeyProperties(CassandraPersistentEntity<?> entity) {
+		return partitionKeyProperties.computeIfAbsent(entity,
+				it -> Collections.unmodifiableList(resolvePartitionKeyProperties(it, null)));
+	}
+
+	private List<PartitionKeyProperty> resolvePartitionKeyProperties(CassandraPersistentEntity<?> entity,
+			CassandraPersistentProperty compositePrimaryKey) {
+
+		List<PartitionKeyProperty> partitionKeyProperties = new ArrayList<>();
+		List<PartitionKeyProperty> idProperties = new ArrayList<>();
+
+		entity.getPersistentProperties().forEach(property -> {
+
+			if (property.isCompositePrimaryKey()) {
+
+				partitionKeyProperties.addAll(resolvePartitionKeyProperties(
+						converter.getMappingContext().getRequiredPersistentEntity(property), property));
+
+				return;
+			}
+
+			if (property.isPartitionKeyColumn()) {
+				partitionKeyProperties.add(new PartitionKeyProperty(compositePrimaryKey, property));
+			} else if (property.isIdProperty()) {
+				idProperties.add(new PartitionKeyProperty(compositePrimaryKey, property));
+			}
+		});
+
+		return partitionKeyProperties.isEmpty() ? idProperties : partitionKeyProperties;
+	}
+
+	/**
+	 * Partition key property along with the composite primary key property declaring it, if any.
+	 */
+	private static class PartitionKeyProperty {
+
+		final CassandraPersistentProperty compositePrimaryKey;
+		final CassandraPersistentProperty property;
+
+		PartitionKeyProperty(CassandraPersistentProperty compositePrimaryKey, CassandraPersistentProperty property) {
+			this.compositePrimaryKey = compositePrimaryKey;
+			this.property = property;
+		}
+	}
+}
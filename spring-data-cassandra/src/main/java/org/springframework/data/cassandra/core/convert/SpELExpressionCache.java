@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.mapping.model.SpELContext;
+import org.springframework.data.mapping.model.SpELExpressionEvaluator;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.util.Assert;
+
+/**
+ * Cache of parsed SpEL {@link Expression}s used to evaluate {@link org.springframework.beans.factory.annotation.Value}
+ * expressions of mapped properties. Expressions are parsed once per expression string and evaluated in
+ * {@link SpelCompilerMode#MIXED mixed} mode: SpEL compiles expressions that are evaluated repeatedly and falls back to
+ * interpreted evaluation for expressions (or evaluation contexts) that cannot be compiled.
+ *
+ * @since 2.0
+ */
+class SpELExpressionCache {
+
+	private final SpelExpressionParser parser;
+
+	private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link SpELExpressionCache} compiling expressions with the given {@link ClassLoader}.
+	 *
+	 * @param classLoader may be {@literal null} to use the default {@link ClassLoader}.
+	 */
+	SpELExpressionCache(ClassLoader classLoader) {
+		this.parser = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED, classLoader));
+	}
+
+	/**
+	 * Obtain the parsed {@link Expression} for {@code expressionString}.
+	 *
+	 * @param expressionString must not be {@literal null}.
+	 * @return the parsed {@link Expression}.
+	 */
+	Expression getExpression(String expressionString) {
+
+		Assert.notNull(expressionString, "Expression must not be null");
+
+		return expressions.computeIfAbsent(expressionString, parser::parseExpression);
+	}
+
+	/**
+	 * Create a {@link SpELExpressionEvaluator} evaluating cached expressions against {@code source}. The
+	 * {@link EvaluationContext} is created on first evaluation and shared by subsequent evaluations.
+	 *
+	 * @param source the root object, may be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @return the {@link SpELExpressionEvaluator}.
+	 */
+	SpELExpressionEvaluator getEvaluator(Object source, SpELContext context) {
+
+		Assert.notNull(context, "SpELContext must not be null");
+
+		return new CachingExpressionEvaluator(source, context);
+	}
+
+	private class CachingExpressionEvaluator implements SpELExpressionEvaluator {
+
+		private final Object source;
+
+		private final SpELContext context;
+
+		private EvaluationContext evaluationContext;
+
+		CachingExpressionEvaluator(Object source, SpELContext context) {
+			this.source = source;
+			this.context = context;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.mapping.model.SpELExpressionEvaluator#evaluate(java.lang.String)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T evaluate(String expression) {
+
+			if (evaluationContext == null) {
+				evaluationContext = context.getEvaluationContext(source);
+			}
+
+			return (T) getExpression(expression).getValue(evaluationContext);
+		}
+	}
+}
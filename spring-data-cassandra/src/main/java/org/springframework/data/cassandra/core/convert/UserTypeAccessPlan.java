@@ -0,0 +1,186 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.TypeCodec;
+import com.datastax.driver.core.UDTValue;
+import com.datastax.driver.core.UserType;
+
+/**
+ * Field access plan for {@link UDTValue}s of the same {@link UserType}. Resolves field indexes of
+ * {@link CassandraPersistentProperty properties} and {@link TypeCodec codecs} for fields once so that reading and
+ * writing a {@link UDTValue} requires only index-based access.
+ * <p>
+ * Plans are bound to a particular {@link UserType}, see {@link #isFor(UserType)}. Properties of a Java type with a
+ * {@link TypeCodec} registered in {@link CassandraCustomConversions} are read and written using that codec.
+ *
+ * @since 2.0
+ */
+class UserTypeAccessPlan {
+
+	private final UserType userType;
+
+	private final CodecRegistry codecRegistry;
+
+	private final List<String> fieldNames = new ArrayList<>();
+
+	private final List<DataType> fieldTypes = new ArrayList<>();
+
+	private final Map<CassandraPersistentProperty, Integer> indexes = new ConcurrentHashMap<>();
+
+	private final TypeCodec<?>[] codecs;
+
+	private final CassandraCustomConversions conversions;
+
+	private final Map<CassandraPersistentProperty, Optional<TypeCodec<?>>> customCodecs = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link UserTypeAccessPlan} for {@link UserType} and {@link CodecRegistry}.
+	 *
+	 * @param userType must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 */
+	UserTypeAccessPlan(UserType userType, CodecRegistry codecRegistry) {
+		this(userType, codecRegistry, null);
+	}
+
+	/**
+	 * Create a new {@link UserTypeAccessPlan} for {@link UserType}, {@link CodecRegistry} and
+	 * {@link CassandraCustomConversions} providing custom {@link TypeCodec}s.
+	 *
+	 * @param userType must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 * @param conversions may be {@literal null}.
+	 */
+	UserTypeAccessPlan(UserType userType, CodecRegistry codecRegistry, CassandraCustomConversions conversions) {
+
+		Assert.notNull(userType, "UserType must not be null");
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null");
+
+		this.userType = userType;
+		this.codecRegistry = codecRegistry;
+		this.conversions = conversions;
+
+		userType.forEach(field -> {
+			fieldNames.add(field.getName());
+			fieldTypes.add(field.getType());
+		});
+
+		this.codecs = new TypeCodec<?>[fieldNames.size()];
+	}
+
+	/**
+	 * @param userType the {@link UserType} to check.
+	 * @return {@literal true} if this plan was created for the given or an equal {@link UserType}.
+	 */
+	boolean isFor(UserType userType) {
+		return this.userType == userType || this.userType.equals(userType);
+	}
+
+	/**
+	 * Resolve the field index for the given {@link CassandraPersistentProperty}.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return the field index or {@code -1} if the field is not part of the {@link UserType}.
+	 */
+	int getIndex(CassandraPersistentProperty property) {
+		return indexes.computeIfAbsent(property, it -> fieldNames.indexOf(it.getColumnName().getUnquoted()));
+	}
+
+	/**
+	 * Read the value of the field mapped by {@link CassandraPersistentProperty} from {@link UDTValue}.
+	 *
+	 * @param udtValue must not be {@literal null}.
+	 * @param property must not be {@literal null}.
+	 * @return the field value, may be {@literal null}.
+	 */
+	Object read(UDTValue udtValue, CassandraPersistentProperty property) {
+
+		int index = getIndex(property);
+
+		if (index == -1) {
+
+			// let the driver report the unknown field
+			String name = property.getColumnName().toCql();
+			return udtValue.get(name, codecRegistry.codecFor(userType.getFieldType(name)));
+		}
+
+		return udtValue.get(index, getCodec(property, index));
+	}
+
+	/**
+	 * Write {@code value} to the field mapped by {@link CassandraPersistentProperty} of {@link UDTValue}.
+	 *
+	 * @param udtValue must not be {@literal null}.
+	 * @param property must not be {@literal null}.
+	 * @param value the value to write, may be {@literal null}.
+	 */
+	void write(UDTValue udtValue, CassandraPersistentProperty property, Object value) {
+
+		int index = getIndex(property);
+
+		if (index == -1) {
+
+			// let the driver report the unknown field
+			String name = property.getColumnName().toCql();
+			udtValue.set(name, value, codecRegistry.<Object> codecFor(userType.getFieldType(name)));
+			return;
+		}
+
+		udtValue.set(index, value, getCodec(property, index));
+	}
+
+	@SuppressWarnings("unchecked")
+	private TypeCodec<Object> getCodec(CassandraPersistentProperty property, int index) {
+
+		if (conversions != null) {
+
+			Optional<TypeCodec<?>> codec = customCodecs.computeIfAbsent(property,
+					it -> conversions.getCodecFor(it, fieldTypes.get(index)));
+
+			if (codec.isPresent()) {
+				return (TypeCodec<Object>) codec.get();
+			}
+		}
+
+		return getCodec(index);
+	}
+
+	@SuppressWarnings("unchecked")
+	private TypeCodec<Object> getCodec(int index) {
+
+		// benign race: codecs are immutable and resolve to the same instance
+		TypeCodec<?> codec = codecs[index];
+
+		if (codec == null) {
+			codec = codecRegistry.codecFor(fieldTypes.get(index));
+			codecs[index] = codec;
+		}
+
+		return (TypeCodec<Object>) codec;
+	}
+}
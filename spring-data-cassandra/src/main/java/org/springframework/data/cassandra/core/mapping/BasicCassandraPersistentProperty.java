@@ -17,6 +17,7 @@ package org.springframework.data.cassandra.core.mapping;
 
 import static org.springframework.data.cql.core.CqlIdentifier.*;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -61,6 +62,25 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 
 	private final UserTypeResolver userTypeResolver;
 
+	private final boolean compositePrimaryKey;
+
+	private final boolean primaryKeyColumn;
+
+	private final boolean partitionKeyColumn;
+
+	private final boolean clusterKeyColumn;
+
+	private final Optional<Ordering> primaryKeyOrdering;
+
+	private final Optional<CassandraType> cassandraType;
+
+	/**
+	 * Whether the {@link DataType} refers to a {@link UserType} that is resolved from the schema and must not be cached.
+	 */
+	private final boolean userTypeReference;
+
+	private volatile DataType dataType;
+
 	private StandardEvaluationContext spelContext;
 
 	/**
@@ -99,6 +119,17 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 		super(property, owner, simpleTypeHolder);
 
 		this.userTypeResolver = userTypeResolver;
+
+		Optional<PrimaryKeyColumn> primaryKeyColumn = findAnnotation(PrimaryKeyColumn.class);
+
+		this.compositePrimaryKey = AnnotatedElementUtils.findMergedAnnotation(getType(), PrimaryKeyClass.class) != null;
+		this.primaryKeyColumn = primaryKeyColumn.isPresent();
+		this.partitionKeyColumn = primaryKeyColumn.filter(it -> PrimaryKeyType.PARTITIONED.equals(it.type())).isPresent();
+		this.clusterKeyColumn = primaryKeyColumn.filter(it -> PrimaryKeyType.CLUSTERED.equals(it.type())).isPresent();
+		this.primaryKeyOrdering = primaryKeyColumn.map(PrimaryKeyColumn::ordering);
+		this.cassandraType = findAnnotation(CassandraType.class);
+		this.userTypeReference = this.cassandraType.filter(
+				it -> it.type() == Name.UDT || Arrays.asList(it.typeArguments()).contains(Name.UDT)).isPresent();
 	}
 
 	/* (non-Javadoc)
@@ -141,7 +172,7 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 	 */
 	@Override
 	public Optional<Ordering> getPrimaryKeyOrdering() {
-		return findAnnotation(PrimaryKeyColumn.class).map(PrimaryKeyColumn::ordering);
+		return this.primaryKeyOrdering;
 	}
 
 	/* (non-Javadoc)
@@ -150,7 +181,13 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 	@Override
 	public DataType getDataType() {
 
-		DataType dataType = findDataType();
+		DataType dataType = this.dataType;
+
+		if (dataType != null) {
+			return dataType;
+		}
+
+		dataType = findDataType();
 
 		if (dataType == null) {
 			throw new InvalidDataAccessApiUsageException(String.format(
@@ -158,12 +195,16 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 					getType(), getName(), getOwner().getName()));
 		}
 
+		if (!this.userTypeReference) {
+			this.dataType = dataType;
+		}
+
 		return dataType;
 	}
 
 	private DataType findDataType() {
 
-		Optional<CassandraType> cassandraType = findAnnotation(CassandraType.class);
+		Optional<CassandraType> cassandraType = this.cassandraType;
 
 		if (cassandraType.isPresent()) {
 			return getDataTypeFor(cassandraType.get());
@@ -281,7 +322,7 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 	 */
 	@Override
 	public boolean isCompositePrimaryKey() {
-		return (AnnotatedElementUtils.findMergedAnnotation(getType(), PrimaryKeyClass.class) != null);
+		return this.compositePrimaryKey;
 	}
 
 	/* (non-Javadoc)
@@ -289,7 +330,7 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 	 */
 	@Override
 	public boolean isPrimaryKeyColumn() {
-		return isAnnotationPresent(PrimaryKeyColumn.class);
+		return this.primaryKeyColumn;
 	}
 
 	/* (non-Javadoc)
@@ -297,9 +338,7 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 	 */
 	@Override
 	public boolean isPartitionKeyColumn() {
-
-		return findAnnotation(PrimaryKeyColumn.class)
-				.filter(primaryKeyColumn -> PrimaryKeyType.PARTITIONED.equals(primaryKeyColumn.type())).isPresent();
+		return this.partitionKeyColumn;
 	}
 
 	/* (non-Javadoc)
@@ -307,9 +346,7 @@ public class BasicCassandraPersistentProperty extends AnnotationBasedPersistentP
 	 */
 	@Override
 	public boolean isClusterKeyColumn() {
-
-		return findAnnotation(PrimaryKeyColumn.class)
-				.filter(primaryKeyColumn -> PrimaryKeyType.CLUSTERED.equals(primaryKeyColumn.type())).isPresent();
+		return this.clusterKeyColumn;
 	}
 
 	private CqlIdentifier determineColumnName() {
@@ -21,13 +21,12 @@ import static org.springframework.data.cql.core.keyspace.CreateTableSpecificatio
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanClassLoaderAware;
@@ -54,6 +53,7 @@ import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
 import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.TypeCodec;
 
 /**
  * Default implementation of a {@link MappingContext} for Cassandra using {@link CassandraPersistentEntity} and
@@ -77,14 +77,20 @@ public class CassandraMappingContext
 
 	private UserTypeResolver userTypeResolver;
 
+	private final Runnable userTypeInvalidationListener = this::onUserTypesInvalidated;
+
 	private ApplicationContext context;
 
 	private ClassLoader beanClassLoader;
 
 	// useful caches
-	private final Map<CqlIdentifier, Set<CassandraPersistentEntity<?>>> entitySetsByTableName = new HashMap<>();
-	private final Set<BasicCassandraPersistentEntity<?>> userDefinedTypes = new HashSet<>();
-	private final Set<BasicCassandraPersistentEntity<?>> tableEntities = new HashSet<>();
+	private final Map<CqlIdentifier, Set<CassandraPersistentEntity<?>>> entitySetsByTableName = new ConcurrentHashMap<>();
+	private final Set<BasicCassandraPersistentEntity<?>> userDefinedTypes = ConcurrentHashMap.newKeySet();
+	private final Set<BasicCassandraPersistentEntity<?>> tableEntities = ConcurrentHashMap.newKeySet();
+
+	// resolved data types, cleared if customConversions or userTypeResolver change
+	private final Map<CassandraPersistentProperty, DataType> propertyDataTypes = new ConcurrentHashMap<>();
+	private final Map<Class<?>, DataType> typeDataTypes = new ConcurrentHashMap<>();
 
 	/**
 	 * Create a new {@link CassandraMappingContext}.
@@ -177,6 +183,8 @@ public class CassandraMappingContext
 		Assert.notNull(customConversions, "CustomConversions must not be null");
 
 		this.customConversions = customConversions;
+
+		clearDataTypeCache();
 	}
 
 	/**
@@ -192,7 +200,9 @@ public class CassandraMappingContext
 	}
 
 	/**
-	 * Sets the {@link UserTypeResolver}.
+	 * Sets the {@link UserTypeResolver}. A {@link SimpleUserTypeResolver} notifies this mapping context when its cached
+	 * user types are discarded so that user-defined type entities re-resolve their {@link com.datastax.driver.core.UserType}
+	 * and cached {@link DataType}s are discarded.
 	 *
 	 * @param userTypeResolver must not be {@literal null}.
 	 * @since 1.5
@@ -201,7 +211,41 @@ public class CassandraMappingContext
 
 		Assert.notNull(userTypeResolver, "UserTypeResolver must not be null");
 
+		if (this.userTypeResolver instanceof SimpleUserTypeResolver) {
+			((SimpleUserTypeResolver) this.userTypeResolver).removeInvalidationListener(userTypeInvalidationListener);
+		}
+
 		this.userTypeResolver = userTypeResolver;
+
+		if (userTypeResolver instanceof SimpleUserTypeResolver) {
+			((SimpleUserTypeResolver) userTypeResolver).addInvalidationListener(userTypeInvalidationListener);
+		}
+
+		clearDataTypeCache();
+	}
+
+	/**
+	 * Discard all cached {@link DataType}s resolved through {@link #getDataType(CassandraPersistentProperty)} and
+	 * {@link #getDataType(Class)}. Data types of properties referencing user-defined types capture the resolved
+	 * {@link com.datastax.driver.core.UserType}, so the cache should be cleared when user types are re-resolved. The cache
+	 * is cleared automatically when a {@link SimpleUserTypeResolver} discards its cached user types.
+	 *
+	 * @since 2.0
+	 */
+	public void clearDataTypeCache() {
+
+		propertyDataTypes.clear();
+		typeDataTypes.clear();
+	}
+
+	private void onUserTypesInvalidated() {
+
+		userDefinedTypes.stream() //
+				.filter(CassandraUserTypePersistentEntity.class::isInstance) //
+				.map(CassandraUserTypePersistentEntity.class::cast) //
+				.forEach(CassandraUserTypePersistentEntity::clearUserType);
+
+		clearDataTypeCache();
 	}
 
 	/**
@@ -254,7 +298,7 @@ public class CassandraMappingContext
 			// now do some caching of the entity
 
 			Set<CassandraPersistentEntity<?>> entities = entitySetsByTableName.computeIfAbsent(entity.getTableName(),
-					cqlIdentifier -> new HashSet<>());
+					cqlIdentifier -> ConcurrentHashMap.newKeySet());
 
 			entities.add(entity);
 
@@ -436,16 +480,29 @@ public class CassandraMappingContext
 
 	/**
 	 * Retrieve the data type of the property. Cassandra {@link DataType types} are determined using simple types and
-	 * configured {@link org.springframework.data.convert.CustomConversions}.
+	 * configured {@link org.springframework.data.convert.CustomConversions}. Resolved types are cached per property.
 	 *
 	 * @param property must not be {@literal null}.
 	 * @return the Cassandra {@link DataType type}.
 	 * @see org.springframework.data.convert.CustomConversions
 	 * @see CassandraSimpleTypeHolder
+	 * @see #clearDataTypeCache()
 	 * @since 1.5
 	 */
 	public DataType getDataType(CassandraPersistentProperty property) {
-		return getDataTypeWithUserTypeFactory(property, DataTypeProvider.EntityUserType);
+
+		DataType dataType = propertyDataTypes.get(property);
+
+		if (dataType == null) {
+
+			dataType = getDataTypeWithUserTypeFactory(property, DataTypeProvider.EntityUserType);
+
+			if (dataType != null) {
+				propertyDataTypes.put(property, dataType);
+			}
+		}
+
+		return dataType;
 	}
 
 	private DataType getDataTypeWithUserTypeFactory(CassandraPersistentProperty property,
@@ -455,6 +512,12 @@ public class CassandraMappingContext
 			return property.getDataType();
 		}
 
+		Optional<DataType> codecDataType = getCodecDataType(property);
+
+		if (codecDataType.isPresent()) {
+			return codecDataType.get();
+		}
+
 		Optional<BasicCassandraPersistentEntity<?>> persistentEntity = getPersistentEntity(property.getActualType());
 
 		if (persistentEntity.filter(CassandraPersistentEntity::isUserDefinedType).isPresent()) {
@@ -498,6 +561,40 @@ public class CassandraMappingContext
 
 	}
 
+	private Optional<DataType> getCodecDataType(CassandraPersistentProperty property) {
+
+		if (property.isMapLike()) {
+			return Optional.empty();
+		}
+
+		return getCodecDataType(property.getActualType()).map(it -> {
+
+			if (property.isCollectionLike()) {
+
+				if (List.class.isAssignableFrom(property.getType())) {
+					return DataType.list(it);
+				}
+
+				if (Set.class.isAssignableFrom(property.getType())) {
+					return DataType.set(it);
+				}
+
+				return null;
+			}
+
+			return it;
+		});
+	}
+
+	private Optional<DataType> getCodecDataType(Class<?> type) {
+
+		if (!(customConversions instanceof CassandraCustomConversions)) {
+			return Optional.empty();
+		}
+
+		return ((CassandraCustomConversions) customConversions).getCodecFor(type).map(TypeCodec::getCqlType);
+	}
+
 	private DataType getDataType(Class<?> type, DataTypeProvider dataTypeProvider) {
 
 		return getPersistentEntity(type) //
@@ -531,19 +628,33 @@ public class CassandraMappingContext
 
 	/**
 	 * Retrieve the data type based on the given {@code type}. Cassandra {@link DataType types} are determined using
-	 * simple types and configured {@link org.springframework.data.convert.CustomConversions}.
+	 * simple types and configured {@link org.springframework.data.convert.CustomConversions}. Resolved types are cached
+	 * per {@code type}.
 	 *
 	 * @param type must not be {@literal null}.
 	 * @return the Cassandra {@link DataType type}.
 	 * @see org.springframework.data.convert.CustomConversions
 	 * @see CassandraSimpleTypeHolder
+	 * @see #clearDataTypeCache()
 	 * @since 1.5
 	 */
 	public DataType getDataType(Class<?> type) {
 
-		return customConversions.getCustomWriteTarget(type) //
-				.map(CassandraSimpleTypeHolder::getDataTypeFor) //
-				.orElseGet(() -> getDataTypeFor(type));
+		DataType dataType = typeDataTypes.get(type);
+
+		if (dataType == null) {
+
+			dataType = getCodecDataType(type) //
+					.orElseGet(() -> customConversions.getCustomWriteTarget(type) //
+							.map(CassandraSimpleTypeHolder::getDataTypeFor) //
+							.orElseGet(() -> getDataTypeFor(type)));
+
+			if (dataType != null) {
+				typeDataTypes.put(type, dataType);
+			}
+		}
+
+		return dataType;
 	}
 
 	/**
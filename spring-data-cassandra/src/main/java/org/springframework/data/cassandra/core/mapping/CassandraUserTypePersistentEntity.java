@@ -98,4 +98,17 @@ public class CassandraUserTypePersistentEntity<T> extends BasicCassandraPersiste
 
 		return userType;
 	}
+
+	/**
+	 * Discard the resolved {@link UserType} so that the next call to {@link #getUserType()} resolves it again. Waits for
+	 * a concurrent resolution to complete so that it cannot overwrite the reset.
+	 *
+	 * @since 2.0
+	 */
+	void clearUserType() {
+
+		synchronized (lock) {
+			this.userType = null;
+		}
+	}
 }
@@ -15,24 +15,42 @@
  */
 package org.springframework.data.cassandra.core.mapping;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.data.cql.core.CqlIdentifier;
 import org.springframework.util.Assert;
 
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.SchemaChangeListener;
+import com.datastax.driver.core.SchemaChangeListenerBase;
 import com.datastax.driver.core.UserType;
 
 /**
  * Default implementation of {@link UserTypeResolver} that resolves {@link UserType} by their name from
  * {@link Cluster#getMetadata()}.
+ * <p>
+ * Resolved {@link UserType}s are cached. The resolver registers a {@link com.datastax.driver.core.SchemaChangeListener}
+ * with the {@link Cluster} that discards cached types as soon as the driver reports a change to user types or
+ * keyspaces, so subsequent lookups reflect the current schema. Components holding on to resolved types can register an
+ * {@link #addInvalidationListener(Runnable) invalidation listener} to be notified when the cache is discarded. The
+ * schema listener is unregistered from the {@link Cluster} on {@link #destroy()}.
  *
  * @author Mark Paluch
  * @since 1.5
  */
-public class SimpleUserTypeResolver implements UserTypeResolver {
+public class SimpleUserTypeResolver implements UserTypeResolver, DisposableBean {
 
 	private final String keyspaceName;
 	private final Cluster cluster;
+	private final SchemaChangeListener schemaChangeListener = new UserTypeInvalidatingListener();
+	private final List<Runnable> invalidationListeners = new CopyOnWriteArrayList<>();
+
+	private volatile Map<CqlIdentifier, UserType> userTypes = new ConcurrentHashMap<>();
 
 	/**
 	 * Create a new {@link SimpleUserTypeResolver}.
@@ -47,6 +65,16 @@ public class SimpleUserTypeResolver implements UserTypeResolver {
 
 		this.keyspaceName = keyspaceName;
 		this.cluster = cluster;
+
+		cluster.register(schemaChangeListener);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+		cluster.unregister(schemaChangeListener);
 	}
 
 	/* (non-Javadoc)
@@ -55,8 +83,108 @@ public class SimpleUserTypeResolver implements UserTypeResolver {
 	@Override
 	public UserType resolveType(CqlIdentifier typeName) {
 
+		// Hold on to the current cache instance: a concurrent invalidation replaces it so that types resolved from
+		// outdated metadata do not end up in the cache.
+		Map<CqlIdentifier, UserType> userTypes = this.userTypes;
+		UserType userType = userTypes.get(typeName);
+
+		if (userType != null) {
+			return userType;
+		}
+
 		KeyspaceMetadata keyspace = cluster.getMetadata().getKeyspace(keyspaceName);
 
-		return keyspace.getUserType(typeName.toCql());
+		userType = keyspace.getUserType(typeName.toCql());
+
+		if (userType != null) {
+			userTypes.put(typeName, userType);
+		}
+
+		return userType;
+	}
+
+	/**
+	 * Register a {@link Runnable} to be called after cached {@link UserType}s were discarded.
+	 *
+	 * @param listener must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public void addInvalidationListener(Runnable listener) {
+
+		Assert.notNull(listener, "Listener must not be null");
+
+		invalidationListeners.add(listener);
+	}
+
+	/**
+	 * Remove a previously registered invalidation {@link Runnable}.
+	 *
+	 * @param listener must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public void removeInvalidationListener(Runnable listener) {
+
+		Assert.notNull(listener, "Listener must not be null");
+
+		invalidationListeners.remove(listener);
+	}
+
+	/**
+	 * Discard all cached {@link UserType}s and notify registered invalidation listeners.
+	 *
+	 * @since 2.0
+	 */
+	public void clear() {
+
+		this.userTypes = new ConcurrentHashMap<>();
+
+		invalidationListeners.forEach(Runnable::run);
+	}
+
+	/**
+	 * {@link com.datastax.driver.core.SchemaChangeListener} discarding cached {@link UserType}s on user type and keyspace
+	 * changes. The driver updates its metadata before notifying listeners.
+	 */
+	private class UserTypeInvalidatingListener extends SchemaChangeListenerBase {
+
+		/* (non-Javadoc)
+		 * @see com.datastax.driver.core.SchemaChangeListenerBase#onUserTypeAdded(com.datastax.driver.core.UserType)
+		 */
+		@Override
+		public void onUserTypeAdded(UserType type) {
+			clear();
+		}
+
+		/* (non-Javadoc)
+		 * @see com.datastax.driver.core.SchemaChangeListenerBase#onUserTypeRemoved(com.datastax.driver.core.UserType)
+		 */
+		@Override
+		public void onUserTypeRemoved(UserType type) {
+			clear();
+		}
+
+		/* (non-Javadoc)
+		 * @see com.datastax.driver.core.SchemaChangeListenerBase#onUserTypeChanged(com.datastax.driver.core.UserType, com.datastax.driver.core.UserType)
+		 */
+		@Override
+		public void onUserTypeChanged(UserType current, UserType previous) {
+			clear();
+		}
+
+		/* (non-Javadoc)
+		 * @see com.datastax.driver.core.SchemaChangeListenerBase#onKeyspaceRemoved(com.datastax.driver.core.KeyspaceMetadata)
+		 */
+		@Override
+		public void onKeyspaceRemoved(KeyspaceMetadata keyspace) {
+			clear();
+		}
+
+		/* (non-Javadoc)
+		 * @see com.datastax.driver.core.SchemaChangeListenerBase#onKeyspaceChanged(com.datastax.driver.core.KeyspaceMetadata, com.datastax.driver.core.KeyspaceMetadata)
+		 */
+		@Override
+		public void onKeyspaceChanged(KeyspaceMetadata current, KeyspaceMetadata previous) {
+			clear();
+		}
 	}
 }
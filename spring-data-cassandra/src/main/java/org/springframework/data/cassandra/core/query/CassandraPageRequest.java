@@ -0,0 +1,180 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.query;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.driver.core.PagingState;
+
+/**
+ * Cassandra-specific {@link PageRequest} carrying a driver {@link PagingState}. Cassandra does not support offsets so
+ * pages can only be traversed forward. The first page is requested without a {@link PagingState}, subsequent pages are
+ * requested by {@link #next() advancing} the {@link CassandraPageRequest} returned along with a
+ * {@link org.springframework.data.domain.Slice} that holds the {@link PagingState} pointing at the next page.
+ * <p>
+ * The page size translates to the statement fetch size.
+ *
+ * @since 2.0
+ */
+public class CassandraPageRequest extends PageRequest {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient PagingState pagingState;
+
+	private CassandraPageRequest(int page, int size, Sort sort, PagingState pagingState) {
+
+		super(page, size, sort);
+
+		Assert.isTrue(page == 0 || pagingState != null, "PagingState must not be null for pages other than the first one");
+
+		this.pagingState = pagingState;
+	}
+
+	/**
+	 * Create a {@link CassandraPageRequest} for the first page with the given {@code size}.
+	 *
+	 * @param size the page size, must be greater than zero.
+	 * @return the {@link CassandraPageRequest} for the first page.
+	 */
+	public static CassandraPageRequest first(int size) {
+		return first(size, Sort.unsorted());
+	}
+
+	/**
+	 * Create a {@link CassandraPageRequest} for the first page with the given {@code size} and {@link Sort}.
+	 *
+	 * @param size the page size, must be greater than zero.
+	 * @param sort must not be {@literal null}.
+	 * @return the {@link CassandraPageRequest} for the first page.
+	 */
+	public static CassandraPageRequest first(int size, Sort sort) {
+
+		Assert.notNull(sort, "Sort must not be null");
+
+		return new CassandraPageRequest(0, size, sort, null);
+	}
+
+	/**
+	 * Create a {@link CassandraPageRequest} for the given {@link Pageable} resuming at {@link PagingState}.
+	 *
+	 * @param pageable must not be {@literal null}.
+	 * @param pagingState may be {@literal null} for the first page.
+	 * @return the {@link CassandraPageRequest}.
+	 */
+	public static CassandraPageRequest of(Pageable pageable, PagingState pagingState) {
+
+		Assert.notNull(pageable, "Pageable must not be null");
+
+		return new CassandraPageRequest(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), pagingState);
+	}
+
+	/**
+	 * Validate that the given {@link Pageable} can be used to query Cassandra. Pages other than the first one require a
+	 * {@link CassandraPageRequest} carrying a {@link PagingState}.
+	 *
+	 * @param pageable must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@code pageable} requests a page that cannot be reached.
+	 */
+	public static void validatePageable(Pageable pageable) {
+
+		Assert.notNull(pageable, "Pageable must not be null");
+
+		if (pageable.getPageNumber() > 0 && !(pageable instanceof CassandraPageRequest
+				&& ((CassandraPageRequest) pageable).getPagingState() != null)) {
+			throw new IllegalArgumentException(String.format(
+					"Cannot request page %d without a PagingState; Use the CassandraPageRequest returned with the previous Slice",
+					pageable.getPageNumber()));
+		}
+	}
+
+	/**
+	 * @return the {@link PagingState} to resume the query at, may be {@literal null} for the first page.
+	 */
+	public PagingState getPagingState() {
+		return this.pagingState;
+	}
+
+	/**
+	 * @return {@literal true} if a {@link PagingState} is available to request a next page.
+	 */
+	public boolean hasNext() {
+		return this.pagingState != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#next()
+	 */
+	@Override
+	public CassandraPageRequest next() {
+
+		Assert.state(hasNext(), "Cannot create a next page request without a PagingState");
+
+		return new CassandraPageRequest(getPageNumber() + 1, getPageSize(), getSort(), this.pagingState);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#first()
+	 */
+	@Override
+	public CassandraPageRequest first() {
+		return new CassandraPageRequest(0, getPageSize(), getSort(), null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof CassandraPageRequest) || !super.equals(obj)) {
+			return false;
+		}
+
+		return ObjectUtils.nullSafeEquals(String.valueOf(this.pagingState),
+				String.valueOf(((CassandraPageRequest) obj).pagingState));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + String.valueOf(this.pagingState).hashCode();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("Cassandra page request [number: %d, size %d, sort: %s, paging state: %s]", getPageNumber(),
+				getPageSize(), getSort(), this.pagingState);
+	}
+}
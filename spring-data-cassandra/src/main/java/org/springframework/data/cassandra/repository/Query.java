@@ -43,4 +43,14 @@ public @interface Query {
 	 * @return
 	 */
 	String value() default "";
+
+	/**
+	 * Whether to execute the query as prepared statement. The query is prepared once per session and keyspace and
+	 * parameters are bound to the prepared statement on each invocation. Disable preparation for queries that are
+	 * executed rarely or whose CQL text varies between invocations to not fill the prepared statement cache.
+	 *
+	 * @return {@literal true} to execute the query as prepared statement.
+	 * @since 2.0
+	 */
+	boolean prepared() default true;
 }
@@ -37,6 +37,7 @@ import org.springframework.data.cassandra.repository.query.CassandraQueryExecuti
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.ResultProcessingExecution;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.ResultSetQuery;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.SingleEntityExecution;
+import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.SlicedExecution;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.StreamExecution;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.convert.EntityInstantiators;
@@ -132,10 +133,10 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 
 		ResultProcessor resultProcessor = getQueryMethod().getResultProcessor().withDynamicProjection(parameterAccessor);
 
-		Statement statement = createQuery(parameterAccessor);
+		CassandraQueryExecution queryExecution = getExecution(parameterAccessor, new ResultProcessingConverter(
+				resultProcessor, getOperations().getConverter().getMappingContext(), getEntityInstantiators()));
 
-		CassandraQueryExecution queryExecution = getExecution(new ResultProcessingConverter(resultProcessor,
-				getOperations().getConverter().getMappingContext(), getEntityInstantiators()));
+		Statement statement = prepareQuery(parameterAccessor);
 
 		CassandraReturnedType returnedType = new CassandraReturnedType(resultProcessor.getReturnedType(),
 				getOperations().getConverter().getCustomConversions());
@@ -150,13 +151,17 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 	 *
 	 * @param resultProcessing must not be {@literal null}. @return
 	 */
-	private CassandraQueryExecution getExecution(Converter<Object, Object> resultProcessing) {
-		return new ResultProcessingExecution(getExecutionToWrap(resultProcessing), resultProcessing);
+	private CassandraQueryExecution getExecution(CassandraParameterAccessor parameterAccessor,
+			Converter<Object, Object> resultProcessing) {
+		return new ResultProcessingExecution(getExecutionToWrap(parameterAccessor, resultProcessing), resultProcessing);
 	}
 
-	private CassandraQueryExecution getExecutionToWrap(Converter<Object, Object> resultProcessing) {
+	private CassandraQueryExecution getExecutionToWrap(CassandraParameterAccessor parameterAccessor,
+			Converter<Object, Object> resultProcessing) {
 
-		if (getQueryMethod().isCollectionQuery()) {
+		if (getQueryMethod().isSliceQuery()) {
+			return new SlicedExecution(getOperations(), parameterAccessor.getPageable());
+		} else if (getQueryMethod().isCollectionQuery()) {
 			return new CollectionExecution(getOperations());
 		} else if (getQueryMethod().isResultSetQuery()) {
 			return new ResultSetQuery(getOperations());
@@ -252,6 +257,19 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 	 */
 	protected abstract Statement createQuery(CassandraParameterAccessor accessor);
 
+	/**
+	 * Create the {@link Statement} to execute using the given {@link CassandraParameterAccessor}. Subclasses may override
+	 * this method to execute the query as {@link com.datastax.driver.core.BoundStatement}. Returns the {@link Statement}
+	 * created by {@link #createQuery(CassandraParameterAccessor)} by default.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return the {@link Statement} to execute.
+	 * @since 2.0
+	 */
+	protected Statement prepareQuery(CassandraParameterAccessor accessor) {
+		return createQuery(accessor);
+	}
+
 	@RequiredArgsConstructor
 	private class CassandraReturnedType {
 
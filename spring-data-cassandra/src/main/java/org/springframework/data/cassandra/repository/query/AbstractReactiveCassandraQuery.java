@@ -26,6 +26,7 @@ import org.springframework.data.cassandra.repository.query.ReactiveCassandraQuer
 import org.springframework.data.cassandra.repository.query.ReactiveCassandraQueryExecution.ResultProcessingConverter;
 import org.springframework.data.cassandra.repository.query.ReactiveCassandraQueryExecution.ResultProcessingExecution;
 import org.springframework.data.cassandra.repository.query.ReactiveCassandraQueryExecution.SingleEntityExecution;
+import org.springframework.data.cassandra.repository.query.ReactiveCassandraQueryExecution.SlicedExecution;
 import org.springframework.data.convert.EntityInstantiators;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
@@ -109,20 +110,25 @@ public abstract class AbstractReactiveCassandraQuery implements RepositoryQuery
 		CassandraParameterAccessor convertingParameterAccessor = new ConvertingParameterAccessor(
 				getReactiveCassandraOperations().getConverter(), parameterAccessor);
 
-		Statement statement = createQuery(convertingParameterAccessor);
+		Mono<Statement> statement = prepareQuery(convertingParameterAccessor);
 
 		ResultProcessor resultProcessor = getQueryMethod().getResultProcessor()
 				.withDynamicProjection(convertingParameterAccessor);
 
-		ReactiveCassandraQueryExecution queryExecution = getExecution(new ResultProcessingConverter(resultProcessor,
-				getReactiveCassandraOperations().getConverter().getMappingContext(), getEntityInstantiators()));
+		ReactiveCassandraQueryExecution queryExecution = getExecution(convertingParameterAccessor,
+				new ResultProcessingConverter(resultProcessor,
+						getReactiveCassandraOperations().getConverter().getMappingContext(), getEntityInstantiators()));
 
 		CassandraReturnedType returnedType = new CassandraReturnedType(resultProcessor.getReturnedType(),
 				getReactiveCassandraOperations().getConverter().getCustomConversions());
 
 		Class<?> resultType = (returnedType.isProjecting() ? returnedType.getDomainType() : returnedType.getReturnedType());
 
-		return queryExecution.execute(statement, resultType);
+		if (getQueryMethod().isCollectionQuery()) {
+			return statement.flatMapMany(it -> (Publisher<?>) queryExecution.execute(it, resultType));
+		}
+
+		return statement.flatMap(it -> (Mono<?>) queryExecution.execute(it, resultType));
 	}
 
 	/**
@@ -132,17 +138,36 @@ public abstract class AbstractReactiveCassandraQuery implements RepositoryQuery
 	 */
 	protected abstract Statement createQuery(CassandraParameterAccessor accessor);
 
+	/**
+	 * Create the {@link Statement} to execute using the given {@link CassandraParameterAccessor}. Subclasses may override
+	 * this method to execute the query as {@link com.datastax.driver.core.BoundStatement}. Emits the {@link Statement}
+	 * created by {@link #createQuery(CassandraParameterAccessor)} by default.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return a {@link Mono} emitting the {@link Statement} to execute.
+	 * @since 2.0
+	 */
+	protected Mono<Statement> prepareQuery(CassandraParameterAccessor accessor) {
+		return Mono.just(createQuery(accessor));
+	}
+
 	/**
 	 * Returns the execution instance to use.
 	 *
 	 * @param resultProcessing must not be {@literal null}. @return
 	 */
-	private ReactiveCassandraQueryExecution getExecution(Converter<Object, Object> resultProcessing) {
-		return new ResultProcessingExecution(getExecutionToWrap(), resultProcessing);
+	private ReactiveCassandraQueryExecution getExecution(CassandraParameterAccessor parameterAccessor,
+			Converter<Object, Object> resultProcessing) {
+		return new ResultProcessingExecution(getExecutionToWrap(parameterAccessor), resultProcessing);
 	}
 
 	/* (non-Javadoc) */
-	private ReactiveCassandraQueryExecution getExecutionToWrap() {
+	private ReactiveCassandraQueryExecution getExecutionToWrap(CassandraParameterAccessor parameterAccessor) {
+
+		if (getQueryMethod().isSliceQuery()) {
+			return new SlicedExecution(getReactiveCassandraOperations(), parameterAccessor.getPageable());
+		}
+
 		return (getQueryMethod().isCollectionQuery() ? new CollectionExecution(getReactiveCassandraOperations())
 				: new SingleEntityExecution(getReactiveCassandraOperations()));
 	}
@@ -22,7 +22,11 @@ import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.query.CassandraPageRequest;
 import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
@@ -60,6 +64,76 @@ interface CassandraQueryExecution {
 		}
 	}
 
+	/**
+	 * {@link CassandraQueryExecution} for {@link Slice} queries. Reads a single page of results sized by the
+	 * {@link Pageable} and resumes at the {@link com.datastax.driver.core.PagingState} of a {@link CassandraPageRequest}.
+	 */
+	final class SlicedExecution implements CassandraQueryExecution {
+
+		private final CassandraOperations operations;
+		private final Pageable pageable;
+
+		/**
+		 * Create a new {@link SlicedExecution}. Validates the {@link Pageable} before the query is created.
+		 *
+		 * @param operations must not be {@literal null}.
+		 * @param pageable must not be {@literal null}.
+		 */
+		SlicedExecution(@NonNull CassandraOperations operations, @NonNull Pageable pageable) {
+
+			CassandraPageRequest.validatePageable(pageable);
+
+			this.operations = operations;
+			this.pageable = pageable;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 */
+		@Override
+		public Object execute(Statement statement, Class<?> type) {
+
+			Slice<?> slice = operations.slice(CassandraQueryExecution.applyPageable(statement, pageable), type);
+
+			return CassandraQueryExecution.withPageable(slice, pageable);
+		}
+	}
+
+	/**
+	 * Apply page size and {@link com.datastax.driver.core.PagingState} of the given {@link Pageable} to
+	 * {@link Statement}.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return the {@link Statement}.
+	 */
+	static Statement applyPageable(Statement statement, Pageable pageable) {
+
+		statement.setFetchSize(pageable.getPageSize());
+
+		if (pageable instanceof CassandraPageRequest && ((CassandraPageRequest) pageable).getPagingState() != null) {
+			statement.setPagingState(((CassandraPageRequest) pageable).getPagingState());
+		}
+
+		return statement;
+	}
+
+	/**
+	 * Retain page number and {@link org.springframework.data.domain.Sort} of the requested {@link Pageable} in the
+	 * resulting {@link Slice}.
+	 *
+	 * @param slice must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return the {@link Slice}.
+	 */
+	static <T> Slice<T> withPageable(Slice<T> slice, Pageable pageable) {
+
+		CassandraPageRequest current = (CassandraPageRequest) slice.getPageable();
+
+		return new SliceImpl<>(slice.getContent(), CassandraPageRequest.of(pageable, current.getPagingState()),
+				slice.hasNext());
+	}
+
 	/**
 	 * {@link CassandraQueryExecution} for collection returning queries.
 	 *
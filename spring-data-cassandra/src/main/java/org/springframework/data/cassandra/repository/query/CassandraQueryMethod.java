@@ -74,14 +74,14 @@ public class CassandraQueryMethod extends QueryMethod {
 	}
 
 	/**
-	 * Validates that this query is not a page or slice query.
+	 * Validates that this query is not a page query. Cassandra cannot count results efficiently so paged queries are
+	 * supported only as {@link org.springframework.data.domain.Slice} queries.
 	 */
 	@SuppressWarnings("unused")
 	public void verify(Method method, RepositoryMetadata metadata) {
 
-		// TODO: support Page & Slice queries
-		if (isSliceQuery() || isPageQuery()) {
-			throw new InvalidDataAccessApiUsageException("Slice and Page queries are not supported");
+		if (isPageQuery()) {
+			throw new InvalidDataAccessApiUsageException("Page queries are not supported. Use a Slice query.");
 		}
 	}
 
@@ -165,6 +165,20 @@ public class CassandraQueryMethod extends QueryMethod {
 				.filter(StringUtils::hasText);
 	}
 
+	/**
+	 * Returns whether the query should be executed as prepared statement. Queries are prepared unless preparation is
+	 * disabled with {@link Query#prepared()}.
+	 *
+	 * @return {@literal true} if the query should be executed as prepared statement.
+	 * @since 2.0
+	 */
+	public boolean isPreparedQuery() {
+
+		Query queryAnnotation = getQueryAnnotation();
+
+		return queryAnnotation == null || queryAnnotation.prepared();
+	}
+
 	/**
 	 * Returns the {@link Query} annotation that is applied to the method or {@code null} if none available.
 	 *
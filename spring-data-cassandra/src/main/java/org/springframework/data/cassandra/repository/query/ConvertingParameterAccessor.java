@@ -20,6 +20,7 @@ import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.mapping.CassandraSimpleTypeHolder;
@@ -48,11 +49,15 @@ class ConvertingParameterAccessor implements CassandraParameterAccessor {
 
 	private final CassandraConverter converter;
 
+	private final CodecRegistry codecRegistry;
+
 	private final CassandraParameterAccessor delegate;
 
 	ConvertingParameterAccessor(CassandraConverter converter, CassandraParameterAccessor delegate) {
 
 		this.converter = converter;
+		this.codecRegistry = converter instanceof MappingCassandraConverter
+				? ((MappingCassandraConverter) converter).getCodecRegistry() : CodecRegistry.DEFAULT_INSTANCE;
 		this.delegate = delegate;
 	}
 
@@ -159,7 +164,7 @@ class ConvertingParameterAccessor implements CassandraParameterAccessor {
 			Optional<CassandraPersistentProperty> property) {
 
 		if (delegate.findCassandraType(index) != null) {
-			TypeCodec<?> typeCodec = CodecRegistry.DEFAULT_INSTANCE.codecFor(getDataType(index, property));
+			TypeCodec<?> typeCodec = codecRegistry.codecFor(getDataType(index, property));
 
 			if (typeCodec.getJavaType().getType() instanceof Class<?>) {
 				return ClassTypeInformation.from((Class<?>) typeCodec.getJavaType().getType());
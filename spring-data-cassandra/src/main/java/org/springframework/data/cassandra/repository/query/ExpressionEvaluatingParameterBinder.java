@@ -18,6 +18,8 @@ package org.springframework.data.cassandra.repository.query;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.data.repository.query.EvaluationContextProvider;
 import org.springframework.data.repository.query.Parameter;
@@ -29,7 +31,8 @@ import org.springframework.util.CollectionUtils;
 
 /**
  * {@link ExpressionEvaluatingParameterBinder} allows to evaluate, convert and bind parameters to placeholders within a
- * {@link String}.
+ * {@link String}. Expressions are parsed once and the parsed {@link Expression} is retained for subsequent
+ * evaluations.
  *
  * @author Mark Paluch
  * @since 1.5
@@ -40,6 +43,8 @@ class ExpressionEvaluatingParameterBinder {
 
 	private final EvaluationContextProvider evaluationContextProvider;
 
+	private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates new {@link ExpressionEvaluatingParameterBinder}
 	 *
@@ -123,7 +128,7 @@ class ExpressionEvaluatingParameterBinder {
 	private Object evaluateExpression(String expressionString, CassandraParameters parameters, Object[] parameterValues) {
 
 		EvaluationContext evaluationContext = evaluationContextProvider.getEvaluationContext(parameters, parameterValues);
-		Expression expression = expressionParser.parseExpression(expressionString);
+		Expression expression = expressions.computeIfAbsent(expressionString, expressionParser::parseExpression);
 
 		return expression.getValue(evaluationContext, Object.class);
 	}
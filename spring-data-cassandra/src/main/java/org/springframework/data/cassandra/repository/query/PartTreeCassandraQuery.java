@@ -15,6 +15,16 @@
  */
 package org.springframework.data.cassandra.repository.query;
 
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.CassandraTemplate;
 import org.springframework.data.cassandra.core.StatementFactory;
@@ -22,13 +32,18 @@ import org.springframework.data.cassandra.core.convert.UpdateMapper;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.query.Columns;
+import org.springframework.data.cassandra.core.query.CriteriaDefinition;
 import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.query.QueryCreationException;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.PartTree;
 
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.Statement;
 
 /**
@@ -45,6 +60,10 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 
 	private final StatementFactory statementFactory;
 
+	private final StatementPreparer statementPreparer = new StatementPreparer();
+
+	private final Map<QueryShape, String> parameterizedQueries = new ConcurrentHashMap<>();
+
 	/**
 	 * Create a new {@link PartTreeCassandraQuery} from the given {@link QueryMethod} and {@link CassandraTemplate}.
 	 *
@@ -97,21 +116,101 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 	@Override
 	protected Statement createQuery(CassandraParameterAccessor parameterAccessor) {
 
+		Query query = createCriteriaQuery(parameterAccessor);
+
+		try {
+			return getStatementFactory().select(query, getPersistentEntity());
+		} catch (RuntimeException e) {
+			throw QueryCreationException.create(getQueryMethod(), e);
+		}
+	}
+
+	/**
+	 * Execute the query as prepared statement unless preparation was disabled through
+	 * {@link org.springframework.data.cassandra.repository.Query#prepared()}. The parameterized CQL is rendered once per
+	 * query shape, which depends on the {@link PartTree}, the size of {@code IN} arguments and dynamic sorting, and
+	 * prepared once per session and keyspace. Converted parameter values are bound on each invocation.
+	 *
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#prepareQuery(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor)
+	 */
+	@Override
+	protected Statement prepareQuery(CassandraParameterAccessor accessor) {
+
+		if (!getQueryMethod().isPreparedQuery()) {
+			return createQuery(accessor);
+		}
+
+		Query query = createCriteriaQuery(accessor);
+		List<Object> bindValues = new ArrayList<>();
+		String cql;
+
+		try {
+			RegularStatement statement = getStatementFactory().select(query, getPersistentEntity(), bindValues);
+
+			cql = this.parameterizedQueries.computeIfAbsent(QueryShape.of(query), key -> statement.getQueryString());
+		} catch (RuntimeException e) {
+			throw QueryCreationException.create(getQueryMethod(), e);
+		}
+
+		return this.statementPreparer.prepare(getOperations(), new SimpleStatement(cql, bindValues.toArray()));
+	}
+
+	private Query createCriteriaQuery(CassandraParameterAccessor parameterAccessor) {
+
 		CassandraQueryCreator queryCreator = new CassandraQueryCreator(getTree(), parameterAccessor, getMappingContext());
 
 		Query query = queryCreator.createQuery();
 
-		try {
-			if (getTree().isLimiting()) {
-				query.limit(getTree().getMaxResults());
+		if (getTree().isLimiting()) {
+			query.limit(getTree().getMaxResults());
+		}
+
+		return query;
+	}
+
+	private CassandraPersistentEntity<?> getPersistentEntity() {
+		return getMappingContext().getRequiredPersistentEntity(getQueryMethod().getDomainClass());
+	}
+
+	/**
+	 * Shape of a derived {@link Query}. Queries of the same shape render to the same parameterized CQL.
+	 */
+	@EqualsAndHashCode
+	@RequiredArgsConstructor
+	static class QueryShape {
+
+		private final List<Object> criteria;
+		private final Columns columns;
+		private final Sort sort;
+		private final long limit;
+		private final boolean allowFiltering;
+
+		static QueryShape of(Query query) {
+
+			List<Object> criteria = new ArrayList<>();
+
+			for (CriteriaDefinition criteriaDefinition : query) {
+
+				criteria.add(criteriaDefinition.getColumnName());
+				criteria.add(criteriaDefinition.getPredicate().getOperator());
+				criteria.add(getSize(criteriaDefinition.getPredicate().getValue()));
 			}
 
-			CassandraPersistentEntity<?> persistentEntity = getMappingContext()
-					.getRequiredPersistentEntity(getQueryMethod().getDomainClass());
+			return new QueryShape(criteria, query.getColumns(), query.getSort(), query.getLimit(),
+					query.isAllowFiltering());
+		}
 
-			return getStatementFactory().select(query, persistentEntity);
-		} catch (RuntimeException e) {
-			throw QueryCreationException.create(getQueryMethod(), e);
+		private static int getSize(Object value) {
+
+			if (value instanceof Collection) {
+				return ((Collection<?>) value).size();
+			}
+
+			if (value != null && value.getClass().isArray()) {
+				return Array.getLength(value);
+			}
+
+			return -1;
 		}
 	}
 }
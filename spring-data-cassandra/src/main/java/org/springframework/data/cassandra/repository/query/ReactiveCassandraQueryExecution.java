@@ -22,7 +22,10 @@ import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.query.CassandraPageRequest;
 import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
@@ -40,6 +43,31 @@ interface ReactiveCassandraQueryExecution {
 
 	Object execute(Statement statement, Class<?> type);
 
+	/**
+	 * {@link ReactiveCassandraQueryExecution} for {@link Slice} queries. Reads a single page of results sized by the
+	 * {@link Pageable} and resumes at the {@link com.datastax.driver.core.PagingState} of a
+	 * {@link org.springframework.data.cassandra.core.query.CassandraPageRequest}.
+	 */
+	@RequiredArgsConstructor
+	final class SlicedExecution implements ReactiveCassandraQueryExecution {
+
+		private final @NonNull ReactiveCassandraOperations operations;
+		private final @NonNull Pageable pageable;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.ReactiveCassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 */
+		@Override
+		public Object execute(Statement statement, Class<?> type) {
+
+			CassandraPageRequest.validatePageable(pageable);
+
+			return operations.slice(CassandraQueryExecution.applyPageable(statement, pageable), type)
+					.map(slice -> CassandraQueryExecution.withPageable(slice, pageable));
+		}
+	}
+
 	/**
 	 * {@link ReactiveCassandraQueryExecution} for collection returning queries.
 	 *
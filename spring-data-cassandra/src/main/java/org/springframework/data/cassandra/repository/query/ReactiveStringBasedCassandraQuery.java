@@ -15,6 +15,8 @@
  */
 package org.springframework.data.cassandra.repository.query;
 
+import reactor.core.publisher.Mono;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
@@ -24,6 +26,7 @@ import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.Assert;
 
 import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
 
 /**
  * String-based {@link AbstractReactiveCassandraQuery} implementation.
@@ -42,6 +45,8 @@ public class ReactiveStringBasedCassandraQuery extends AbstractReactiveCassandra
 
 	private final StringBasedQuery stringBasedQuery;
 
+	private final StatementPreparer statementPreparer = new StatementPreparer();
+
 	/**
 	 * Create a new {@link ReactiveStringBasedCassandraQuery} for the given {@link CassandraQueryMethod},
 	 * {@link ReactiveCassandraOperations}, {@link SpelExpressionParser}, and {@link EvaluationContextProvider}.
@@ -104,4 +109,22 @@ public class ReactiveStringBasedCassandraQuery extends AbstractReactiveCassandra
 			throw QueryCreationException.create(getQueryMethod(), e);
 		}
 	}
+
+	/**
+	 * Prepare the query on first execution and bind the query parameters to the prepared statement unless preparation
+	 * was disabled through {@link org.springframework.data.cassandra.repository.Query#prepared()}.
+	 *
+	 * @see org.springframework.data.cassandra.repository.query.AbstractReactiveCassandraQuery#prepareQuery(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor)
+	 */
+	@Override
+	protected Mono<Statement> prepareQuery(CassandraParameterAccessor accessor) {
+
+		SimpleStatement statement = createQuery(accessor);
+
+		if (getQueryMethod().isPreparedQuery()) {
+			return this.statementPreparer.prepare(getReactiveCassandraOperations(), statement);
+		}
+
+		return Mono.just(statement);
+	}
 }
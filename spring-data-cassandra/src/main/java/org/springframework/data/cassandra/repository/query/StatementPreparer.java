@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
+import org.springframework.data.cql.core.ReactiveSessionCallback;
+import org.springframework.data.cql.core.SessionCallback;
+import org.springframework.data.cql.core.support.PreparedStatementCache;
+import org.springframework.data.cql.core.support.ReactivePreparedStatementCache;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Turns parameterized {@link SimpleStatement}s into {@link BoundStatement}s. Statements are prepared lazily on first
+ * use and cached per session and keyspace by their CQL text. Positional values of the {@link SimpleStatement} are bound
+ * to the {@link PreparedStatement} on each invocation.
+ * <p>
+ * Only intended for internal use.
+ *
+ * @since 2.0
+ */
+class StatementPreparer {
+
+	private final PreparedStatementCache cache = PreparedStatementCache.create();
+
+	private final ReactivePreparedStatementCache reactiveCache = ReactivePreparedStatementCache.create();
+
+	/**
+	 * Prepare the given {@link SimpleStatement} using the {@link com.datastax.driver.core.Session} of
+	 * {@link CassandraOperations} and bind its values.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @return the {@link BoundStatement}.
+	 */
+	Statement prepare(CassandraOperations operations, SimpleStatement statement) {
+
+		Assert.notNull(operations, "CassandraOperations must not be null");
+		Assert.notNull(statement, "Statement must not be null");
+
+		SessionCallback<BoundStatement> callback = session -> bind(
+				cache.getPreparedStatement(session, statement, () -> session.prepare(statement.getQueryString())),
+				statement);
+
+		return operations.getCqlOperations().execute(callback);
+	}
+
+	/**
+	 * Prepare the given {@link SimpleStatement} using the {@link org.springframework.data.cql.core.session.ReactiveSession}
+	 * of {@link ReactiveCassandraOperations} and bind its values.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @return a {@link Mono} emitting the {@link BoundStatement}.
+	 */
+	Mono<Statement> prepare(ReactiveCassandraOperations operations, SimpleStatement statement) {
+
+		Assert.notNull(operations, "ReactiveCassandraOperations must not be null");
+		Assert.notNull(statement, "Statement must not be null");
+
+		ReactiveSessionCallback<Statement> callback = session -> reactiveCache
+				.getPreparedStatement(session, statement, () -> session.prepare(statement.getQueryString()))
+				.map(preparedStatement -> bind(preparedStatement, statement));
+
+		return operations.getReactiveCqlOperations().execute(callback).next();
+	}
+
+	private static BoundStatement bind(PreparedStatement preparedStatement, SimpleStatement statement) {
+
+		Object[] values = new Object[statement.valuesCount()];
+
+		for (int index = 0; index < values.length; index++) {
+			values[index] = statement.getObject(index);
+		}
+
+		return preparedStatement.bind(values);
+	}
+}
@@ -23,6 +23,7 @@ import org.springframework.data.repository.query.QueryCreationException;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 
 import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
 
 /**
  * String-based {@link AbstractCassandraQuery} implementation.
@@ -41,6 +42,8 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 
 	private final StringBasedQuery stringBasedQuery;
 
+	private final StatementPreparer statementPreparer = new StatementPreparer();
+
 	/**
 	 * Create a new {@link StringBasedCassandraQuery} for the given {@link CassandraQueryMethod},
 	 * {@link CassandraOperations}, {@link SpelExpressionParser}, and {@link EvaluationContextProvider}.
@@ -100,4 +103,22 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 			throw QueryCreationException.create(getQueryMethod(), e);
 		}
 	}
+
+	/**
+	 * Prepare the query on first execution and bind the query parameters to the prepared statement unless preparation
+	 * was disabled through {@link org.springframework.data.cassandra.repository.Query#prepared()}.
+	 *
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#prepareQuery(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor)
+	 */
+	@Override
+	protected Statement prepareQuery(CassandraParameterAccessor accessor) {
+
+		SimpleStatement statement = createQuery(accessor);
+
+		if (getQueryMethod().isPreparedQuery()) {
+			return this.statementPreparer.prepare(getOperations(), statement);
+		}
+
+		return statement;
+	}
 }
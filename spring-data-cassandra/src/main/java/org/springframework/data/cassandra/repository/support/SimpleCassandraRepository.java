@@ -16,26 +16,62 @@
 package org.springframework.data.cassandra.repository.support;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.CassandraTemplate;
+import org.springframework.data.cassandra.core.PreparedEntityStatementFactory;
+import org.springframework.data.cassandra.core.PreparedEntityStatementFactory.PreparedEntityStatement;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.convert.PartitionKeyResolver;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.repository.CassandraRepository;
 import org.springframework.data.cassandra.repository.query.CassandraEntityInformation;
+import org.springframework.data.cql.core.AsyncCqlOperations;
+import org.springframework.data.cql.core.AsyncCqlTemplate;
+import org.springframework.data.cql.core.CqlOperations;
+import org.springframework.data.cql.core.CqlTemplate;
+import org.springframework.data.cql.core.SessionCallback;
+import org.springframework.data.cql.core.support.PreparedStatementCache;
 import org.springframework.util.Assert;
-
+import org.springframework.util.concurrent.ListenableFuture;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.querybuilder.Batch;
 import com.datastax.driver.core.querybuilder.Insert;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
 
 /**
  * Repository base implementation for Cassandra.
+ * <p>
+ * {@link #saveAll(Iterable)} and {@link #insert(Iterable)} execute their statements asynchronously through
+ * {@link AsyncCqlOperations} while limiting the number of in-flight statements to
+ * {@link #setMaxConcurrentWrites(int) maxConcurrentWrites}. Both methods return once all statements have completed.
+ * Statements are executed one after another if no {@link AsyncCqlOperations} is available. Entities sharing the same
+ * partition key can be grouped into {@code UNLOGGED} batches by configuring a {@link #setBatchSize(int) batch size}.
+ * <p>
+ * {@link #save(Object)}, {@link #saveAll(Iterable)} and {@link #insert(Iterable)} can bind entities to a cached
+ * prepared {@code INSERT} statement instead of rendering values into the statement, see
+ * {@link #setUsePreparedStatements(boolean)}. {@link #insert(Iterable)} also uses prepared statements if
+ * {@link CassandraTemplate#setUsePreparedStatements(boolean) enabled on the template}.
  *
  * @author Alex Shvid
  * @author Matthew T. Adams
@@ -43,24 +79,152 @@ import com.datastax.driver.core.querybuilder.Select;
  */
 public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T, ID> {
 
+	/**
+	 * Default number of in-flight statements for {@link #saveAll(Iterable)} and {@link #insert(Iterable)}.
+	 */
+	public static final int DEFAULT_MAX_CONCURRENT_WRITES = 32;
+
 	private final CassandraEntityInformation<T, ID> entityInformation;
 
 	private final CassandraOperations operations;
 
+	private final AsyncCqlOperations asyncCqlOperations;
+
+	private final PartitionKeyResolver partitionKeyResolver;
+
+	private int maxConcurrentWrites = DEFAULT_MAX_CONCURRENT_WRITES;
+
+	private int batchSize = 1;
+
+	private boolean usePreparedStatements;
+
+	private PreparedStatementCache preparedStatementCache = PreparedStatementCache.create();
+
+	private final PreparedEntityStatementFactory preparedStatementFactory;
+
 	/**
 	 * Create a new {@link SimpleCassandraRepository} for the given {@link CassandraEntityInformation} and
-	 * {@link CassandraTemplate}.
+	 * {@link CassandraTemplate}. Bulk writes are executed asynchronously if {@link CassandraOperations} is backed by a
+	 * {@link CqlTemplate}.
 	 *
 	 * @param metadata must not be {@literal null}.
 	 * @param operations must not be {@literal null}.
 	 */
 	public SimpleCassandraRepository(CassandraEntityInformation<T, ID> metadata, CassandraOperations operations) {
+		this(metadata, operations, operations != null ? createAsyncCqlOperations(operations.getCqlOperations()) : null);
+	}
+
+	/**
+	 * Create a new {@link SimpleCassandraRepository} for the given {@link CassandraEntityInformation},
+	 * {@link CassandraTemplate} and {@link AsyncCqlOperations} used for bulk writes.
+	 *
+	 * @param metadata must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @param asyncCqlOperations may be {@literal null} to execute bulk writes sequentially.
+	 * @since 2.0
+	 */
+	public SimpleCassandraRepository(CassandraEntityInformation<T, ID> metadata, CassandraOperations operations,
+			AsyncCqlOperations asyncCqlOperations) {
 
 		Assert.notNull(metadata, "CassandraEntityInformation must not be null");
 		Assert.notNull(operations, "CassandraOperations must not be null");
 
 		this.entityInformation = metadata;
 		this.operations = operations;
+		this.asyncCqlOperations = asyncCqlOperations;
+		this.partitionKeyResolver = new PartitionKeyResolver(operations.getConverter(),
+				() -> operations.getCqlOperations().execute((SessionCallback<ProtocolVersion>) session -> session.getCluster()
+						.getConfiguration().getProtocolOptions().getProtocolVersion()));
+		this.preparedStatementFactory = new PreparedEntityStatementFactory(operations.getConverter());
+	}
+
+	/**
+	 * Set the maximum number of statements that are executed concurrently by {@link #saveAll(Iterable)} and
+	 * {@link #insert(Iterable)}. Defaults to {@link #DEFAULT_MAX_CONCURRENT_WRITES}.
+	 *
+	 * @param maxConcurrentWrites must be greater than zero.
+	 * @since 2.0
+	 */
+	public void setMaxConcurrentWrites(int maxConcurrentWrites) {
+
+		Assert.isTrue(maxConcurrentWrites > 0, "Max concurrent writes must be greater than zero");
+
+		this.maxConcurrentWrites = maxConcurrentWrites;
+	}
+
+	/**
+	 * @return the maximum number of concurrently executed statements for bulk writes.
+	 * @since 2.0
+	 */
+	public int getMaxConcurrentWrites() {
+		return this.maxConcurrentWrites;
+	}
+
+	/**
+	 * Set the maximum number of entities that are written with a single {@code UNLOGGED} batch by
+	 * {@link #saveAll(Iterable)} and {@link #insert(Iterable)}. Only entities sharing the same partition key are grouped
+	 * into a batch. Defaults to {@code 1} which writes each entity with its own statement.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @since 2.0
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * @return the maximum number of entities per {@code UNLOGGED} batch.
+	 * @since 2.0
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Enable or disable prepared statements for {@link #save(Object)}, {@link #saveAll(Iterable)} and
+	 * {@link #insert(Iterable)}. Prepared saves render a parameterized {@code INSERT} statement covering all columns once
+	 * per entity type and bind converted entity values directly to the cached {@link PreparedStatement}. Prepared
+	 * inserts leave {@literal null} values unset. Disabled by default.
+	 *
+	 * @param usePreparedStatements {@literal true} to use prepared statements for saves.
+	 * @since 2.0
+	 * @see #setPreparedStatementCache(PreparedStatementCache)
+	 */
+	public void setUsePreparedStatements(boolean usePreparedStatements) {
+		this.usePreparedStatements = usePreparedStatements;
+	}
+
+	/**
+	 * @return {@literal true} if saves use prepared statements.
+	 * @since 2.0
+	 */
+	public boolean isUsePreparedStatements() {
+		return this.usePreparedStatements;
+	}
+
+	/**
+	 * Set the {@link PreparedStatementCache} used to prepare {@code INSERT} statements for saves. Defaults to
+	 * {@link PreparedStatementCache#create()}.
+	 *
+	 * @param preparedStatementCache must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public void setPreparedStatementCache(PreparedStatementCache preparedStatementCache) {
+
+		Assert.notNull(preparedStatementCache, "PreparedStatementCache must not be null");
+
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
+	/**
+	 * @return the {@link PreparedStatementCache} used to prepare {@code INSERT} statements for saves.
+	 * @since 2.0
+	 */
+	public PreparedStatementCache getPreparedStatementCache() {
+		return this.preparedStatementCache;
 	}
 
 	/* (non-Javadoc)
@@ -71,9 +235,7 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 
 		Assert.notNull(entity, "Entity must not be null");
 
-		Insert insert = createFullInsert(entity);
-
-		operations.getCqlOperations().execute(insert);
+		operations.getCqlOperations().execute(createFullInsert(entity).statement);
 
 		return entity;
 	}
@@ -88,31 +250,21 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 
 		List<S> result = new ArrayList<S>();
 
-		for (S entity : entities) {
-
-			result.add(entity);
-			operations.getCqlOperations().execute(createFullInsert(entity));
-		}
+		entities.forEach(result::add);
+		write(result, this::createFullInsert);
 
 		return result;
 	}
 
-	private <S extends T> Insert createFullInsert(S entity) {
+	private <S extends T> EntityStatement createFullInsert(S entity) {
 
-		CassandraConverter converter = operations.getConverter();
-		CassandraPersistentEntity<?> persistentEntity = converter.getMappingContext()
-				.getRequiredPersistentEntity(entity.getClass());
-		Map<String, Object> toInsert = new LinkedHashMap<>();
-
-		converter.write(entity, toInsert, persistentEntity);
+		CassandraPersistentEntity<?> persistentEntity = getPersistentEntity(entity);
 
-		Insert insert = QueryBuilder.insertInto(persistentEntity.getTableName().toCql());
-
-		for (Entry<String, Object> entry : toInsert.entrySet()) {
-			insert.value(entry.getKey(), entry.getValue());
+		if (usePreparedStatements) {
+			return bind(preparedStatementFactory.fullInsert(persistentEntity), entity, persistentEntity);
 		}
 
-		return insert;
+		return createInsert(toColumnValues(entity), persistentEntity, false);
 	}
 
 	/* (non-Javadoc)
@@ -134,20 +286,298 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 
 		Assert.notNull(entities, "The given Iterable of entities must not be null");
 
-		List<S> result = new ArrayList<>();
+		if (asyncCqlOperations == null && batchSize == 1 && !usePreparedStatements) {
 
-		for (S entity : entities) {
+			List<S> result = new ArrayList<>();
+
+			for (S entity : entities) {
+
+				S saved = operations.insert(entity);
+
+				if (saved != null) {
+					result.add(saved);
+				}
+			}
+
+			return result;
+		}
+
+		List<S> toInsert = new ArrayList<>();
+		entities.forEach(toInsert::add);
+
+		Set<S> notApplied = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		for (PendingWrite<S> write : write(toInsert, this::createInsert)) {
+			if (!write.applied) {
+				notApplied.addAll(write.entities);
+			}
+		}
 
-			S saved = operations.insert(entity);
+		List<S> result = new ArrayList<>(toInsert.size());
 
-			if (saved != null) {
-				result.add(saved);
+		for (S entity : toInsert) {
+			if (!notApplied.contains(entity)) {
+				result.add(entity);
 			}
 		}
 
 		return result;
 	}
 
+	private <S extends T> EntityStatement createInsert(S entity) {
+
+		CassandraPersistentEntity<?> persistentEntity = getPersistentEntity(entity);
+
+		if (isUsePreparedInserts()) {
+			return bind(preparedStatementFactory.insert(persistentEntity, null), entity, persistentEntity);
+		}
+
+		return createInsert(toColumnValues(entity), persistentEntity, true);
+	}
+
+	/**
+	 * Inserts of {@link #insert(Iterable)} are prepared if enabled on this repository or on {@link CassandraTemplate}
+	 * which executes {@link #insert(Object)}.
+	 */
+	private boolean isUsePreparedInserts() {
+		return usePreparedStatements
+				|| operations instanceof CassandraTemplate && ((CassandraTemplate) operations).isUsePreparedStatements();
+	}
+
+	/**
+	 * Bind {@code entity} to the cached {@link PreparedStatement}. The partition key is taken from the serialized values
+	 * of the {@link BoundStatement} so that the entity is converted only once.
+	 */
+	private EntityStatement bind(PreparedEntityStatement statement, Object entity,
+			CassandraPersistentEntity<?> persistentEntity) {
+
+		SessionCallback<PreparedStatement> callback = session -> preparedStatementCache.getPreparedStatement(session,
+				statement.getStatement());
+
+		BoundStatement boundStatement = statement.bind(operations.getCqlOperations().execute(callback), entity, null);
+
+		List<Object> partitionKey = new ArrayList<>();
+		partitionKey.add(persistentEntity.getTableName());
+		partitionKeyResolver.getPartitionKeyColumns(persistentEntity)
+				.forEach(column -> partitionKey.add(boundStatement.getBytesUnsafe(column.toCql())));
+
+		return new EntityStatement(boundStatement, partitionKey);
+	}
+
+	/**
+	 * Create an {@link Insert} from converted {@code columnValues}. The routing key and the partition key are taken from
+	 * the same {@code columnValues} so that the entity is converted only once.
+	 */
+	private EntityStatement createInsert(Map<String, Object> columnValues, CassandraPersistentEntity<?> persistentEntity,
+			boolean skipNullValues) {
+
+		Insert insert = QueryBuilder.insertInto(persistentEntity.getTableName().toCql());
+
+		for (Entry<String, Object> entry : columnValues.entrySet()) {
+			if (entry.getValue() != null || !skipNullValues) {
+				insert.value(entry.getKey(), entry.getValue());
+			}
+		}
+
+		List<Object> partitionKey = new ArrayList<>();
+		partitionKey.add(persistentEntity.getTableName());
+		partitionKeyResolver.getPartitionKeyColumns(persistentEntity)
+				.forEach(column -> partitionKey.add(columnValues.get(column.toCql())));
+
+		PartitionKeyResolver.addRoutingKey(insert, partitionKeyResolver.getRoutingKey(persistentEntity, columnValues));
+
+		return new EntityStatement(insert, partitionKey);
+	}
+
+	/**
+	 * Write {@code entities} using statements created by {@code statementFunction}, optionally grouped into
+	 * {@code UNLOGGED} batches per partition key. Statements are executed with at most {@link #getMaxConcurrentWrites()}
+	 * statements in flight. No further statements are issued after a statement has failed. The first failure is
+	 * rethrown after all in-flight statements have completed.
+	 *
+	 * @param entities the entities to write.
+	 * @param statementFunction function creating the write statement for a single entity.
+	 * @return the executed {@link PendingWrite}s.
+	 */
+	private <S extends T> List<PendingWrite<S>> write(List<S> entities,
+			Function<S, EntityStatement> statementFunction) {
+
+		List<PendingWrite<S>> writes = batchSize > 1 ? groupByPartitionKey(entities, statementFunction)
+				: toWrites(entities, statementFunction);
+
+		if (asyncCqlOperations == null) {
+
+			CqlOperations cqlOperations = operations.getCqlOperations();
+			writes.forEach(write -> write.applied = cqlOperations.execute(write.statement));
+
+			return writes;
+		}
+
+		Semaphore inFlight = new Semaphore(maxConcurrentWrites);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		List<ListenableFuture<Boolean>> futures = new ArrayList<>(writes.size());
+
+		try {
+
+			for (PendingWrite<S> write : writes) {
+
+				inFlight.acquire();
+
+				if (failure.get() != null) {
+					inFlight.release();
+					break;
+				}
+
+				ListenableFuture<Boolean> future;
+
+				try {
+					future = asyncCqlOperations.execute(write.statement);
+				} catch (RuntimeException e) {
+					inFlight.release();
+					failure.compareAndSet(null, e);
+					break;
+				}
+
+				future.addCallback(applied -> inFlight.release(), e -> {
+					failure.compareAndSet(null, e);
+					inFlight.release();
+				});
+
+				futures.add(future);
+			}
+
+			inFlight.acquire(maxConcurrentWrites);
+			inFlight.release(maxConcurrentWrites);
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for writes to complete", e);
+		}
+
+		if (failure.get() instanceof RuntimeException) {
+			throw (RuntimeException) failure.get();
+		}
+
+		if (failure.get() != null) {
+			throw new IllegalStateException(failure.get());
+		}
+
+		for (int index = 0; index < futures.size(); index++) {
+			writes.get(index).applied = getResult(futures.get(index));
+		}
+
+		return writes;
+	}
+
+	private static boolean getResult(ListenableFuture<Boolean> future) {
+
+		try {
+			return Boolean.TRUE.equals(future.get());
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for writes to complete", e);
+		} catch (ExecutionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private <S extends T> List<PendingWrite<S>> toWrites(Iterable<S> entities,
+			Function<S, EntityStatement> statementFunction) {
+
+		List<PendingWrite<S>> writes = new ArrayList<>();
+
+		for (S entity : entities) {
+			writes.add(new PendingWrite<>(Collections.singletonList(entity), statementFunction.apply(entity).statement));
+		}
+
+		return writes;
+	}
+
+	private <S extends T> List<PendingWrite<S>> groupByPartitionKey(Iterable<S> entities,
+			Function<S, EntityStatement> statementFunction) {
+
+		Map<List<Object>, List<S>> partitions = new LinkedHashMap<>();
+		Map<List<Object>, List<Statement>> partitionStatements = new HashMap<>();
+
+		for (S entity : entities) {
+
+			EntityStatement statement = statementFunction.apply(entity);
+
+			partitions.computeIfAbsent(statement.partitionKey, key -> new ArrayList<>()).add(entity);
+			partitionStatements.computeIfAbsent(statement.partitionKey, key -> new ArrayList<>()).add(statement.statement);
+		}
+
+		List<PendingWrite<S>> writes = new ArrayList<>();
+
+		for (Entry<List<Object>, List<S>> partition : partitions.entrySet()) {
+
+			List<S> partitionEntities = partition.getValue();
+			List<Statement> statements = partitionStatements.get(partition.getKey());
+
+			for (int offset = 0; offset < partitionEntities.size(); offset += batchSize) {
+
+				int limit = Math.min(offset + batchSize, partitionEntities.size());
+				List<S> chunk = partitionEntities.subList(offset, limit);
+
+				writes.add(new PendingWrite<>(chunk,
+						chunk.size() == 1 ? statements.get(offset) : createUnloggedBatch(statements.subList(offset, limit))));
+			}
+		}
+
+		return writes;
+	}
+
+	/**
+	 * Create an {@code UNLOGGED} batch. Rendered statements are combined into a {@link Batch} while bound statements
+	 * require a {@link BatchStatement}.
+	 */
+	private static Statement createUnloggedBatch(List<Statement> statements) {
+
+		if (statements.stream().allMatch(RegularStatement.class::isInstance)) {
+
+			Batch batch = QueryBuilder.unloggedBatch();
+			statements.forEach(statement -> batch.add((RegularStatement) statement));
+
+			return batch;
+		}
+
+		BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
+		batch.addAll(statements);
+
+		return batch;
+	}
+
+	private Map<String, Object> toColumnValues(Object entity) {
+
+		Map<String, Object> values = new LinkedHashMap<>();
+
+		operations.getConverter().write(entity, values, getPersistentEntity(entity));
+
+		return values;
+	}
+
+	private CassandraPersistentEntity<?> getPersistentEntity(Object entity) {
+
+		CassandraConverter converter = operations.getConverter();
+
+		return converter.getMappingContext().getRequiredPersistentEntity(entity.getClass());
+	}
+
+	private static AsyncCqlOperations createAsyncCqlOperations(CqlOperations cqlOperations) {
+
+		if (cqlOperations instanceof CqlTemplate && ((CqlTemplate) cqlOperations).getSessionFactory() != null) {
+			return AsyncCqlTemplate.from((CqlTemplate) cqlOperations);
+		}
+
+		return null;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.repository.CrudRepository#findById(java.lang.Object)
 	 */
@@ -241,4 +671,33 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 	public void deleteAll() {
 		operations.truncate(entityInformation.getJavaType());
 	}
+
+	/**
+	 * Write statement along with the entities it writes.
+	 */
+	/**
+	 * Write statement for a single entity along with the table and partition key values used to group statements.
+	 */
+	private static class EntityStatement {
+
+		final Statement statement;
+		final List<Object> partitionKey;
+
+		EntityStatement(Statement statement, List<Object> partitionKey) {
+			this.statement = statement;
+			this.partitionKey = partitionKey;
+		}
+	}
+
+	private static class PendingWrite<S> {
+
+		final List<S> entities;
+		final Statement statement;
+		boolean applied;
+
+		PendingWrite(List<S> entities, Statement statement) {
+			this.entities = entities;
+			this.statement = statement;
+		}
+	}
 }
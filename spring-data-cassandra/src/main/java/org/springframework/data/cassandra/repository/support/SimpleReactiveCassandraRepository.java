@@ -28,6 +28,7 @@ import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.repository.ReactiveCassandraRepository;
 import org.springframework.data.cassandra.repository.query.CassandraEntityInformation;
+import org.springframework.data.cql.core.ConcurrencyLimit;
 import org.springframework.util.Assert;
 
 import com.datastax.driver.core.querybuilder.Insert;
@@ -47,6 +48,8 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 
 	private final ReactiveCassandraOperations operations;
 
+	private ConcurrencyLimit concurrencyLimit = ConcurrencyLimit.create();
+
 	/**
 	 * Create a new {@link SimpleReactiveCassandraRepository} for the given {@link CassandraEntityInformation} and
 	 * {@link ReactiveCassandraOperations}.
@@ -64,6 +67,29 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 		this.operations = operations;
 	}
 
+	/**
+	 * Set the {@link ConcurrencyLimit} applied by {@link #saveAll(Publisher)}, {@link #insert(Publisher)} and
+	 * {@link #findAllById(Publisher)} to bound the number of in-flight statements. Defaults to
+	 * {@link ConcurrencyLimit#create()}.
+	 *
+	 * @param concurrencyLimit must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public void setConcurrencyLimit(ConcurrencyLimit concurrencyLimit) {
+
+		Assert.notNull(concurrencyLimit, "ConcurrencyLimit must not be null");
+
+		this.concurrencyLimit = concurrencyLimit;
+	}
+
+	/**
+	 * @return the {@link ConcurrencyLimit} applied to bulk writes and lookups.
+	 * @since 2.0
+	 */
+	public ConcurrencyLimit getConcurrencyLimit() {
+		return this.concurrencyLimit;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#save(S)
 	 */
@@ -95,7 +121,8 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 
 		Assert.notNull(entityStream, "The given Publisher of entities must not be null");
 
-		return Flux.from(entityStream).flatMap(entity -> operations.getReactiveCqlOperations().execute(createFullInsert(entity)).map(it -> entity));
+		return concurrencyLimit.<S, S> flatMap(entityStream,
+				entity -> operations.getReactiveCqlOperations().execute(createFullInsert(entity)).map(it -> entity));
 	}
 
 	/* (non-Javadoc)
@@ -117,7 +144,7 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 
 		Assert.notNull(entities, "The given Iterable of entities must not be null");
 
-		return operations.insert(Flux.fromIterable(entities));
+		return insert(Flux.fromIterable(entities));
 	}
 
 	/* (non-Javadoc)
@@ -128,7 +155,7 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 
 		Assert.notNull(entityStream, "The given Publisher of entities must not be null");
 
-		return operations.insert(entityStream);
+		return operations.insert(entityStream, null, concurrencyLimit);
 	}
 
 	/* (non-Javadoc)
@@ -204,7 +231,8 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 
 		Assert.notNull(idStream, "The given Publisher of id's must not be null");
 
-		return Flux.from(idStream).flatMap(id -> operations.selectOneById(id, entityInformation.getJavaType()));
+		return concurrencyLimit.<ID, T> flatMap(idStream,
+				id -> operations.selectOneById(id, entityInformation.getJavaType()));
 	}
 
 	/* (non-Javadoc)
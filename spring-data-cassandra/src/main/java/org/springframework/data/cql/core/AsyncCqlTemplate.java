@@ -24,6 +24,7 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.cql.core.session.SessionFactory;
+import org.springframework.data.cql.core.support.PreparedStatementCache;
 import org.springframework.util.Assert;
 import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.SettableListenableFuture;
@@ -38,6 +39,7 @@ import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.exceptions.DriverException;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
 
 /**
  * <b>This is the central class in the CQL core package for asynchronous Cassandra data access.</b> It simplifies the
@@ -114,6 +116,31 @@ public class AsyncCqlTemplate extends CqlTemplateSupport implements AsyncCqlOper
 		setSessionFactory(sessionFactory);
 	}
 
+	/**
+	 * Create a new {@link AsyncCqlTemplate} sharing {@link SessionFactory}, exception translation, statement settings and
+	 * the {@link org.springframework.data.cql.core.support.PreparedStatementCache} with the given
+	 * {@link CqlTemplateSupport}.
+	 *
+	 * @param template must not be {@literal null} and must be configured with a {@link SessionFactory}.
+	 * @return the new {@link AsyncCqlTemplate}.
+	 * @since 2.0
+	 */
+	public static AsyncCqlTemplate from(CqlTemplateSupport template) {
+
+		Assert.notNull(template, "CqlTemplateSupport must not be null");
+		Assert.state(template.getSessionFactory() != null, "SessionFactory was not properly initialized");
+
+		AsyncCqlTemplate asyncCqlTemplate = new AsyncCqlTemplate(template.getSessionFactory());
+
+		asyncCqlTemplate.setConsistencyLevel(template.getConsistencyLevel());
+		asyncCqlTemplate.setExceptionTranslator(template.getExceptionTranslator());
+		asyncCqlTemplate.setFetchSize(template.getFetchSize());
+		asyncCqlTemplate.setRetryPolicy(template.getRetryPolicy());
+		asyncCqlTemplate.setPreparedStatementCache(template.getPreparedStatementCache());
+
+		return asyncCqlTemplate;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with a plain com.datastax.driver.core.Session
 	// -------------------------------------------------------------------------
@@ -743,13 +770,14 @@ public class AsyncCqlTemplate extends CqlTemplateSupport implements AsyncCqlOper
 
 	/**
 	 * Create a new CQL-based AsyncPreparedStatementCreator using the CQL passed in. By default, we'll create an
-	 * {@link SimpleAsyncPreparedStatementCreator}. This method allows for the creation to be overridden by subclasses.
+	 * {@link SimpleAsyncPreparedStatementCreator} that consults the {@link #getPreparedStatementCache()
+	 * PreparedStatementCache}, if configured. This method allows for the creation to be overridden by subclasses.
 	 *
 	 * @param cql static CQL to execute, must not be empty or {@literal null}.
 	 * @return the new {@link AsyncPreparedStatementCreator} to use
 	 */
 	protected AsyncPreparedStatementCreator newAsyncPreparedStatementCreator(String cql) {
-		return new SimpleAsyncPreparedStatementCreator(cql,
+		return new SimpleAsyncPreparedStatementCreator(cql, getPreparedStatementCache(),
 				ex -> translateExceptionIfPossible("PrepareStatement", cql, ex));
 	}
 
@@ -789,14 +817,17 @@ public class AsyncCqlTemplate extends CqlTemplateSupport implements AsyncCqlOper
 
 		private final PersistenceExceptionTranslator persistenceExceptionTranslator;
 
+		private final PreparedStatementCache cache;
+
 		private final String cql;
 
-		private SimpleAsyncPreparedStatementCreator(String cql,
+		private SimpleAsyncPreparedStatementCreator(String cql, PreparedStatementCache cache,
 				PersistenceExceptionTranslator persistenceExceptionTranslator) {
 
 			Assert.hasText(cql, "CQL must not be empty");
 
 			this.cql = cql;
+			this.cache = cache;
 			this.persistenceExceptionTranslator = persistenceExceptionTranslator;
 		}
 
@@ -808,7 +839,28 @@ public class AsyncCqlTemplate extends CqlTemplateSupport implements AsyncCqlOper
 		@Override
 		public ListenableFuture<PreparedStatement> createPreparedStatement(Session session) throws DriverException {
 
-			return new GuavaListenableFutureAdapter<>(session.prepareAsync(getCql()), this.persistenceExceptionTranslator);
+			if (this.cache == null) {
+				return new GuavaListenableFutureAdapter<>(session.prepareAsync(getCql()), this.persistenceExceptionTranslator);
+			}
+
+			SimpleStatement statement = new SimpleStatement(getCql());
+			PreparedStatement cached = this.cache.getIfPresent(session, statement);
+
+			if (cached != null) {
+
+				SettableListenableFuture<PreparedStatement> future = new SettableListenableFuture<>();
+				future.set(cached);
+
+				return future;
+			}
+
+			// prepare without blocking and register the result once the cluster has prepared the statement
+			return new GuavaListenableFutureAdapter<>(
+					Futures.transform(session.prepareAsync(getCql()),
+							(com.google.common.base.Function<PreparedStatement, PreparedStatement>) preparedStatement -> this.cache
+									.getPreparedStatement(session, statement, () -> preparedStatement),
+							MoreExecutors.directExecutor()),
+					this.persistenceExceptionTranslator);
 		}
 	}
 
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.exceptions.BusyPoolException;
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import com.datastax.driver.core.exceptions.OverloadedException;
+
+/**
+ * Limits the number of in-flight operations issued for elements of a {@link Publisher}, typically statements of a
+ * reactive bulk write. A {@link #fixed(int) fixed} limit executes at most {@code maxInFlight} operations concurrently.
+ * An {@link #adaptive(int) adaptive} limit starts at {@code maxInFlight}, halves the limit each time an operation
+ * fails because a connection pool was busy ({@link BusyPoolException}) or a coordinator was overloaded
+ * ({@link OverloadedException}) and grows the limit again by one with each successful window of operations. Rejected
+ * operations were not executed by Cassandra and are retried after a short delay.
+ * <p>
+ * Limits apply to each {@link #flatMap(Publisher, Function)} subscription individually.
+ *
+ * @since 2.0
+ */
+public abstract class ConcurrencyLimit {
+
+	/**
+	 * Default maximum number of in-flight operations.
+	 */
+	public static final int DEFAULT_MAX_IN_FLIGHT = 32;
+
+	private final int maxInFlight;
+
+	private ConcurrencyLimit(int maxInFlight) {
+
+		Assert.isTrue(maxInFlight > 0, "Max in-flight operations must be greater than zero");
+
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * Create a {@link ConcurrencyLimit} allowing {@link #DEFAULT_MAX_IN_FLIGHT} in-flight operations.
+	 *
+	 * @return the default {@link ConcurrencyLimit}.
+	 */
+	public static ConcurrencyLimit create() {
+		return fixed(DEFAULT_MAX_IN_FLIGHT);
+	}
+
+	/**
+	 * Create a fixed {@link ConcurrencyLimit} allowing up to {@code maxInFlight} in-flight operations.
+	 *
+	 * @param maxInFlight must be greater than zero.
+	 * @return the {@link ConcurrencyLimit}.
+	 */
+	public static ConcurrencyLimit fixed(int maxInFlight) {
+		return new FixedConcurrencyLimit(maxInFlight);
+	}
+
+	/**
+	 * Create an adaptive {@link ConcurrencyLimit} allowing up to {@code maxInFlight} in-flight operations that backs off
+	 * on {@link BusyPoolException} and {@link OverloadedException}.
+	 *
+	 * @param maxInFlight must be greater than zero.
+	 * @return the {@link ConcurrencyLimit}.
+	 */
+	public static ConcurrencyLimit adaptive(int maxInFlight) {
+		return new AdaptiveConcurrencyLimit(maxInFlight);
+	}
+
+	/**
+	 * @return the maximum number of in-flight operations.
+	 */
+	public int getMaxInFlight() {
+		return this.maxInFlight;
+	}
+
+	/**
+	 * Map each element emitted by {@code source} to a {@link Publisher} using {@code mapper} and merge the results while
+	 * respecting this limit. Results are emitted in completion order.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @return the merged results.
+	 */
+	public abstract <T, R> Flux<R> flatMap(Publisher<? extends T> source,
+			Function<? super T, ? extends Publisher<? extends R>> mapper);
+
+	/**
+	 * Returns whether the given {@link Throwable} or one of its causes indicates that a request was rejected because a
+	 * connection pool was busy or a coordinator was overloaded.
+	 *
+	 * @param throwable may be {@literal null}.
+	 * @return {@literal true} if the request was rejected due to overload.
+	 */
+	public static boolean isOverloaded(Throwable throwable) {
+
+		for (Throwable cause = throwable; cause != null; cause = cause.getCause() != cause ? cause.getCause() : null) {
+
+			if (cause instanceof BusyPoolException || cause instanceof OverloadedException) {
+				return true;
+			}
+
+			if (cause instanceof NoHostAvailableException) {
+				return ((NoHostAvailableException) cause).getErrors().values().stream()
+						.anyMatch(ConcurrencyLimit::isOverloaded);
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * {@link ConcurrencyLimit} using a fixed limit.
+	 */
+	static class FixedConcurrencyLimit extends ConcurrencyLimit {
+
+		FixedConcurrencyLimit(int maxInFlight) {
+			super(maxInFlight);
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cql.core.ConcurrencyLimit#flatMap(org.reactivestreams.Publisher, java.util.function.Function)
+		 */
+		@Override
+		public <T, R> Flux<R> flatMap(Publisher<? extends T> source,
+				Function<? super T, ? extends Publisher<? extends R>> mapper) {
+
+			Assert.notNull(source, "Source must not be null");
+			Assert.notNull(mapper, "Mapper function must not be null");
+
+			return Flux.<T> from(source).flatMap(mapper, getMaxInFlight());
+		}
+
+		/* (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("fixed(%d)", getMaxInFlight());
+		}
+	}
+
+	/**
+	 * {@link ConcurrencyLimit} applying additive increase/multiplicative decrease on overload.
+	 */
+	static class AdaptiveConcurrencyLimit extends ConcurrencyLimit {
+
+		private static final int MAX_RETRIES = 10;
+
+		private static final Duration INITIAL_BACKOFF = Duration.ofMillis(10);
+
+		private static final Duration MAX_BACKOFF = Duration.ofSeconds(1);
+
+		AdaptiveConcurrencyLimit(int maxInFlight) {
+			super(maxInFlight);
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cql.core.ConcurrencyLimit#flatMap(org.reactivestreams.Publisher, java.util.function.Function)
+		 */
+		@Override
+		public <T, R> Flux<R> flatMap(Publisher<? extends T> source,
+				Function<? super T, ? extends Publisher<? extends R>> mapper) {
+
+			Assert.notNull(source, "Source must not be null");
+			Assert.notNull(mapper, "Mapper function must not be null");
+
+			return Flux.defer(() -> {
+
+				Limiter limiter = new Limiter(getMaxInFlight());
+
+				return Flux.<T> from(source).flatMap(element -> execute(limiter, element, mapper, 0), getMaxInFlight());
+			});
+		}
+
+		private <T, R> Flux<R> execute(Limiter limiter, T element,
+				Function<? super T, ? extends Publisher<? extends R>> mapper, int attempt) {
+
+			Flux<R> operation = Flux.defer(() -> {
+
+				AtomicBoolean acquired = new AtomicBoolean();
+				AtomicBoolean overloaded = new AtomicBoolean();
+
+				return limiter.acquire(acquired) //
+						.thenMany(Flux.<R> defer(() -> mapper.apply(element))) //
+						.doOnError(e -> overloaded.set(isOverloaded(e))) //
+						.doFinally(signal -> {
+							if (acquired.compareAndSet(true, false)) {
+								limiter.release(overloaded.get());
+							}
+						});
+			});
+
+			return operation.onErrorResume(e -> {
+
+				if (!isOverloaded(e) || attempt >= MAX_RETRIES) {
+					return Mono.error(e);
+				}
+
+				return Mono.delay(getBackoff(attempt)).thenMany(execute(limiter, element, mapper, attempt + 1));
+			});
+		}
+
+		private static Duration getBackoff(int attempt) {
+
+			Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << Math.min(attempt, 16));
+
+			return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("adaptive(%d)", getMaxInFlight());
+		}
+	}
+
+	/**
+	 * Permit holder tracking in-flight operations against the current limit.
+	 */
+	static class Limiter {
+
+		private final int maxLimit;
+
+		private final Deque<Waiter> waiters = new ArrayDeque<>();
+
+		private int limit;
+
+		private int inFlight;
+
+		private int successes;
+
+		Limiter(int maxLimit) {
+			this.maxLimit = maxLimit;
+			this.limit = maxLimit;
+		}
+
+		/**
+		 * Obtain a permit. The returned {@link Mono} completes once a permit was granted and sets {@code acquired} to
+		 * {@literal true} while holding the lock so cancellation and release observe a consistent state.
+		 */
+		Mono<Void> acquire(AtomicBoolean acquired) {
+
+			return Mono.create(sink -> {
+
+				Waiter waiter = new Waiter(sink, acquired);
+				boolean granted;
+
+				synchronized (this) {
+
+					granted = inFlight < limit;
+
+					if (granted) {
+						inFlight++;
+						acquired.set(true);
+					} else {
+						waiters.add(waiter);
+					}
+				}
+
+				if (granted) {
+					sink.success();
+					return;
+				}
+
+				sink.onCancel(() -> {
+					synchronized (this) {
+						waiters.remove(waiter);
+					}
+				});
+			});
+		}
+
+		/**
+		 * Release a permit and adjust the limit.
+		 *
+		 * @param overloaded whether the operation was rejected due to overload.
+		 */
+		void release(boolean overloaded) {
+
+			List<Waiter> granted = new ArrayList<>();
+
+			synchronized (this) {
+
+				inFlight--;
+
+				if (overloaded) {
+					limit = Math.max(1, limit / 2);
+					successes = 0;
+				} else if (limit < maxLimit && ++successes >= limit) {
+					limit++;
+					successes = 0;
+				}
+
+				while (inFlight < limit && !waiters.isEmpty()) {
+
+					Waiter waiter = waiters.poll();
+
+					inFlight++;
+					waiter.acquired.set(true);
+					granted.add(waiter);
+				}
+			}
+
+			granted.forEach(waiter -> waiter.sink.success());
+		}
+
+		synchronized int getLimit() {
+			return limit;
+		}
+	}
+
+	/**
+	 * Pending permit request.
+	 */
+	static class Waiter {
+
+		final MonoSink<Void> sink;
+		final AtomicBoolean acquired;
+
+		Waiter(MonoSink<Void> sink, AtomicBoolean acquired) {
+			this.sink = sink;
+			this.acquired = acquired;
+		}
+	}
+}
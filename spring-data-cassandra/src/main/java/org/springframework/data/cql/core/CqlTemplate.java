@@ -24,6 +24,7 @@ import java.util.function.Function;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.data.cql.core.session.SessionFactory;
+import org.springframework.data.cql.core.support.PreparedStatementCache;
 import org.springframework.util.Assert;
 
 import com.datastax.driver.core.BoundStatement;
@@ -392,7 +393,7 @@ public class CqlTemplate extends CqlTemplateSupport implements CqlOperations {
 	 */
 	@Override
 	public boolean execute(String cql, PreparedStatementBinder preparedStatementBinder) throws DataAccessException {
-		return query(new SimplePreparedStatementCreator(cql), preparedStatementBinder, ResultSet::wasApplied);
+		return query(newPreparedStatementCreator(cql), preparedStatementBinder, ResultSet::wasApplied);
 	}
 
 	/*
@@ -684,9 +685,16 @@ public class CqlTemplate extends CqlTemplateSupport implements CqlOperations {
 		return getCurrentSession().getCluster().getMetadata().getAllHosts();
 	}
 
-	/* (non-Javadoc) */
+	/**
+	 * Create a new CQL-based {@link PreparedStatementCreator} using the CQL passed in. By default, we'll create a
+	 * {@link SimplePreparedStatementCreator} that consults the {@link #getPreparedStatementCache()
+	 * PreparedStatementCache}, if configured. This method allows for the creation to be overridden by subclasses.
+	 *
+	 * @param cql static CQL to execute, must not be empty or {@literal null}.
+	 * @return the new {@link PreparedStatementCreator} to use
+	 */
 	protected PreparedStatementCreator newPreparedStatementCreator(String cql) {
-		return new SimplePreparedStatementCreator(cql);
+		return new SimplePreparedStatementCreator(cql, getPreparedStatementCache());
 	}
 
 	// -------------------------------------------------------------------------
@@ -711,20 +719,28 @@ public class CqlTemplate extends CqlTemplateSupport implements CqlOperations {
 		return getSessionFactory().getSession();
 	}
 
-	private class SimplePreparedStatementCreator implements PreparedStatementCreator, CqlProvider {
+	private static class SimplePreparedStatementCreator implements PreparedStatementCreator, CqlProvider {
 
 		private final String cql;
 
-		SimplePreparedStatementCreator(String cql) {
+		private final PreparedStatementCache cache;
+
+		SimplePreparedStatementCreator(String cql, PreparedStatementCache cache) {
 
 			Assert.notNull(cql, "CQL must not be null");
 
 			this.cql = cql;
+			this.cache = cache;
 		}
 
 		@Override
 		public PreparedStatement createPreparedStatement(Session session) throws DriverException {
-			return session.prepare(cql);
+
+			if (cache == null) {
+				return session.prepare(cql);
+			}
+
+			return cache.getPreparedStatement(session, new SimpleStatement(cql), () -> session.prepare(cql));
 		}
 
 		@Override
@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 
+import org.springframework.data.cql.core.support.PreparedStatementCache;
 import org.springframework.data.cql.support.CassandraAccessor;
 
 import com.datastax.driver.core.ResultSet;
@@ -31,6 +32,38 @@ import com.datastax.driver.core.ResultSet;
  */
 public abstract class CqlTemplateSupport extends CassandraAccessor {
 
+	/**
+	 * Default number of {@link com.datastax.driver.core.PreparedStatement}s cached for CQL strings passed to methods
+	 * accepting bind arguments.
+	 */
+	public static final long DEFAULT_PREPARED_STATEMENT_CACHE_SIZE = 1000;
+
+	private PreparedStatementCache preparedStatementCache = PreparedStatementCache
+			.create(DEFAULT_PREPARED_STATEMENT_CACHE_SIZE);
+
+	/**
+	 * Set the {@link PreparedStatementCache} used to cache {@link com.datastax.driver.core.PreparedStatement}s for CQL
+	 * strings passed to methods accepting bind arguments. Defaults to a cache bounded to
+	 * {@link #DEFAULT_PREPARED_STATEMENT_CACHE_SIZE} statements. Setting the cache to {@literal null} disables caching
+	 * and prepares each statement on every invocation.
+	 *
+	 * @param preparedStatementCache the {@link PreparedStatementCache} to use, may be {@literal null}.
+	 * @see PreparedStatementCache#create()
+	 * @see PreparedStatementCache#create(long)
+	 */
+	public void setPreparedStatementCache(PreparedStatementCache preparedStatementCache) {
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
+	/**
+	 * Returns the configured {@link PreparedStatementCache}.
+	 *
+	 * @return the {@link PreparedStatementCache}, may be {@literal null} if caching is disabled.
+	 */
+	public PreparedStatementCache getPreparedStatementCache() {
+		return this.preparedStatementCache;
+	}
+
 	/**
 	 * Create a new arg-based PreparedStatementSetter using the args passed in. By default, we'll create an
 	 * {@link ArgumentPreparedStatementBinder}. This method allows for the creation to be overridden by subclasses.
@@ -233,6 +233,19 @@ public interface ReactiveCqlOperations {
 	 */
 	Flux<Boolean> execute(Publisher<String> statementPublisher) throws DataAccessException;
 
+	/**
+	 * Issue multiple CQL statements from a CQL statement {@link Publisher} while limiting the number of concurrently
+	 * executed statements to the given {@link ConcurrencyLimit}.
+	 *
+	 * @param statementPublisher defining a {@link Publisher} of CQL statements that will be executed.
+	 * @param concurrencyLimit the {@link ConcurrencyLimit} to apply, must not be {@literal null}.
+	 * @return a {@link Flux} emitting whether each statement was applied, in completion order.
+	 * @throws DataAccessException if there is any problem executing the batch
+	 * @since 2.0
+	 */
+	Flux<Boolean> execute(Publisher<String> statementPublisher, ConcurrencyLimit concurrencyLimit)
+			throws DataAccessException;
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with com.datastax.driver.core.Statement
 	// -------------------------------------------------------------------------
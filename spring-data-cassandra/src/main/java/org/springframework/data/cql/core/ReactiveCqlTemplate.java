@@ -29,6 +29,7 @@ import org.springframework.data.cql.core.session.DefaultReactiveSessionFactory;
 import org.springframework.data.cql.core.session.ReactiveResultSet;
 import org.springframework.data.cql.core.session.ReactiveSession;
 import org.springframework.data.cql.core.session.ReactiveSessionFactory;
+import org.springframework.data.cql.core.support.ReactivePreparedStatementCache;
 import org.springframework.data.cql.support.ReactiveCassandraAccessor;
 import org.springframework.util.Assert;
 
@@ -104,6 +105,18 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 	 */
 	private com.datastax.driver.core.ConsistencyLevel consistencyLevel;
 
+	/**
+	 * If this variable is set to a value, it will be used to cache {@link PreparedStatement}s for CQL strings passed to
+	 * methods accepting bind arguments.
+	 */
+	private ReactivePreparedStatementCache preparedStatementCache = ReactivePreparedStatementCache
+			.create(CqlTemplateSupport.DEFAULT_PREPARED_STATEMENT_CACHE_SIZE);
+
+	/**
+	 * Limits the number of concurrently executed statements when executing a {@link Publisher} of statements.
+	 */
+	private ConcurrencyLimit concurrencyLimit = ConcurrencyLimit.create();
+
 	/**
 	 * Construct a new {@link ReactiveCqlTemplate Note: The {@link ReactiveSessionFactory} has to be set before using the
 	 * instance.
@@ -195,6 +208,48 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 		return retryPolicy;
 	}
 
+	/**
+	 * Set the {@link ReactivePreparedStatementCache} for this {@link ReactiveCqlTemplate}. Defaults to a cache bounded to
+	 * {@link CqlTemplateSupport#DEFAULT_PREPARED_STATEMENT_CACHE_SIZE} statements. Setting the cache to {@literal null}
+	 * disables caching and prepares each statement on every invocation.
+	 *
+	 * @see ReactivePreparedStatementCache#create()
+	 * @see ReactivePreparedStatementCache#create(long)
+	 */
+	public void setPreparedStatementCache(ReactivePreparedStatementCache preparedStatementCache) {
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
+	/**
+	 * @return the {@link ReactivePreparedStatementCache} specified for this {@link ReactiveCqlTemplate}, may be
+	 *         {@literal null} if caching is disabled.
+	 */
+	public ReactivePreparedStatementCache getPreparedStatementCache() {
+		return preparedStatementCache;
+	}
+
+	/**
+	 * Set the {@link ConcurrencyLimit} applied when executing a {@link Publisher} of CQL statements. Defaults to
+	 * {@link ConcurrencyLimit#create()}.
+	 *
+	 * @param concurrencyLimit must not be {@literal null}.
+	 * @see #execute(Publisher)
+	 * @see #execute(String, Publisher)
+	 */
+	public void setConcurrencyLimit(ConcurrencyLimit concurrencyLimit) {
+
+		Assert.notNull(concurrencyLimit, "ConcurrencyLimit must not be null");
+
+		this.concurrencyLimit = concurrencyLimit;
+	}
+
+	/**
+	 * @return the {@link ConcurrencyLimit} specified for this {@link ReactiveCqlTemplate}.
+	 */
+	public ConcurrencyLimit getConcurrencyLimit() {
+		return concurrencyLimit;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with a plain org.springframework.data.cql.core.ReactiveSession
 	// -------------------------------------------------------------------------
@@ -326,9 +381,20 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 	@Override
 	public Flux<Boolean> execute(Publisher<String> statementPublisher) throws DataAccessException {
 
+		return execute(statementPublisher, getConcurrencyLimit());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.ReactiveCqlOperations#execute(org.reactivestreams.Publisher, org.springframework.data.cql.core.ConcurrencyLimit)
+	 */
+	@Override
+	public Flux<Boolean> execute(Publisher<String> statementPublisher, ConcurrencyLimit concurrencyLimit)
+			throws DataAccessException {
+
 		Assert.notNull(statementPublisher, "CQL Publisher must not be null");
+		Assert.notNull(concurrencyLimit, "ConcurrencyLimit must not be null");
 
-		return Flux.from(statementPublisher).flatMap(this::execute);
+		return concurrencyLimit.<String, Boolean> flatMap(statementPublisher, this::execute);
 	}
 
 	// -------------------------------------------------------------------------
@@ -467,7 +533,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 	 */
 	@Override
 	public <T> Flux<T> execute(String cql, ReactivePreparedStatementCallback<T> action) throws DataAccessException {
-		return execute(new SimpleReactivePreparedStatementCreator(cql), action);
+		return execute(newReactivePreparedStatementCreator(cql), action);
 	}
 
 	/**
@@ -518,7 +584,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 	public <T> Flux<T> query(String cql, PreparedStatementBinder psb, ReactiveResultSetExtractor<T> rse)
 			throws DataAccessException {
 
-		return query(new SimpleReactivePreparedStatementCreator(cql), psb, rse);
+		return query(newReactivePreparedStatementCreator(cql), psb, rse);
 	}
 
 	/* (non-Javadoc)
@@ -526,7 +592,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 	 */
 	@Override
 	public <T> Flux<T> query(String cql, ReactiveResultSetExtractor<T> rse, Object... args) throws DataAccessException {
-		return query(new SimpleReactivePreparedStatementCreator(cql), newArgPreparedStatementBinder(args), rse);
+		return query(newReactivePreparedStatementCreator(cql), newArgPreparedStatementBinder(args), rse);
 	}
 
 	/* (non-Javadoc)
@@ -612,7 +678,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 
 		Assert.hasText(cql, "CQL must not be empty");
 
-		return query(new SimpleReactivePreparedStatementCreator(cql), newArgPreparedStatementBinder(args), Mono::just)
+		return query(newReactivePreparedStatementCreator(cql), newArgPreparedStatementBinder(args), Mono::just)
 				.next();
 	}
 
@@ -638,7 +704,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 	 */
 	@Override
 	public Mono<Boolean> execute(String cql, PreparedStatementBinder psb) throws DataAccessException {
-		return query(new SimpleReactivePreparedStatementCreator(cql), psb, resultSet -> Mono.just(resultSet.wasApplied()))
+		return query(newReactivePreparedStatementCreator(cql), psb, resultSet -> Mono.just(resultSet.wasApplied()))
 				.next();
 	}
 
@@ -658,9 +724,9 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 
 		Assert.notNull(args, "Args Publisher must not be null");
 
-		SimpleReactivePreparedStatementCreator psc = new SimpleReactivePreparedStatementCreator(cql);
+		ReactivePreparedStatementCreator psc = newReactivePreparedStatementCreator(cql);
 
-		return execute(psc, (session, ps) -> Flux.from(args).flatMap(objects -> {
+		return execute(psc, (session, ps) -> getConcurrencyLimit().<Object[], ReactiveResultSet> flatMap(args, objects -> {
 
 			if (logger.isDebugEnabled()) {
 				logger.debug("Executing Prepared CQL Statement [{}]", cql);
@@ -815,6 +881,18 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 		}
 	}
 
+	/**
+	 * Create a new CQL-based {@link ReactivePreparedStatementCreator} using the CQL passed in. By default, we'll create a
+	 * {@link SimpleReactivePreparedStatementCreator} that consults the {@link #getPreparedStatementCache()
+	 * ReactivePreparedStatementCache}, if configured. This method allows for the creation to be overridden by subclasses.
+	 *
+	 * @param cql static CQL to execute, must not be empty or {@literal null}.
+	 * @return the new {@link ReactivePreparedStatementCreator} to use
+	 */
+	protected ReactivePreparedStatementCreator newReactivePreparedStatementCreator(String cql) {
+		return new SimpleReactivePreparedStatementCreator(cql, getPreparedStatementCache());
+	}
+
 	/**
 	 * Create a new arg-based PreparedStatementSetter using the args passed in.
 	 * <p>
@@ -848,20 +926,28 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 				.orElse(null);
 	}
 
-	private class SimpleReactivePreparedStatementCreator implements ReactivePreparedStatementCreator, CqlProvider {
+	private static class SimpleReactivePreparedStatementCreator implements ReactivePreparedStatementCreator, CqlProvider {
 
 		private final String cql;
 
-		SimpleReactivePreparedStatementCreator(String cql) {
+		private final ReactivePreparedStatementCache cache;
+
+		SimpleReactivePreparedStatementCreator(String cql, ReactivePreparedStatementCache cache) {
 
 			Assert.notNull(cql, "CQL must not be null");
 
 			this.cql = cql;
+			this.cache = cache;
 		}
 
 		@Override
 		public Mono<PreparedStatement> createPreparedStatement(ReactiveSession session) throws DriverException {
-			return session.prepare(cql);
+
+			if (cache == null) {
+				return session.prepare(cql);
+			}
+
+			return cache.getPreparedStatement(session, new SimpleStatement(cql), () -> session.prepare(cql));
 		}
 
 		@Override
@@ -17,12 +17,13 @@ package org.springframework.data.cql.core.session;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,8 +41,10 @@ import com.google.common.util.concurrent.ListenableFuture;
  * <p>
  * {@link ResultSet} implements transparent paging that invokes in the middle of result streaming blocking calls to
  * Cassandra. {@link DefaultBridgedReactiveSession} uses therefore {@link ReactiveResultSet} to avoid client thread
- * blocking. Elements are emitted on netty EventLoop threads and transported by the provided {@link Scheduler}. However,
- * this is an intermediate solution until Datastax can provide a fully reactive driver.
+ * blocking. Rows are streamed page by page: the next page is requested through
+ * {@link ResultSet#fetchMoreResults()} once downstream demand exceeds the rows already fetched. Elements are
+ * transported by the provided {@link Scheduler}. However, this is an intermediate solution until Datastax can provide
+ * a fully reactive driver.
  * <p>
  * All CQL operations performed by this class are logged at debug level, using
  * "org.springframework.data.cql.core.DefaultBridgedReactiveSession" as log category.
@@ -217,6 +220,14 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 		return session.getCluster();
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.ReactiveSession#getLoggedKeyspace()
+	 */
+	@Override
+	public String getLoggedKeyspace() {
+		return session.getLoggedKeyspace();
+	}
+
 	private static class DefaultReactiveResultSet implements ReactiveResultSet {
 
 		private final ResultSet resultSet;
@@ -233,11 +244,70 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 		@Override
 		public Flux<Row> rows() {
 
-			int prefetch = Math.max(1, resultSet.getAvailableWithoutFetching());
+			// emit buffered rows page by page, the next page is fetched only when demand exceeds the buffered rows
+			return Flux.defer(this::nextPage) //
+					.repeat(this::hasMorePages) //
+					.subscribeOn(scheduler);
+		}
+
+		private Flux<Row> nextPage() {
+
+			if (resultSet.getAvailableWithoutFetching() > 0) {
+				return availableRows();
+			}
+
+			if (resultSet.isFullyFetched()) {
+				return Flux.empty();
+			}
+
+			return fetchMoreResults().flatMapMany(it -> availableRows());
+		}
+
+		private boolean hasMorePages() {
+			return resultSet.getAvailableWithoutFetching() > 0 || !resultSet.isFullyFetched();
+		}
+
+		/* (non-Javadoc)
+		 * Completion is signalled on demand after emitting the last available row so that the next page is not fetched
+		 * ahead of demand.
+		 * @see org.springframework.data.cql.core.session.ReactiveResultSet#availableRows()
+		 */
+		@Override
+		public Flux<Row> availableRows() {
+
+			return Flux.generate(resultSet::getAvailableWithoutFetching, (Integer remaining, SynchronousSink<Row> sink) -> {
+
+				if (remaining == 0) {
+					sink.complete();
+					return 0;
+				}
+
+				sink.next(resultSet.one());
+
+				return remaining - 1;
+			});
+		}
+
+		private Mono<ResultSet> fetchMoreResults() {
+
+			return Mono.defer(() -> {
+
+				CompletableFuture<ResultSet> future = new CompletableFuture<>();
+				ListenableFuture<ResultSet> fetchFuture = resultSet.fetchMoreResults();
 
-			return Flux.fromIterable(resultSet) //
-					.subscribeOn(scheduler) //
-					.publishOn(Schedulers.immediate(), prefetch); // limit prefetching to available size
+				fetchFuture.addListener(() -> {
+
+					try {
+						future.complete(fetchFuture.get());
+					} catch (ExecutionException e) {
+						future.completeExceptionally(e.getCause());
+					} catch (Exception e) {
+						future.completeExceptionally(e);
+					}
+				}, scheduler::schedule);
+
+				return Mono.fromFuture(future);
+			});
 		}
 
 		/* (non-Javadoc)
@@ -58,6 +58,16 @@ public interface ReactiveResultSet {
 	 */
 	Flux<Row> rows();
 
+	/**
+	 * Returns a {@link Flux} over the rows that are available in this result set without fetching further pages. Use
+	 * this method to consume a single page of rows, e.g. in conjunction with the
+	 * {@link com.datastax.driver.core.PagingState} obtained from {@link #getExecutionInfo()}.
+	 *
+	 * @return a {@link Flux} of rows that are available without fetching more results.
+	 * @since 2.0
+	 */
+	Flux<Row> availableRows();
+
 	/**
 	 * Returns the columns returned in this ResultSet.
 	 *
@@ -197,4 +197,21 @@ public interface ReactiveSession extends Closeable {
 	 * @return the {@code Cluster} object this session is part of.
 	 */
 	Cluster getCluster();
+
+	/**
+	 * The keyspace to which this Session is currently logged in, if any.
+	 * <p>
+	 * This correspond to the name passed to {@link Cluster#connect(String)}, or to the last keyspace logged into through
+	 * a "USE" CQL query if one was used.
+	 *
+	 * <p>
+	 * Defaults to {@code null}. Implementations should override this method so that prepared statement caches can tell
+	 * sessions logged into different keyspaces apart.
+	 *
+	 * @return the name of the keyspace to which this Session is currently logged in, or {@code null} if the session is
+	 *         logged to no keyspace.
+	 */
+	default String getLoggedKeyspace() {
+		return null;
+	}
 }
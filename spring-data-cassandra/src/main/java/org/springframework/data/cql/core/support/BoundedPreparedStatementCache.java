@@ -0,0 +1,303 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core.support;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.data.cql.core.support.MapPreparedStatementCache.CacheKey;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Size- or weight-bounded {@link PreparedStatementCache} backed by a Guava {@link Cache}. Least recently used
+ * statements are evicted once the cache exceeds its configured bounds. Evicted statements are reported to an optional
+ * eviction listener.
+ * <p/>
+ * Statements are cached with a key consisting of {@link com.datastax.driver.core.Cluster}, {@code keyspace} and the
+ * {@link RegularStatement#getQueryString() query string}. The cache records {@link Statistics statistics} about cache
+ * hits, misses, evictions and the time spent preparing statements.
+ *
+ * @since 2.0
+ * @see #builder()
+ */
+public class BoundedPreparedStatementCache implements PreparedStatementCache {
+
+	private final Cache<CacheKey, PreparedStatement> cache;
+
+	private BoundedPreparedStatementCache(Cache<CacheKey, PreparedStatement> cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * Create a {@link BoundedPreparedStatementCache} holding up to {@code maximumSize} prepared statements.
+	 *
+	 * @param maximumSize maximum number of cached statements, must be greater than zero.
+	 * @return the new {@link BoundedPreparedStatementCache}.
+	 */
+	public static BoundedPreparedStatementCache create(long maximumSize) {
+		return builder().maximumSize(maximumSize).build();
+	}
+
+	/**
+	 * Create a new {@link BoundedPreparedStatementCacheBuilder}.
+	 *
+	 * @return a new {@link BoundedPreparedStatementCacheBuilder}.
+	 */
+	public static BoundedPreparedStatementCacheBuilder builder() {
+		return new BoundedPreparedStatementCacheBuilder();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.support.PreparedStatementCache#getPreparedStatement(com.datastax.driver.core.Session, com.datastax.driver.core.RegularStatement, java.util.function.Supplier)
+	 */
+	@Override
+	public PreparedStatement getPreparedStatement(Session session, RegularStatement statement,
+			Supplier<PreparedStatement> preparer) {
+
+		try {
+			return cache.get(new CacheKey(session, statement.getQueryString()), preparer::get);
+		} catch (UncheckedExecutionException | ExecutionError e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+
+			throw e;
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.support.PreparedStatementCache#getIfPresent(com.datastax.driver.core.Session, com.datastax.driver.core.RegularStatement)
+	 */
+	@Override
+	public PreparedStatement getIfPresent(Session session, RegularStatement statement) {
+		return cache.getIfPresent(new CacheKey(session, statement.getQueryString()));
+	}
+
+	/**
+	 * @return the approximate number of cached statements.
+	 */
+	public long size() {
+		return cache.size();
+	}
+
+	/**
+	 * Discard all cached statements.
+	 */
+	public void clear() {
+		cache.invalidateAll();
+	}
+
+	/**
+	 * @return a snapshot of the cache {@link Statistics}.
+	 */
+	public Statistics getStatistics() {
+		return new Statistics(cache.stats());
+	}
+
+	/**
+	 * Builder for {@link BoundedPreparedStatementCache}.
+	 *
+	 * @since 2.0
+	 */
+	public static class BoundedPreparedStatementCacheBuilder {
+
+		private long maximumSize = -1;
+
+		private long maximumWeight = -1;
+
+		private Consumer<PreparedStatement> evictionListener;
+
+		private BoundedPreparedStatementCacheBuilder() {}
+
+		/**
+		 * Limit the cache to {@code maximumSize} statements. Cannot be combined with {@link #maximumWeight(long)}.
+		 *
+		 * @param maximumSize maximum number of cached statements, must be greater than zero.
+		 * @return {@code this} {@link BoundedPreparedStatementCacheBuilder}
+		 */
+		public BoundedPreparedStatementCacheBuilder maximumSize(long maximumSize) {
+
+			Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+
+			this.maximumSize = maximumSize;
+
+			return this;
+		}
+
+		/**
+		 * Limit the cache to a total weight of {@code maximumWeight}. Each statement weighs the length of its CQL text.
+		 * Cannot be combined with {@link #maximumSize(long)}.
+		 *
+		 * @param maximumWeight maximum total length of cached CQL text, must be greater than zero.
+		 * @return {@code this} {@link BoundedPreparedStatementCacheBuilder}
+		 */
+		public BoundedPreparedStatementCacheBuilder maximumWeight(long maximumWeight) {
+
+			Assert.isTrue(maximumWeight > 0, "Maximum weight must be greater than zero");
+
+			this.maximumWeight = maximumWeight;
+
+			return this;
+		}
+
+		/**
+		 * Register a listener that is notified with {@link PreparedStatement}s evicted due to size or weight constraints.
+		 *
+		 * @param evictionListener must not be {@literal null}.
+		 * @return {@code this} {@link BoundedPreparedStatementCacheBuilder}
+		 */
+		public BoundedPreparedStatementCacheBuilder evictionListener(Consumer<PreparedStatement> evictionListener) {
+
+			Assert.notNull(evictionListener, "Eviction listener must not be null");
+
+			this.evictionListener = evictionListener;
+
+			return this;
+		}
+
+		/**
+		 * Builds a new {@link BoundedPreparedStatementCache} with the configured values.
+		 *
+		 * @return a new {@link BoundedPreparedStatementCache}.
+		 */
+		public BoundedPreparedStatementCache build() {
+
+			Assert.state(maximumSize > 0 || maximumWeight > 0, "Either maximum size or maximum weight must be configured");
+			Assert.state(maximumSize <= 0 || maximumWeight <= 0, "Maximum size and maximum weight cannot be combined");
+
+			CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().recordStats();
+
+			if (maximumSize > 0) {
+				builder.maximumSize(maximumSize);
+			} else {
+				// Guava splits the maximum weight across segments, use a single segment to apply the bound to the whole cache.
+				builder.concurrencyLevel(1).maximumWeight(maximumWeight)
+						.<CacheKey, PreparedStatement> weigher((key, value) -> key.cql.length());
+			}
+
+			Consumer<PreparedStatement> listener = this.evictionListener;
+
+			if (listener != null) {
+				builder.<CacheKey, PreparedStatement> removalListener(notification -> {
+					if (notification.wasEvicted() && notification.getValue() != null) {
+						listener.accept(notification.getValue());
+					}
+				});
+			}
+
+			return new BoundedPreparedStatementCache(builder.<CacheKey, PreparedStatement> build());
+		}
+	}
+
+	/**
+	 * Point-in-time snapshot of {@link BoundedPreparedStatementCache} statistics.
+	 *
+	 * @since 2.0
+	 */
+	public static class Statistics {
+
+		private final CacheStats stats;
+
+		private Statistics(CacheStats stats) {
+			this.stats = stats;
+		}
+
+		/**
+		 * @return number of lookups that returned a cached {@link PreparedStatement}.
+		 */
+		public long getHitCount() {
+			return stats.hitCount();
+		}
+
+		/**
+		 * @return number of lookups that required preparing a statement.
+		 */
+		public long getMissCount() {
+			return stats.missCount();
+		}
+
+		/**
+		 * @return ratio of hits to lookups, {@code 1.0} if no lookups were performed.
+		 */
+		public double getHitRate() {
+			return stats.hitRate();
+		}
+
+		/**
+		 * @return number of statements evicted due to size or weight constraints.
+		 */
+		public long getEvictionCount() {
+			return stats.evictionCount();
+		}
+
+		/**
+		 * @return number of failed statement preparations.
+		 */
+		public long getPrepareFailureCount() {
+			return stats.loadExceptionCount();
+		}
+
+		/**
+		 * @param timeUnit must not be {@literal null}.
+		 * @return total time spent preparing statements.
+		 */
+		public long getTotalPrepareTime(TimeUnit timeUnit) {
+
+			Assert.notNull(timeUnit, "TimeUnit must not be null");
+
+			return timeUnit.convert(stats.totalLoadTime(), TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * @param timeUnit must not be {@literal null}.
+		 * @return average time spent preparing a statement.
+		 */
+		public double getAveragePrepareTime(TimeUnit timeUnit) {
+
+			Assert.notNull(timeUnit, "TimeUnit must not be null");
+
+			return stats.averageLoadPenalty() / TimeUnit.NANOSECONDS.convert(1, timeUnit);
+		}
+
+		/* (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("hits=%d, misses=%d, evictions=%d, prepareFailures=%d, totalPrepareTime=%dms",
+					getHitCount(), getMissCount(), getEvictionCount(), getPrepareFailureCount(),
+					getTotalPrepareTime(TimeUnit.MILLISECONDS));
+		}
+	}
+}
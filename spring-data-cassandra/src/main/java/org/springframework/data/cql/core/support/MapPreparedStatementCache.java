@@ -33,6 +33,9 @@ import com.datastax.driver.core.Session;
  * <p/>
  * Statements are cached with a key consisting of {@link Cluster}, {@code keyspace} and the {@code cql} text. Statement
  * options (idempotency, timeouts) apply from the statement that was initially prepared.
+ * <p/>
+ * Note: {@link ConcurrentHashMap}-backed caches are unbounded. Use {@link BoundedPreparedStatementCache} when
+ * statements are created dynamically.
  *
  * @author Mark Paluch
  * @since 2.0
@@ -85,11 +88,19 @@ public class MapPreparedStatementCache implements PreparedStatementCache {
 	public PreparedStatement getPreparedStatement(Session session, RegularStatement statement,
 			Supplier<PreparedStatement> preparer) {
 
-		CacheKey cacheKey = new CacheKey(session, statement.toString());
+		CacheKey cacheKey = new CacheKey(session, statement.getQueryString());
 
 		return getCache().computeIfAbsent(cacheKey, key -> preparer.get());
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.support.PreparedStatementCache#getIfPresent(com.datastax.driver.core.Session, com.datastax.driver.core.RegularStatement)
+	 */
+	@Override
+	public PreparedStatement getIfPresent(Session session, RegularStatement statement) {
+		return getCache().get(new CacheKey(session, statement.getQueryString()));
+	}
+
 	/**
 	 * {@link CacheKey} for {@link PreparedStatement} caching.
 	 */
@@ -101,9 +112,13 @@ public class MapPreparedStatementCache implements PreparedStatementCache {
 		final String cql;
 
 		CacheKey(Session session, String cql) {
+			this(session.getCluster(), session.getLoggedKeyspace(), cql);
+		}
+
+		CacheKey(Cluster cluster, String keyspace, String cql) {
 
-			this.cluster = session.getCluster();
-			this.keyspace = session.getLoggedKeyspace();
+			this.cluster = cluster;
+			this.keyspace = keyspace;
 			this.cql = cql;
 		}
 	}
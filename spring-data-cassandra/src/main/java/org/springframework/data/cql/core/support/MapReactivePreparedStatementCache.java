@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core.support;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.data.cql.core.session.ReactiveSession;
+import org.springframework.data.cql.core.support.MapPreparedStatementCache.CacheKey;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+
+/**
+ * {@link ReactivePreparedStatementCache} backed by a {@link Map} cache. Defaults to simple {@link ConcurrentHashMap}
+ * caching.
+ * <p/>
+ * Statements are cached with a key consisting of {@link com.datastax.driver.core.Cluster}, {@code keyspace} and the
+ * {@code cql} text. A statement is registered once its preparation completes, concurrent cache misses for the same
+ * statement may prepare the statement more than once. Failed preparations are not cached.
+ *
+ * @since 2.0
+ */
+public class MapReactivePreparedStatementCache implements ReactivePreparedStatementCache {
+
+	private final Map<CacheKey, PreparedStatement> cache;
+
+	/**
+	 * Create a new {@link MapReactivePreparedStatementCache}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 */
+	private MapReactivePreparedStatementCache(Map<CacheKey, PreparedStatement> cache) {
+
+		Assert.notNull(cache, "Cache must not be null");
+
+		this.cache = cache;
+	}
+
+	/**
+	 * Create a {@link MapReactivePreparedStatementCache} using {@link ConcurrentHashMap}.
+	 *
+	 * @return the new {@link MapReactivePreparedStatementCache} backed by {@link ConcurrentHashMap}.
+	 */
+	public static MapReactivePreparedStatementCache create() {
+		return of(new ConcurrentHashMap<>());
+	}
+
+	/**
+	 * Create a {@link MapReactivePreparedStatementCache} using the given {@link Map}.
+	 *
+	 * @return the new {@link MapReactivePreparedStatementCache} backed the given {@link Map}.
+	 */
+	public static MapReactivePreparedStatementCache of(Map<CacheKey, PreparedStatement> cache) {
+		return new MapReactivePreparedStatementCache(cache);
+	}
+
+	/**
+	 * @return the underlying {@link Map cache}.
+	 */
+	protected Map<CacheKey, PreparedStatement> getCache() {
+		return this.cache;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.support.ReactivePreparedStatementCache#getPreparedStatement(org.springframework.data.cql.core.session.ReactiveSession, com.datastax.driver.core.RegularStatement, java.util.function.Supplier)
+	 */
+	@Override
+	public Mono<PreparedStatement> getPreparedStatement(ReactiveSession session, RegularStatement statement,
+			Supplier<Mono<PreparedStatement>> preparer) {
+
+		CacheKey cacheKey = new CacheKey(session.getCluster(), session.getLoggedKeyspace(), statement.getQueryString());
+
+		return Mono.defer(() -> {
+
+			PreparedStatement cached = getCache().get(cacheKey);
+
+			if (cached != null) {
+				return Mono.just(cached);
+			}
+
+			return preparer.get().map(preparedStatement -> {
+
+				PreparedStatement previous = getCache().putIfAbsent(cacheKey, preparedStatement);
+
+				return previous != null ? previous : preparedStatement;
+			});
+		});
+	}
+}
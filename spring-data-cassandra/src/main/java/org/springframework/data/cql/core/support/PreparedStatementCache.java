@@ -43,6 +43,17 @@ public interface PreparedStatementCache {
 		return MapPreparedStatementCache.create();
 	}
 
+	/**
+	 * Create a cache bounded to {@code maximumSize} statements evicting least recently used statements.
+	 *
+	 * @param maximumSize maximum number of cached statements, must be greater than zero.
+	 * @return a new {@link BoundedPreparedStatementCache}.
+	 * @see BoundedPreparedStatementCache#builder()
+	 */
+	static PreparedStatementCache create(long maximumSize) {
+		return BoundedPreparedStatementCache.create(maximumSize);
+	}
+
 	/**
 	 * Obtain a {@link PreparedStatement} by {@link Session} and {@link RegularStatement}.
 	 *
@@ -65,4 +76,18 @@ public interface PreparedStatementCache {
 	PreparedStatement getPreparedStatement(Session session, RegularStatement statement,
 			Supplier<PreparedStatement> preparer);
 
+	/**
+	 * Look up a cached {@link PreparedStatement} by {@link Session} and {@link RegularStatement} without preparing the
+	 * statement. Allows asynchronous callers to prepare statements themselves and register the result afterwards using
+	 * {@link #getPreparedStatement(Session, RegularStatement, Supplier)}. Caches not supporting lookups return
+	 * {@literal null}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @return the cached {@link PreparedStatement} or {@literal null} if the statement is not cached.
+	 */
+	default PreparedStatement getIfPresent(Session session, RegularStatement statement) {
+		return null;
+	}
+
 }
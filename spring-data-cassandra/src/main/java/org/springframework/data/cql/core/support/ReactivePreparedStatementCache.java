@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core.support;
+
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+import org.springframework.data.cql.core.session.ReactiveSession;
+import org.springframework.data.cql.core.support.MapPreparedStatementCache.CacheKey;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Cache interface to reactively prepare CQL statements.
+ * <p />
+ * Reactive counterpart of {@link PreparedStatementCache}. Implementations must not block while preparing statements
+ * and should cache statements using Cassandras cache key which is specific to the Cluster, keyspace, and CQL text.
+ *
+ * @since 2.0
+ * @see PreparedStatement
+ * @see PreparedStatementCache
+ */
+public interface ReactivePreparedStatementCache {
+
+	/**
+	 * Create a default cache backed by a {@link java.util.concurrent.ConcurrentHashMap}.
+	 *
+	 * @return a new {@link MapReactivePreparedStatementCache}.
+	 */
+	static ReactivePreparedStatementCache create() {
+		return MapReactivePreparedStatementCache.create();
+	}
+
+	/**
+	 * Create a cache bounded to {@code maximumSize} statements evicting least recently used statements.
+	 *
+	 * @param maximumSize maximum number of cached statements, must be greater than zero.
+	 * @return a new {@link MapReactivePreparedStatementCache}.
+	 */
+	static ReactivePreparedStatementCache create(long maximumSize) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+
+		return MapReactivePreparedStatementCache.of(
+				CacheBuilder.newBuilder().maximumSize(maximumSize).<CacheKey, PreparedStatement> build().asMap());
+	}
+
+	/**
+	 * Obtain a {@link PreparedStatement} by {@link ReactiveSession} and {@link RegularStatement}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @return the {@link Mono} emitting the {@link PreparedStatement}.
+	 */
+	default Mono<PreparedStatement> getPreparedStatement(ReactiveSession session, RegularStatement statement) {
+		return getPreparedStatement(session, statement, () -> session.prepare(statement));
+	}
+
+	/**
+	 * Obtain a {@link PreparedStatement} by {@link ReactiveSession} and {@link RegularStatement}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @param preparer must not be {@literal null}.
+	 * @return the {@link Mono} emitting the {@link PreparedStatement}.
+	 */
+	Mono<PreparedStatement> getPreparedStatement(ReactiveSession session, RegularStatement statement,
+			Supplier<Mono<PreparedStatement>> preparer);
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.driver.core;
+
+/**
+ * Test utility to create {@link TokenRange}s of the {@code Murmur3Partitioner} without a connected {@link Cluster}.
+ * Located in the driver package to access the package-private {@link TokenRange} constructor.
+ */
+public abstract class TokenRangeFactory {
+
+	private static final Token.Factory FACTORY = Token.getFactory("org.apache.cassandra.dht.Murmur3Partitioner");
+
+	private TokenRangeFactory() {}
+
+	/**
+	 * Create a {@link TokenRange} from {@code start} (exclusive) to {@code end} (inclusive).
+	 *
+	 * @param start the start token.
+	 * @param end the end token.
+	 * @return the {@link TokenRange}.
+	 */
+	public static TokenRange newTokenRange(long start, long end) {
+		return new TokenRange(FACTORY.fromString(Long.toString(start)), FACTORY.fromString(Long.toString(end)), FACTORY);
+	}
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.cassandra;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -26,6 +27,7 @@ import org.springframework.util.Assert;
 import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.Row;
+import com.datastax.driver.core.TypeCodec;
 
 /**
  * Utility to mock a Cassandra {@link Row}.
@@ -70,6 +72,8 @@ public class RowMockUtil {
 				.thenAnswer(invocation -> columns[(Integer) invocation.getArguments()[0]].type);
 
 		when(rowMock.getObject(anyInt())).thenAnswer(invocation -> columns[(Integer) invocation.getArguments()[0]].value);
+		when(rowMock.get(anyInt(), any(TypeCodec.class)))
+				.thenAnswer(invocation -> columns[(Integer) invocation.getArguments()[0]].value);
 		when(rowMock.getString(anyInt())).thenAnswer(invocation -> columns[(Integer) invocation.getArguments()[0]].value);
 		when(rowMock.getDate(anyInt())).thenAnswer(invocation -> columns[(Integer) invocation.getArguments()[0]].value);
 		when(rowMock.getBool(anyInt())).thenAnswer(invocation -> columns[(Integer) invocation.getArguments()[0]].value);
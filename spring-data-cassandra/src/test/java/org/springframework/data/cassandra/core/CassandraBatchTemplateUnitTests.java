@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.domain.Group;
+import org.springframework.data.cassandra.domain.GroupKey;
+import org.springframework.data.cql.core.CqlIdentifier;
+import org.springframework.data.cql.core.CqlOperations;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.querybuilder.Batch;
+
+/**
+ * Unit tests for {@link CassandraBatchTemplate}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CassandraBatchTemplateUnitTests {
+
+	@Mock CassandraOperations operations;
+	@Mock CqlOperations cqlOperations;
+
+	@Captor ArgumentCaptor<Statement> statementCaptor;
+
+	MappingCassandraConverter converter = new MappingCassandraConverter(new CassandraMappingContext());
+
+	Group walter = new Group(new GroupKey("users", "0x1", "walter"));
+	Group mike = new Group(new GroupKey("users", "0x1", "mike"));
+	Group skyler = new Group(new GroupKey("admins", "0x1", "skyler"));
+
+	@Before
+	public void setUp() {
+
+		when(operations.getConverter()).thenReturn(converter);
+		when(operations.getCqlOperations()).thenReturn(cqlOperations);
+		when(operations.getTableName(Group.class)).thenReturn(CqlIdentifier.cqlId("group"));
+	}
+
+	@Test
+	public void shouldExecuteSingleBatchByDefault() {
+
+		new CassandraBatchTemplate(operations).insert(walter, mike, skyler).execute();
+
+		verify(cqlOperations).execute(statementCaptor.capture());
+		assertThat(statementCaptor.getValue()).isInstanceOf(Batch.class);
+	}
+
+	@Test
+	public void shouldGroupStatementsByPartition() {
+
+		new CassandraBatchTemplate(operations).insert(walter, skyler, mike).splitByPartition(10).execute();
+
+		verify(cqlOperations, times(2)).execute(statementCaptor.capture());
+
+		List<Statement> batches = statementCaptor.getAllValues();
+
+		assertThat(batches).hasSize(2).allMatch(BatchStatement.class::isInstance);
+		assertThat(((BatchStatement) batches.get(0)).size()).isEqualTo(2);
+		assertThat(((BatchStatement) batches.get(1)).size()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldSplitPartitionIntoBoundedBatches() {
+
+		new CassandraBatchTemplate(operations).insert(walter, mike).update(walter).splitByPartition(2).execute();
+
+		verify(cqlOperations, times(2)).execute(statementCaptor.capture());
+
+		List<Statement> batches = statementCaptor.getAllValues();
+
+		assertThat(((BatchStatement) batches.get(0)).size()).isEqualTo(2);
+		assertThat(((BatchStatement) batches.get(1)).size()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldApplyTimestampToSplitBatches() {
+
+		new CassandraBatchTemplate(operations).insert(walter, skyler).withTimestamp(1234)
+				.withBatchType(BatchStatement.Type.UNLOGGED).splitByPartition(10).execute();
+
+		verify(cqlOperations, times(2)).execute(statementCaptor.capture());
+
+		assertThat(statementCaptor.getAllValues())
+				.allMatch(statement -> ((BatchStatement) statement).getDefaultTimestamp() == 1234);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectInvalidBatchSize() {
+		new CassandraBatchTemplate(operations).splitByPartition(0);
+	}
+}
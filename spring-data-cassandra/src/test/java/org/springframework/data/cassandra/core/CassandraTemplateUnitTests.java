@@ -15,14 +15,23 @@
  */
 package org.springframework.data.cassandra.core;
 
+import static com.datastax.driver.core.TokenRangeFactory.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.springframework.data.cassandra.RowMockUtil.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Ignore;
@@ -33,15 +42,33 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.cassandra.RowMockUtil;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.query.CassandraPageRequest;
+import org.springframework.data.cassandra.domain.Group;
+import org.springframework.data.cassandra.domain.GroupKey;
 import org.springframework.data.cassandra.domain.User;
+import org.springframework.data.cql.core.CqlOperations;
+import org.springframework.data.cql.core.SessionCallback;
 import org.springframework.data.cql.support.exception.CassandraConnectionFailureException;
+import org.springframework.data.domain.Slice;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.CodecRegistry;
 import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TokenRange;
+import com.datastax.driver.core.TypeCodec;
 import com.datastax.driver.core.exceptions.NoHostAvailableException;
 import com.datastax.driver.core.querybuilder.Batch;
 
@@ -57,8 +84,11 @@ public class CassandraTemplateUnitTests {
 	@Mock ResultSet resultSet;
 	@Mock Row row;
 	@Mock ColumnDefinitions columnDefinitions;
+	@Mock PreparedStatement preparedStatement;
+	@Mock BoundStatement boundStatement;
 
 	@Captor ArgumentCaptor<Statement> statementCaptor;
+	@Captor ArgumentCaptor<RegularStatement> regularStatementCaptor;
 
 	CassandraTemplate template;
 
@@ -93,6 +123,38 @@ public class CassandraTemplateUnitTests {
 		assertThat(statementCaptor.getValue().toString()).isEqualTo("SELECT * FROM users");
 	}
 
+	@Test
+	public void sliceShouldReadSinglePage() {
+
+		PagingState pagingState = mock(PagingState.class);
+		ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(1);
+		when(resultSet.one()).thenReturn(row);
+		when(resultSet.getExecutionInfo()).thenReturn(executionInfo);
+		when(executionInfo.getPagingState()).thenReturn(pagingState);
+		when(columnDefinitions.contains(anyString())).thenReturn(true);
+		when(columnDefinitions.getType(anyInt())).thenReturn(DataType.ascii());
+
+		when(columnDefinitions.getIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.getIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.getIndexOf("lastname")).thenReturn(2);
+
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+
+		Slice<User> slice = template.slice(new SimpleStatement("SELECT * FROM users").setFetchSize(10), User.class);
+
+		assertThat(slice).containsOnly(new User("myid", "Walter", "White"));
+		assertThat(slice.hasNext()).isTrue();
+		assertThat(slice.getSize()).isEqualTo(10);
+		assertThat(slice.getPageable()).isInstanceOf(CassandraPageRequest.class);
+		assertThat(((CassandraPageRequest) slice.getPageable()).getPagingState()).isSameAs(pagingState);
+		assertThat(slice.nextPageable().getPageNumber()).isEqualTo(1);
+		verify(resultSet, never()).fetchMoreResults();
+	}
+
 	@Test // DATACASS-292
 	public void selectShouldTranslateException() throws Exception {
 
@@ -221,6 +283,139 @@ public class CassandraTemplateUnitTests {
 				.isEqualTo("INSERT INTO users (firstname,id,lastname) VALUES ('Walter','heisenberg','White') IF NOT EXISTS;");
 	}
 
+	@Test
+	public void scanAllShouldReadTokenRanges() {
+
+		CqlOperations cqlOperations = mock(CqlOperations.class);
+		MappingCassandraConverter converter = new MappingCassandraConverter();
+		converter.afterPropertiesSet();
+
+		CassandraTemplate template = new CassandraTemplate(cqlOperations, converter);
+		TokenRange range = newTokenRange(0, 100);
+		List<TokenRange> completedRanges = new ArrayList<>();
+
+		when(cqlOperations.execute(any(SessionCallback.class))).thenReturn(Collections.singleton(range));
+		when(cqlOperations.queryForResultSet(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.iterator()).thenReturn(Collections.singleton(row).iterator());
+		when(columnDefinitions.contains(anyString())).thenReturn(true);
+		when(columnDefinitions.getType(anyInt())).thenReturn(DataType.ascii());
+
+		when(columnDefinitions.getIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.getIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.getIndexOf("lastname")).thenReturn(2);
+
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+
+		Stream<User> users = template.scanAll(User.class,
+				ScanOptions.builder().rangeCompletionListener(completedRanges::add).build());
+
+		assertThat(completedRanges).isEmpty();
+		assertThat(users.collect(Collectors.toList())).containsExactly(new User("myid", "Walter", "White"));
+		assertThat(completedRanges).containsExactly(range);
+
+		verify(cqlOperations).queryForResultSet(statementCaptor.capture());
+		assertThat(statementCaptor.getValue().toString())
+				.isEqualTo("SELECT * FROM users WHERE token(id)>0 AND token(id)<=100;");
+	}
+
+	@Test
+	public void selectBySimpleIdsShouldReturnResultsInIdOrder() {
+
+		CqlOperations cqlOperations = mock(CqlOperations.class);
+		MappingCassandraConverter converter = new MappingCassandraConverter();
+		converter.afterPropertiesSet();
+
+		CassandraTemplate template = new CassandraTemplate(cqlOperations, converter);
+		Pattern username = Pattern.compile("username='([^']+)'");
+
+		when(cqlOperations.queryForResultSet(any(Statement.class))).thenAnswer(invocation -> {
+
+			Matcher matcher = username.matcher(invocation.getArgument(0).toString());
+			matcher.find();
+
+			ResultSet lookupResult = mock(ResultSet.class);
+			Row groupRow = RowMockUtil.newRowMock(column("groupname", "cooker", DataType.varchar()),
+					column("hash_prefix", "hp", DataType.varchar()), column("username", matcher.group(1), DataType.varchar()));
+
+			when(lookupResult.iterator()).thenReturn(Collections.singleton(groupRow).iterator());
+
+			return lookupResult;
+		});
+
+		List<Group> groups = template.selectBySimpleIds(Arrays.asList(new GroupKey("cooker", "hp", "heisenberg"),
+				new GroupKey("dealer", "hp", "jesse"), new GroupKey("cooker", "hp", "skyler")), Group.class);
+
+		assertThat(groups).extracting(group -> group.getId().getUsername()).containsExactly("heisenberg", "jesse",
+				"skyler");
+
+		// lookups of the cooker partition are issued first
+		verify(cqlOperations, times(3)).queryForResultSet(statementCaptor.capture());
+		assertThat(statementCaptor.getAllValues().get(2).toString()).contains("username='jesse'");
+	}
+
+	@Test
+	public void insertShouldUsePreparedStatement() {
+
+		mockPreparedStatement("firstname", "id", "lastname");
+		when(columnDefinitions.size()).thenReturn(3);
+		template.setUsePreparedStatements(true);
+
+		User user = new User("heisenberg", "Walter", "White");
+
+		User inserted = template.insert(user);
+
+		assertThat(inserted).isEqualTo(user);
+		verify(session).prepare(regularStatementCaptor.capture());
+		assertThat(regularStatementCaptor.getValue().toString())
+				.isEqualTo("INSERT INTO users (firstname,id,lastname) VALUES (?,?,?);");
+		verify(boundStatement).set(eq(0), eq("Walter"), any(TypeCodec.class));
+		verify(boundStatement).set(eq(1), eq("heisenberg"), any(TypeCodec.class));
+		verify(boundStatement).set(eq(2), eq("White"), any(TypeCodec.class));
+		verify(session).execute(boundStatement);
+	}
+
+	@Test
+	public void insertShouldReusePreparedStatementShape() {
+
+		mockPreparedStatement("firstname", "id", "lastname");
+		when(columnDefinitions.size()).thenReturn(4);
+		when(boundStatement.isNull(2)).thenReturn(true);
+		template.setUsePreparedStatements(true);
+
+		InsertOptions insertOptions = InsertOptions.builder().ttl(42).build();
+
+		template.insert(new User("heisenberg", "Walter", null), insertOptions);
+		template.insert(new User("pinkman", "Jesse", null), insertOptions);
+
+		verify(session).prepare(regularStatementCaptor.capture());
+		assertThat(regularStatementCaptor.getValue().toString())
+				.isEqualTo("INSERT INTO users (firstname,id,lastname) VALUES (?,?,?) USING TTL ?;");
+		verify(boundStatement, times(2)).unset(2);
+		verify(boundStatement, never()).unset(3);
+		verify(boundStatement, times(2)).setInt(3, 42);
+	}
+
+	@Test
+	public void updateShouldUsePreparedStatement() {
+
+		mockPreparedStatement("firstname", "lastname", "id");
+		template.setUsePreparedStatements(true);
+
+		User user = new User("heisenberg", "Walter", null);
+
+		User updated = template.update(user);
+
+		assertThat(updated).isEqualTo(user);
+		verify(session).prepare(regularStatementCaptor.capture());
+		assertThat(regularStatementCaptor.getValue().toString())
+				.isEqualTo("UPDATE users SET firstname=?,lastname=? WHERE id=?;");
+		verify(boundStatement).set(eq(0), eq("Walter"), any(TypeCodec.class));
+		verify(boundStatement).setToNull(1);
+		verify(boundStatement).set(eq(2), eq("heisenberg"), any(TypeCodec.class));
+	}
+
 	@Test // DATACASS-292
 	public void insertShouldTranslateException() throws Exception {
 
@@ -379,4 +574,50 @@ public class CassandraTemplateUnitTests {
 
 		verify(session).execute(Mockito.any(Batch.class));
 	}
+
+	@Test
+	public void shouldUseCodecRegistryOfCluster() {
+
+		CodecRegistry codecRegistry = new CodecRegistry();
+		Cluster cluster = Cluster.builder().addContactPoint("localhost").withCodecRegistry(codecRegistry).build();
+
+		try {
+
+			when(session.getCluster()).thenReturn(cluster);
+
+			MappingCassandraConverter converter = new MappingCassandraConverter();
+			new CassandraTemplate(session, converter);
+
+			assertThat(converter.getCodecRegistry()).isSameAs(codecRegistry);
+		} finally {
+			cluster.close();
+		}
+	}
+
+	@Test
+	public void shouldRetainConfiguredCodecRegistry() {
+
+		CodecRegistry codecRegistry = new CodecRegistry();
+		MappingCassandraConverter converter = new MappingCassandraConverter();
+		converter.setCodecRegistry(codecRegistry);
+
+		new CassandraTemplate(session, converter);
+
+		assertThat(converter.getCodecRegistry()).isSameAs(codecRegistry);
+	}
+
+	private void mockPreparedStatement(String... columns) {
+
+		when(session.prepare(any(RegularStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind()).thenReturn(boundStatement);
+		when(preparedStatement.getVariables()).thenReturn(columnDefinitions);
+		when(preparedStatement.getCodecRegistry()).thenReturn(CodecRegistry.DEFAULT_INSTANCE);
+		when(boundStatement.preparedStatement()).thenReturn(preparedStatement);
+		when(columnDefinitions.getType(anyInt())).thenReturn(DataType.varchar());
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		for (int index = 0; index < columns.length; index++) {
+			when(columnDefinitions.getIndexOf(columns[index])).thenReturn(index);
+		}
+	}
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.cassandra.repository.support.BasicMapId.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.convert.PartitionKeyResolver;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.domain.Group;
+import org.springframework.data.cassandra.domain.GroupKey;
+import org.springframework.data.cassandra.domain.User;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Unit tests for {@link IdLookupFactory}.
+ */
+public class IdLookupFactoryUnitTests {
+
+	CassandraConverter converter = new MappingCassandraConverter();
+
+	IdLookupFactory factory = new IdLookupFactory(converter, new PartitionKeyResolver(converter));
+
+	CassandraPersistentEntity<?> groupEntity = converter.getMappingContext().getRequiredPersistentEntity(Group.class);
+	CassandraPersistentEntity<?> userEntity = converter.getMappingContext().getRequiredPersistentEntity(User.class);
+
+	@Test
+	public void shouldResolveSimpleId() {
+
+		assertThat(factory.getColumnValues("heisenberg", userEntity)).containsOnly(entry("id", "heisenberg"));
+		assertThat(factory.getColumnValues(new User("heisenberg", "Walter", "White"), userEntity))
+				.containsOnly(entry("id", "heisenberg"));
+	}
+
+	@Test
+	public void shouldResolveCompositeId() {
+
+		Map<String, Object> values = factory.getColumnValues(new GroupKey("cooker", "hp", "heisenberg"), groupEntity);
+
+		assertThat(values).containsOnly(entry("groupname", "cooker"), entry("hash_prefix", "hp"),
+				entry("username", "heisenberg"));
+	}
+
+	@Test
+	public void shouldResolveMapId() {
+
+		Map<String, Object> values = factory.getColumnValues(id("hashPrefix", "hp").with("groupname", "cooker"),
+				groupEntity);
+
+		assertThat(values.keySet()).containsExactly("groupname", "hash_prefix");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectUnknownMapIdProperty() {
+		factory.getColumnValues(id("unknown", "value"), groupEntity);
+	}
+
+	@Test
+	public void shouldRetainIdOrderAndRemoveDuplicates() {
+
+		List<Map<String, Object>> lookups = factory.getLookups(Arrays.asList(new GroupKey("cooker", "hp", "heisenberg"),
+				new GroupKey("dealer", "hp", "jesse"), new GroupKey("cooker", "hp", "skyler"),
+				new GroupKey("cooker", "hp", "heisenberg")), groupEntity);
+
+		assertThat(lookups).extracting(lookup -> lookup.get("username")).containsExactly("heisenberg", "jesse", "skyler");
+	}
+
+	@Test
+	public void shouldGroupLookupsByPartition() {
+
+		List<Map<String, Object>> lookups = factory.getLookups(Arrays.asList(new GroupKey("cooker", "hp", "heisenberg"),
+				new GroupKey("dealer", "hp", "jesse"), new GroupKey("cooker", "hp", "skyler")), groupEntity);
+
+		assertThat(factory.getPartitionOrder(lookups, groupEntity)).containsExactly(0, 2, 1);
+	}
+
+	@Test
+	public void shouldCreateRoutedSelect() {
+
+		Statement select = factory.createSelect(factory.getColumnValues("heisenberg", userEntity), userEntity);
+
+		assertThat(select.toString()).isEqualTo("SELECT * FROM users WHERE id='heisenberg';");
+		assertThat(select.getRoutingKey(ProtocolVersion.NEWEST_SUPPORTED, CodecRegistry.DEFAULT_INSTANCE)).isNotNull();
+	}
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.cassandra.core;
 
+import static com.datastax.driver.core.TokenRangeFactory.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -25,7 +26,9 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -38,10 +41,13 @@ import org.springframework.data.cassandra.domain.User;
 import org.springframework.data.cql.core.session.ReactiveResultSet;
 import org.springframework.data.cql.core.session.ReactiveSession;
 
+import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Metadata;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TokenRange;
 import com.datastax.driver.core.exceptions.NoHostAvailableException;
 
 /**
@@ -56,6 +62,8 @@ public class ReactiveCassandraTemplateUnitTests {
 	@Mock ReactiveResultSet reactiveResultSet;
 	@Mock Row row;
 	@Mock ColumnDefinitions columnDefinitions;
+	@Mock Cluster cluster;
+	@Mock Metadata metadata;
 
 	@Captor ArgumentCaptor<Statement> statementCaptor;
 
@@ -127,6 +135,44 @@ public class ReactiveCassandraTemplateUnitTests {
 		assertThat(statementCaptor.getValue().toString()).isEqualTo("SELECT * FROM users WHERE id='myid';");
 	}
 
+	@Test
+	public void scanAllShouldCompleteRangesAfterEmittingTheirRows() {
+
+		TokenRange range = newTokenRange(0, 100);
+		List<TokenRange> completedRanges = new ArrayList<>();
+
+		when(session.getCluster()).thenReturn(cluster);
+		when(cluster.getMetadata()).thenReturn(metadata);
+		when(metadata.getTokenRanges()).thenReturn(Collections.singleton(range));
+		when(reactiveResultSet.rows()).thenReturn(Flux.just(row));
+		when(columnDefinitions.contains(anyString())).thenReturn(true);
+		when(columnDefinitions.getType(anyInt())).thenReturn(DataType.ascii());
+
+		when(columnDefinitions.getIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.getIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.getIndexOf("lastname")).thenReturn(2);
+
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+
+		Flux<User> users = template.scanAll(User.class,
+				ScanOptions.builder().rangeCompletionListener(completedRanges::add).build());
+
+		StepVerifier.create(users, 0) //
+				.then(() -> assertThat(completedRanges).isEmpty()) //
+				.thenRequest(1) //
+				.expectNext(new User("myid", "Walter", "White")) //
+				.thenRequest(1) //
+				.verifyComplete();
+
+		assertThat(completedRanges).containsExactly(range);
+
+		verify(session).execute(statementCaptor.capture());
+		assertThat(statementCaptor.getValue().toString())
+				.isEqualTo("SELECT * FROM users WHERE token(id)>0 AND token(id)<=100;");
+	}
+
 	@Test // DATACASS-335
 	public void existsShouldReturnExistingElement() {
 
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.ConsistencyLevel;
+
+/**
+ * Unit tests for {@link ScanOptions}.
+ */
+public class ScanOptionsUnitTests {
+
+	@Test
+	public void shouldConfigureScanOptions() {
+
+		ScanOptions scanOptions = ScanOptions.builder() //
+				.consistencyLevel(ConsistencyLevel.LOCAL_ONE) //
+				.fetchSize(500) //
+				.parallelism(8) //
+				.splitsPerRange(2) //
+				.completedRanges(Collections.emptySet()) //
+				.build();
+
+		assertThat(scanOptions.getParallelism()).isEqualTo(8);
+		assertThat(scanOptions.getSplitsPerRange()).isEqualTo(2);
+		assertThat(scanOptions.getCompletedRanges()).isEmpty();
+		assertThat(scanOptions.getRangeCompletionListener()).isNotNull();
+	}
+
+	@Test
+	public void shouldApplyDefaults() {
+
+		ScanOptions scanOptions = ScanOptions.builder().build();
+
+		assertThat(scanOptions.getParallelism()).isEqualTo(ScanOptions.DEFAULT_PARALLELISM);
+		assertThat(scanOptions.getSplitsPerRange()).isEqualTo(1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNonPositiveParallelism() {
+		ScanOptions.builder().parallelism(0);
+	}
+}
@@ -17,6 +17,8 @@ package org.springframework.data.cassandra.core;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -35,6 +37,9 @@ import org.springframework.data.cassandra.core.query.Update;
 import org.springframework.data.cassandra.domain.Group;
 import org.springframework.data.domain.Sort;
 
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.Statement;
 
 /**
@@ -94,6 +99,40 @@ public class StatementFactoryUnitTests {
 		assertThat(select.toString()).isEqualTo("SELECT * FROM group ORDER BY hash_prefix ASC LIMIT 10 ALLOW FILTERING;");
 	}
 
+	@Test
+	public void shouldSetRoutingKeyIfPartitionKeyIsRestricted() {
+
+		Query query = Query.query(Criteria.where("id.groupname").is("cooker"), Criteria.where("id.hashPrefix").is("hp"));
+
+		Statement select = statementFactory.select(query, groupEntity);
+
+		assertThat(select.getRoutingKey(ProtocolVersion.NEWEST_SUPPORTED, CodecRegistry.DEFAULT_INSTANCE))
+				.isEqualTo(ByteBuffer.wrap(new byte[] { 0, 6, 'c', 'o', 'o', 'k', 'e', 'r', 0, 0, 2, 'h', 'p', 0 }));
+	}
+
+	@Test
+	public void shouldNotSetRoutingKeyIfPartitionKeyIsNotRestricted() {
+
+		Query query = Query.query(Criteria.where("id.groupname").is("cooker"));
+
+		Statement select = statementFactory.select(query, groupEntity);
+
+		assertThat(select.getRoutingKey(ProtocolVersion.NEWEST_SUPPORTED, CodecRegistry.DEFAULT_INSTANCE)).isNull();
+	}
+
+	@Test
+	public void shouldMapParameterizedSelectQuery() {
+
+		Query query = Query.query(Criteria.where("email").is("walter@white.com"), Criteria.where("age").in(42, 43))
+				.limit(10);
+		List<Object> bindValues = new ArrayList<>();
+
+		RegularStatement select = statementFactory.select(query, groupEntity, bindValues);
+
+		assertThat(select.getQueryString()).isEqualTo("SELECT * FROM group WHERE email=? AND age IN (?,?) LIMIT 10;");
+		assertThat(bindValues).containsExactly("walter@white.com", 42, 43);
+	}
+
 	@Test // DATACASS-343
 	public void shouldMapDeleteQueryWithColumns() {
 
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static com.datastax.driver.core.TokenRangeFactory.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.springframework.data.cassandra.core.ScanOptions.ScanOptionsBuilder;
+import org.springframework.data.cassandra.core.TokenRangeScan.RowIterator;
+import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.domain.User;
+import org.springframework.data.cql.core.CqlIdentifier;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TokenRange;
+
+/**
+ * Unit tests for {@link TokenRangeScan}.
+ */
+public class TokenRangeScanUnitTests {
+
+	CassandraMappingContext mappingContext = new CassandraMappingContext();
+
+	List<TokenRange> completedRanges = new ArrayList<>();
+
+	@Test
+	public void shouldUnwrapRangesOfTheRing() {
+
+		TokenRangeScan scan = createScan(ScanOptions.builder());
+
+		List<TokenRange> ranges = scan.getRanges(Arrays.asList(newTokenRange(-100, 100), newTokenRange(100, -100)));
+
+		assertThat(ranges).containsExactly(newTokenRange(-100, 100), newTokenRange(100, Long.MIN_VALUE),
+				newTokenRange(Long.MIN_VALUE, -100));
+	}
+
+	@Test
+	public void shouldSplitRanges() {
+
+		TokenRangeScan scan = createScan(ScanOptions.builder().splitsPerRange(2));
+
+		List<TokenRange> ranges = scan.getRanges(Collections.singletonList(newTokenRange(0, 100)));
+
+		assertThat(ranges).containsExactly(newTokenRange(0, 50), newTokenRange(50, 100));
+	}
+
+	@Test
+	public void shouldSplitFullRing() {
+
+		TokenRange ring = newTokenRange(Long.MIN_VALUE, Long.MIN_VALUE);
+		TokenRangeScan scan = createScan(ScanOptions.builder().splitsPerRange(4));
+
+		List<TokenRange> ranges = scan.getRanges(Collections.singletonList(ring));
+
+		assertThat(ranges).hasSize(4);
+		assertThat(ranges.get(0).getStart()).isEqualTo(ring.getStart());
+		assertThat(ranges.get(3).getEnd()).isEqualTo(ring.getEnd());
+
+		for (int i = 1; i < ranges.size(); i++) {
+			assertThat(ranges.get(i).getStart()).isEqualTo(ranges.get(i - 1).getEnd());
+		}
+	}
+
+	@Test
+	public void shouldSkipCompletedRanges() {
+
+		TokenRangeScan scan = createScan(
+				ScanOptions.builder().completedRanges(Collections.singleton(newTokenRange(100, Long.MIN_VALUE))));
+
+		List<TokenRange> ranges = scan.getRanges(Arrays.asList(newTokenRange(-100, 100), newTokenRange(100, -100)));
+
+		assertThat(ranges).containsExactly(newTokenRange(-100, 100), newTokenRange(Long.MIN_VALUE, -100));
+	}
+
+	@Test
+	public void shouldCreateTokenRangeStatements() {
+
+		TokenRangeScan scan = createScan(ScanOptions.builder());
+
+		assertThat(scan.createStatement(newTokenRange(0, 100)).toString())
+				.isEqualTo("SELECT * FROM users WHERE token(id)>0 AND token(id)<=100;");
+		assertThat(scan.createStatement(newTokenRange(100, Long.MIN_VALUE)).toString())
+				.isEqualTo("SELECT * FROM users WHERE token(id)>100;");
+		assertThat(scan.createStatement(newTokenRange(42, 42)).toString()).isEqualTo("SELECT * FROM users;");
+	}
+
+	@Test
+	public void shouldApplyScanOptionsToStatements() {
+
+		TokenRangeScan scan = createScan(ScanOptions.builder().fetchSize(500));
+
+		assertThat(scan.createStatement(newTokenRange(0, 100)).getFetchSize()).isEqualTo(500);
+	}
+
+	@Test
+	public void rowIteratorShouldCompleteRangesAfterTheirRows() {
+
+		Row first = mock(Row.class);
+		Row second = mock(Row.class);
+
+		TokenRange firstRange = newTokenRange(0, 100);
+		TokenRange secondRange = newTokenRange(100, 200);
+
+		Deque<Future<ResultSet>> results = new ArrayDeque<>(
+				Arrays.asList(completedFuture(first), completedFuture(second)));
+
+		RowIterator iterator = new RowIterator(createScan(ScanOptions.builder().parallelism(1)),
+				Arrays.asList(firstRange, secondRange), statement -> results.poll());
+
+		assertThat(iterator.next()).isSameAs(first);
+		assertThat(completedRanges).isEmpty();
+
+		assertThat(iterator.next()).isSameAs(second);
+		assertThat(completedRanges).containsExactly(firstRange);
+
+		assertThat(iterator.hasNext()).isFalse();
+		assertThat(completedRanges).containsExactly(firstRange, secondRange);
+	}
+
+	@Test
+	public void rowIteratorShouldLimitRangesInFlight() {
+
+		List<Statement> statements = new ArrayList<>();
+
+		RowIterator iterator = new RowIterator(createScan(ScanOptions.builder().parallelism(2)),
+				Arrays.asList(newTokenRange(0, 100), newTokenRange(100, 200), newTokenRange(200, 300),
+						newTokenRange(300, 400)),
+				statement -> {
+
+					statements.add(statement);
+					return completedFuture(mock(Row.class));
+				});
+
+		assertThat(iterator.hasNext()).isTrue();
+		assertThat(statements).hasSize(3);
+
+		while (iterator.hasNext()) {
+			iterator.next();
+		}
+
+		assertThat(statements).hasSize(4);
+		assertThat(completedRanges).hasSize(4);
+	}
+
+	@Test
+	public void rowIteratorShouldCancelRangesInFlight() {
+
+		CompletableFuture<ResultSet> pending = new CompletableFuture<>();
+		Deque<Future<ResultSet>> results = new ArrayDeque<>(Arrays.asList(completedFuture(mock(Row.class)), pending));
+
+		RowIterator iterator = new RowIterator(createScan(ScanOptions.builder().parallelism(1)),
+				Arrays.asList(newTokenRange(0, 100), newTokenRange(100, 200)), statement -> results.poll());
+
+		assertThat(iterator.hasNext()).isTrue();
+
+		iterator.cancel();
+
+		assertThat(pending.isCancelled()).isTrue();
+		assertThat(completedRanges).isEmpty();
+	}
+
+	private TokenRangeScan createScan(ScanOptionsBuilder options) {
+
+		return new TokenRangeScan(mappingContext.getRequiredPersistentEntity(User.class),
+				Collections.singletonList(CqlIdentifier.cqlId("id")),
+				options.rangeCompletionListener(completedRanges::add).build());
+	}
+
+	private static Future<ResultSet> completedFuture(Row... rows) {
+
+		ResultSet resultSet = mock(ResultSet.class);
+
+		when(resultSet.iterator()).thenReturn(Arrays.asList(rows).iterator());
+
+		return CompletableFuture.completedFuture(resultSet);
+	}
+}
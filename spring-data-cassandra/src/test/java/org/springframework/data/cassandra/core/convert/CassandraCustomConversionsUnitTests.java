@@ -0,0 +1,159 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.Table;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+import com.google.common.reflect.TypeToken;
+
+/**
+ * Unit tests for {@link CassandraCustomConversions}.
+ */
+public class CassandraCustomConversionsUnitTests {
+
+	CassandraCustomConversions conversions = new CassandraCustomConversions(Collections.emptyList(),
+			Collections.singletonList(CurrencyCodec.INSTANCE));
+
+	@Test
+	public void shouldConsiderCodecTypesSimpleTypes() {
+
+		assertThat(conversions.isSimpleType(Currency.class)).isTrue();
+		assertThat(conversions.getSimpleTypeHolder().isSimpleType(Currency.class)).isTrue();
+		assertThat(conversions.getCodecFor(Currency.class)).contains(CurrencyCodec.INSTANCE);
+		assertThat(conversions.getCodecFor(String.class)).isEmpty();
+	}
+
+	@Test
+	public void shouldRegisterCodecs() {
+
+		CodecRegistry codecRegistry = new CodecRegistry();
+
+		conversions.registerCodecs(codecRegistry);
+
+		assertThat(codecRegistry.codecFor(DataType.varchar(), Currency.class)).isSameAs(CurrencyCodec.INSTANCE);
+	}
+
+	@Test
+	public void shouldSkipCodecsAlreadyRegistered() {
+
+		CodecRegistry codecRegistry = new CodecRegistry();
+
+		conversions.registerCodecs(codecRegistry);
+		conversions.registerCodecs(codecRegistry);
+
+		assertThat(codecRegistry.codecFor(DataType.varchar(), Currency.class)).isSameAs(CurrencyCodec.INSTANCE);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void shouldRejectCodecsCollidingWithRegisteredCodecs() {
+
+		CodecRegistry codecRegistry = new CodecRegistry().register(new CurrencyCodeCodec());
+
+		conversions.registerCodecs(codecRegistry);
+	}
+
+	@Test
+	public void shouldResolveCodecForProperties() {
+
+		CassandraMappingContext mappingContext = new CassandraMappingContext();
+		mappingContext.setCustomConversions(conversions);
+		mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+
+		CassandraPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(Account.class);
+
+		assertThat(conversions.getCodecFor(entity.getRequiredPersistentProperty("currency"), DataType.varchar()))
+				.contains(CurrencyCodec.INSTANCE);
+		assertThat(conversions.getCodecFor(entity.getRequiredPersistentProperty("currency"), DataType.ascii())).isEmpty();
+		assertThat(conversions.getCodecFor(entity.getRequiredPersistentProperty("currencies"),
+				DataType.list(DataType.varchar())).get().getJavaType()).isEqualTo(new TypeToken<List<Currency>>() {});
+		assertThat(conversions.getCodecFor(entity.getRequiredPersistentProperty("currencySet"),
+				DataType.set(DataType.varchar())).get().getJavaType()).isEqualTo(new TypeToken<Set<Currency>>() {});
+		assertThat(conversions.getCodecFor(entity.getRequiredPersistentProperty("currencyMap"),
+				DataType.map(DataType.varchar(), DataType.varchar()))).isEmpty();
+	}
+
+	@Test
+	public void mappingContextShouldDeriveDataTypeFromCodec() {
+
+		CassandraMappingContext mappingContext = new CassandraMappingContext();
+		mappingContext.setCustomConversions(conversions);
+		mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+
+		CassandraPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(Account.class);
+
+		assertThat(mappingContext.getDataType(Currency.class)).isEqualTo(DataType.varchar());
+		assertThat(mappingContext.getDataType(entity.getRequiredPersistentProperty("currency")))
+				.isEqualTo(DataType.varchar());
+		assertThat(mappingContext.getDataType(entity.getRequiredPersistentProperty("currencies")))
+				.isEqualTo(DataType.list(DataType.varchar()));
+		assertThat(mappingContext.getDataType(entity.getRequiredPersistentProperty("currencyMap")))
+				.isEqualTo(DataType.map(DataType.varchar(), DataType.varchar()));
+	}
+
+	static class CurrencyCodeCodec extends TypeCodec<Currency> {
+
+		CurrencyCodeCodec() {
+			super(DataType.varchar(), Currency.class);
+		}
+
+		@Override
+		public ByteBuffer serialize(Currency value, ProtocolVersion protocolVersion) {
+			return CurrencyCodec.INSTANCE.serialize(value, protocolVersion);
+		}
+
+		@Override
+		public Currency deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+			return CurrencyCodec.INSTANCE.deserialize(bytes, protocolVersion);
+		}
+
+		@Override
+		public Currency parse(String value) {
+			return CurrencyCodec.INSTANCE.parse(value);
+		}
+
+		@Override
+		public String format(Currency value) {
+			return CurrencyCodec.INSTANCE.format(value);
+		}
+	}
+
+	@Table
+	static class Account {
+
+		@Id String id;
+		Currency currency;
+		List<Currency> currencies;
+		Set<Currency> currencySet;
+		Map<String, Currency> currencyMap;
+	}
+}
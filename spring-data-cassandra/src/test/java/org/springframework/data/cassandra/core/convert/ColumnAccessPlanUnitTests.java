@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.cassandra.RowMockUtil.*;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.cassandra.RowMockUtil;
+import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.mapping.Table;
+import org.springframework.data.mapping.model.SpELContext;
+import org.springframework.data.mapping.model.SpELExpressionEvaluator;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+
+/**
+ * Unit tests for {@link ColumnAccessPlan}.
+ */
+public class ColumnAccessPlanUnitTests {
+
+	Row row = RowMockUtil.newRowMock(column("lastname", "White", DataType.varchar()),
+			column("id", "heisenberg", DataType.varchar()));
+
+	CassandraPersistentProperty id;
+	CassandraPersistentProperty firstname;
+	CassandraPersistentProperty lastname;
+
+	ColumnAccessPlan plan;
+
+	@Before
+	public void before() {
+
+		CassandraPersistentEntity<?> entity = new CassandraMappingContext().getRequiredPersistentEntity(Person.class);
+
+		id = entity.getRequiredPersistentProperty("id");
+		firstname = entity.getRequiredPersistentProperty("firstname");
+		lastname = entity.getRequiredPersistentProperty("lastname");
+
+		plan = new ColumnAccessPlan(row.getColumnDefinitions(), CodecRegistry.DEFAULT_INSTANCE, null,
+				Arrays.asList(id, firstname, lastname));
+	}
+
+	@Test
+	public void shouldResolveColumnIndexesByPosition() {
+
+		assertThat(plan.getPosition(id, 0)).isEqualTo(0);
+		assertThat(plan.getPosition(lastname, 0)).isEqualTo(2);
+
+		assertThat(plan.getIndex(0)).isEqualTo(1);
+		assertThat(plan.getIndex(1)).isEqualTo(-1);
+		assertThat(plan.getIndex(2)).isEqualTo(0);
+	}
+
+	@Test
+	public void shouldWrapAroundPositionHint() {
+
+		assertThat(plan.getPosition(id, 2)).isEqualTo(0);
+		assertThat(plan.getPosition(firstname, 2)).isEqualTo(1);
+		assertThat(plan.getPosition(lastname, 7)).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldResolveIndexOfPropertiesOutsideThePlanByName() {
+
+		ColumnAccessPlan plan = new ColumnAccessPlan(row.getColumnDefinitions(), CodecRegistry.DEFAULT_INSTANCE);
+
+		assertThat(plan.getPosition(lastname, 0)).isEqualTo(-1);
+		assertThat(plan.getIndex(lastname)).isEqualTo(0);
+		assertThat(plan.getIndex(firstname)).isEqualTo(-1);
+	}
+
+	@Test
+	public void shouldReadValuesThroughValueProvider() {
+
+		SpELExpressionEvaluator evaluator = new SpELExpressionCache(getClass().getClassLoader()).getEvaluator(row,
+				new SpELContext(RowReaderPropertyAccessor.INSTANCE));
+		BasicCassandraRowValueProvider valueProvider = new BasicCassandraRowValueProvider(row, evaluator, plan);
+
+		assertThat(valueProvider.getNullablePropertyValue(id)).isEqualTo("heisenberg");
+		assertThat(valueProvider.hasProperty(firstname)).isFalse();
+		assertThat(valueProvider.getNullablePropertyValue(lastname)).isEqualTo("White");
+	}
+
+	@Table
+	static class Person {
+
+		@Id String id;
+		String firstname;
+		String lastname;
+	}
+}
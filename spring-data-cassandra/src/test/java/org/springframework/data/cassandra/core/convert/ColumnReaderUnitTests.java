@@ -18,6 +18,9 @@ package org.springframework.data.cassandra.core.convert;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -25,8 +28,11 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.cql.core.CqlIdentifier;
 
+import com.datastax.driver.core.CodecRegistry;
 import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.Row;
+import com.datastax.driver.core.TypeCodec;
 
 /**
  * Unit tests for {@link ColumnReader}.
@@ -90,4 +96,21 @@ public class ColumnReaderUnitTests {
 			assertThat(e.getMessage()).isEqualTo("Column does not exist in Cassandra table: " + NON_EXISTENT_COLUMN);
 		}
 	}
+
+	@Test
+	public void readsCollectionUsingCodecOfColumnType() {
+
+		List<String> value = Collections.singletonList("foo");
+
+		when(columnDefinitions.size()).thenReturn(1);
+		when(columnDefinitions.getType(0)).thenReturn(DataType.frozenList(DataType.varchar()));
+		when(row.get(eq(0), any(TypeCodec.class))).thenReturn(value);
+
+		ColumnReader reader = new ColumnReader(row);
+
+		assertThat(reader.get(0)).isEqualTo(value);
+		assertThat(reader.get(0)).isEqualTo(value);
+
+		verify(row, times(2)).get(0, CodecRegistry.DEFAULT_INSTANCE.codecFor(DataType.frozenList(DataType.varchar())));
+	}
 }
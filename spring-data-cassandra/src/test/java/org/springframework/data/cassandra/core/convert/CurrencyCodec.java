@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import java.nio.ByteBuffer;
+import java.util.Currency;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+
+/**
+ * {@link TypeCodec} mapping {@code varchar} to {@link Currency} using the currency code.
+ */
+class CurrencyCodec extends TypeCodec<Currency> {
+
+	static final CurrencyCodec INSTANCE = new CurrencyCodec();
+
+	private CurrencyCodec() {
+		super(DataType.varchar(), Currency.class);
+	}
+
+	@Override
+	public ByteBuffer serialize(Currency value, ProtocolVersion protocolVersion) {
+		return value == null ? null : TypeCodec.varchar().serialize(value.getCurrencyCode(), protocolVersion);
+	}
+
+	@Override
+	public Currency deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) {
+
+		String currencyCode = TypeCodec.varchar().deserialize(bytes, protocolVersion);
+
+		return currencyCode == null ? null : Currency.getInstance(currencyCode);
+	}
+
+	@Override
+	public Currency parse(String value) {
+
+		String currencyCode = TypeCodec.varchar().parse(value);
+
+		return currencyCode == null ? null : Currency.getInstance(currencyCode);
+	}
+
+	@Override
+	public String format(Currency value) {
+		return TypeCodec.varchar().format(value == null ? null : value.getCurrencyCode());
+	}
+}
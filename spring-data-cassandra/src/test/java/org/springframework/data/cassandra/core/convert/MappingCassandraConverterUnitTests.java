@@ -17,6 +17,13 @@ package org.springframework.data.cassandra.core.convert;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.Assume.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.data.cassandra.RowMockUtil.*;
 import static org.springframework.data.cassandra.repository.support.BasicMapId.*;
 
@@ -33,13 +40,17 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Currency;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -51,6 +62,8 @@ import org.springframework.core.SpringVersion;
 import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.data.cassandra.RowMockUtil;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.mapping.CassandraType;
 import org.springframework.data.cassandra.core.mapping.PrimaryKey;
 import org.springframework.data.cassandra.core.mapping.PrimaryKeyClass;
@@ -63,13 +76,19 @@ import org.springframework.data.cassandra.domain.TypeWithMapId;
 import org.springframework.data.cassandra.domain.User;
 import org.springframework.data.cassandra.domain.UserToken;
 import org.springframework.data.cql.core.PrimaryKeyType;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.util.Version;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.DataType.Name;
 import com.datastax.driver.core.LocalDate;
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Row;
+import com.datastax.driver.core.TypeCodec;
 import com.datastax.driver.core.querybuilder.Assignment;
 import com.datastax.driver.core.querybuilder.BuiltStatement;
 import com.datastax.driver.core.querybuilder.Clause;
@@ -192,6 +211,102 @@ public class MappingCassandraConverterUnitTests {
 		assertThat(getAssignmentValues(update)).contains((Object) "MINT");
 	}
 
+	@Test
+	public void insertShouldSkipNullValues() {
+
+		WithEnumColumns withEnumColumns = new WithEnumColumns();
+		withEnumColumns.setId("foo");
+
+		Insert insert = QueryBuilder.insertInto("table");
+
+		mappingCassandraConverter.write(withEnumColumns, insert);
+
+		assertThat(getValues(insert)).containsExactly("foo");
+	}
+
+	@Test
+	public void shouldBindBoundStatementByIndex() {
+
+		BoundStatement boundStatement = mock(BoundStatement.class);
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		ColumnDefinitions variables = mock(ColumnDefinitions.class);
+
+		when(boundStatement.preparedStatement()).thenReturn(preparedStatement);
+		when(preparedStatement.getVariables()).thenReturn(variables);
+		when(preparedStatement.getCodecRegistry()).thenReturn(CodecRegistry.DEFAULT_INSTANCE);
+		when(variables.getIndexOf("id")).thenReturn(1);
+		when(variables.getIndexOf("condition")).thenReturn(0);
+		when(variables.getType(0)).thenReturn(DataType.varchar());
+
+		WithEnumColumns withEnumColumns = new WithEnumColumns();
+		withEnumColumns.setCondition(Condition.MINT);
+
+		mappingCassandraConverter.write(withEnumColumns, boundStatement);
+
+		verify(boundStatement).set(eq(0), eq("MINT"), any(TypeCodec.class));
+		verify(boundStatement).setToNull(1);
+	}
+
+	@Test
+	public void shouldRetainBindPlansForInterleavedStatements() {
+
+		ColumnDefinitions insertVariables = mock(ColumnDefinitions.class);
+		ColumnDefinitions deleteVariables = mock(ColumnDefinitions.class);
+
+		when(insertVariables.getIndexOf("id")).thenReturn(1);
+		when(insertVariables.getIndexOf("condition")).thenReturn(0);
+		when(insertVariables.getType(anyInt())).thenReturn(DataType.varchar());
+		when(deleteVariables.getIndexOf("id")).thenReturn(0);
+		when(deleteVariables.getIndexOf("condition")).thenReturn(-1);
+		when(deleteVariables.getType(0)).thenReturn(DataType.varchar());
+
+		WithEnumColumns withEnumColumns = new WithEnumColumns();
+		withEnumColumns.setId("foo");
+		withEnumColumns.setCondition(Condition.MINT);
+
+		for (int i = 0; i < 2; i++) {
+
+			BoundStatement insert = mockBoundStatement(insertVariables);
+			BoundStatement delete = mockBoundStatement(deleteVariables);
+
+			mappingCassandraConverter.write(withEnumColumns, insert);
+			mappingCassandraConverter.write(withEnumColumns, delete);
+
+			verify(insert).set(eq(0), eq("MINT"), any(TypeCodec.class));
+			verify(insert).set(eq(1), eq("foo"), any(TypeCodec.class));
+			verify(delete).set(eq(0), eq("foo"), any(TypeCodec.class));
+			verify(delete, never()).set(eq(1), any(), any(TypeCodec.class));
+		}
+
+		verify(insertVariables).getIndexOf("id");
+		verify(deleteVariables).getIndexOf("id");
+	}
+
+	private static BoundStatement mockBoundStatement(ColumnDefinitions variables) {
+
+		BoundStatement boundStatement = mock(BoundStatement.class);
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+		when(boundStatement.preparedStatement()).thenReturn(preparedStatement);
+		when(preparedStatement.getVariables()).thenReturn(variables);
+		when(preparedStatement.getCodecRegistry()).thenReturn(CodecRegistry.DEFAULT_INSTANCE);
+
+		return boundStatement;
+	}
+
+	@Test
+	public void updateShouldAssignNullValues() {
+
+		WithEnumColumns withEnumColumns = new WithEnumColumns();
+		withEnumColumns.setId("foo");
+
+		Update update = QueryBuilder.update("table");
+
+		mappingCassandraConverter.write(withEnumColumns, update);
+
+		assertThat(getAssignments(update)).containsEntry("condition", null);
+	}
+
 	@Test // DATACASS-260
 	public void updateEnumAsPrimaryKeyShouldMapToString() {
 
@@ -521,6 +636,91 @@ public class MappingCassandraConverterUnitTests {
 		assertThat(result.localDateTime.getMinute()).isEqualTo(now.getMinute());
 	}
 
+	@Test
+	public void shouldReadRowsSharingColumnDefinitions() {
+
+		rowMock = RowMockUtil.newRowMock(column("id", "my-id", DataType.ascii()),
+				column("localdate", Date.from(Instant.now()), DataType.timestamp()));
+
+		TypeWithLocalDate first = mappingCassandraConverter.readRow(TypeWithLocalDate.class, rowMock);
+		TypeWithLocalDate second = mappingCassandraConverter.readRow(TypeWithLocalDate.class, rowMock);
+
+		assertThat(first).isNotSameAs(second);
+		assertThat(second.id).isEqualTo("my-id");
+		assertThat(second.localDate).isNotNull();
+	}
+
+	@Test
+	public void shouldReadInterleavedRowsWithDifferentColumnDefinitions() {
+
+		Row localDateRow = RowMockUtil.newRowMock(column("id", "my-id", DataType.ascii()),
+				column("localdate", Date.from(Instant.now()), DataType.timestamp()));
+		Row localDateTimeRow = RowMockUtil.newRowMock(column("id", "my-id", DataType.ascii()),
+				column("localDateTime", Date.from(Instant.now()), DataType.timestamp()));
+
+		TypeWithLocalDate first = mappingCassandraConverter.readRow(TypeWithLocalDate.class, localDateRow);
+		TypeWithLocalDate second = mappingCassandraConverter.readRow(TypeWithLocalDate.class, localDateTimeRow);
+		TypeWithLocalDate third = mappingCassandraConverter.readRow(TypeWithLocalDate.class, localDateRow);
+
+		assertThat(first.localDate).isNotNull();
+		assertThat(first.localDateTime).isNull();
+		assertThat(second.localDate).isNull();
+		assertThat(second.localDateTime).isNotNull();
+		assertThat(third.localDate).isNotNull();
+		assertThat(third.localDateTime).isNull();
+	}
+
+	@Test
+	public void shouldReadRowPropertiesThroughReadPropertiesFromRow() {
+
+		List<CassandraPersistentEntity<?>> entities = new ArrayList<>();
+
+		MappingCassandraConverter converter = new MappingCassandraConverter(mappingContext) {
+
+			@Override
+			protected void readPropertiesFromRow(CassandraPersistentEntity<?> entity, CassandraRowValueProvider row,
+					PersistentPropertyAccessor propertyAccessor) {
+
+				entities.add(entity);
+				super.readPropertiesFromRow(entity, row, propertyAccessor);
+			}
+		};
+		converter.afterPropertiesSet();
+
+		rowMock = RowMockUtil.newRowMock(column("id", "my-id", DataType.ascii()),
+				column("zoneId", "Europe/Paris", DataType.varchar()));
+
+		TypeWithZoneId result = converter.readRow(TypeWithZoneId.class, rowMock);
+
+		assertThat(result.zoneId.getId()).isEqualTo("Europe/Paris");
+		assertThat(entities).hasSize(1);
+	}
+
+	@Test
+	public void shouldReadPropertyValuesThroughGetReadValue() {
+
+		List<String> properties = new ArrayList<>();
+
+		MappingCassandraConverter converter = new MappingCassandraConverter(mappingContext) {
+
+			@Override
+			protected <T> Optional<T> getReadValue(CassandraValueProvider row, CassandraPersistentProperty property) {
+
+				properties.add(property.getName());
+				return super.getReadValue(row, property);
+			}
+		};
+		converter.afterPropertiesSet();
+
+		rowMock = RowMockUtil.newRowMock(column("id", "my-id", DataType.ascii()),
+				column("zoneId", "Europe/Paris", DataType.varchar()));
+
+		TypeWithZoneId result = converter.readRow(TypeWithZoneId.class, rowMock);
+
+		assertThat(result.zoneId.getId()).isEqualTo("Europe/Paris");
+		assertThat(properties).contains("id", "zoneId");
+	}
+
 	@Test // DATACASS-296
 	public void shouldReadInstantCorrectly() {
 
@@ -851,6 +1051,51 @@ public class MappingCassandraConverterUnitTests {
 				mappingContext.getRequiredPersistentEntity(TypeWithMapId.class));
 	}
 
+	@Test
+	public void shouldReadPropertyUsingCustomCodec() {
+
+		useCustomCodecs();
+
+		rowMock = RowMockUtil.newRowMock(column("id", "my-id", DataType.varchar()),
+				column("currency", Currency.getInstance("EUR"), DataType.varchar()));
+
+		TypeWithCurrency result = mappingCassandraConverter.readRow(TypeWithCurrency.class, rowMock);
+
+		assertThat(result.id).isEqualTo("my-id");
+		assertThat(result.currency).isEqualTo(Currency.getInstance("EUR"));
+		verify(rowMock).get(1, CurrencyCodec.INSTANCE);
+	}
+
+	@Test
+	public void shouldWritePropertyUsingCustomCodecAsIs() {
+
+		useCustomCodecs();
+
+		TypeWithCurrency entity = new TypeWithCurrency();
+		entity.id = "my-id";
+		entity.currency = Currency.getInstance("EUR");
+
+		Insert insert = QueryBuilder.insertInto("table");
+
+		mappingCassandraConverter.write(entity, insert);
+
+		assertThat(getValues(insert)).contains("my-id", Currency.getInstance("EUR"));
+	}
+
+	private void useCustomCodecs() {
+
+		CassandraCustomConversions conversions = new CassandraCustomConversions(Collections.emptyList(),
+				Collections.singletonList(CurrencyCodec.INSTANCE));
+
+		mappingContext = new CassandraMappingContext();
+		mappingContext.setCustomConversions(conversions);
+		mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+
+		mappingCassandraConverter = new MappingCassandraConverter(mappingContext);
+		mappingCassandraConverter.setCustomConversions(conversions);
+		mappingCassandraConverter.afterPropertiesSet();
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> List<T> getListValue(Insert statement) {
 
@@ -1104,4 +1349,11 @@ public class MappingCassandraConverterUnitTests {
 
 		ZoneId zoneId;
 	}
+
+	@Table
+	static class TypeWithCurrency {
+
+		@PrimaryKey String id;
+		Currency currency;
+	}
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.cassandra.repository.support.BasicMapId.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.PrimaryKeyColumn;
+import org.springframework.data.cassandra.core.mapping.Table;
+import org.springframework.data.cassandra.domain.Group;
+import org.springframework.data.cassandra.domain.GroupKey;
+import org.springframework.data.cassandra.domain.User;
+import org.springframework.data.cql.core.CqlIdentifier;
+import org.springframework.data.cql.core.PrimaryKeyType;
+
+import com.datastax.driver.core.ProtocolVersion;
+
+/**
+ * Unit tests for {@link PartitionKeyResolver}.
+ */
+public class PartitionKeyResolverUnitTests {
+
+	CassandraConverter converter = new MappingCassandraConverter();
+
+	PartitionKeyResolver resolver = new PartitionKeyResolver(converter);
+
+	CassandraPersistentEntity<?> groupEntity = converter.getMappingContext().getRequiredPersistentEntity(Group.class);
+	CassandraPersistentEntity<?> userEntity = converter.getMappingContext().getRequiredPersistentEntity(User.class);
+
+	@Test
+	public void shouldResolvePartitionKeyColumns() {
+
+		assertThat(resolver.getPartitionKeyColumns(groupEntity)).containsExactly(CqlIdentifier.cqlId("groupname"),
+				CqlIdentifier.cqlId("hash_prefix"));
+		assertThat(resolver.getPartitionKeyColumns(userEntity)).containsExactly(CqlIdentifier.cqlId("id"));
+	}
+
+	@Test
+	public void shouldComputeRoutingKeyForSimpleId() {
+
+		ByteBuffer expected = utf8("heisenberg");
+
+		assertThat(resolver.getRoutingKey(new User("heisenberg", "Walter", "White"))).isEqualTo(expected);
+		assertThat(resolver.getRoutingKeyForId("heisenberg", userEntity)).isEqualTo(expected);
+	}
+
+	@Test
+	public void shouldComputeCompositeRoutingKey() {
+
+		ByteBuffer expected = ByteBuffer.wrap(new byte[] { 0, 6, 'c', 'o', 'o', 'k', 'e', 'r', 0, 0, 2, 'h', 'p', 0 });
+
+		assertThat(resolver.getRoutingKey(new Group(new GroupKey("cooker", "hp", "heisenberg")))).isEqualTo(expected);
+		assertThat(resolver.getRoutingKeyForId(new GroupKey("cooker", "hp", "heisenberg"), groupEntity))
+				.isEqualTo(expected);
+		assertThat(resolver.getRoutingKeyForId(id("groupname", "cooker").with("hashPrefix", "hp"), groupEntity))
+				.isEqualTo(expected);
+	}
+
+	@Test
+	public void shouldNotComputeRoutingKeyForIncompletePartitionKey() {
+
+		assertThat(resolver.getRoutingKey(new Group(new GroupKey("cooker", null, "heisenberg")))).isNull();
+		assertThat(resolver.getRoutingKeyForId(id("groupname", "cooker"), groupEntity)).isNull();
+		assertThat(resolver.getRoutingKey(groupEntity, Collections.singletonMap("groupname", "cooker"))).isNull();
+	}
+
+	@Test
+	public void shouldSerializeCollectionsUsingNegotiatedProtocolVersion() {
+
+		PartitionKeyResolver resolver = new PartitionKeyResolver(converter, () -> ProtocolVersion.V2);
+
+		ByteBuffer expected = ByteBuffer.wrap(new byte[] { 0, 1, 0, 2, 'h', 'p' });
+
+		assertThat(resolver.getRoutingKey(new Tagged(Collections.singletonList("hp")))).isEqualTo(expected);
+	}
+
+	@Test
+	public void shouldNotObtainProtocolVersionForPrimitiveValues() {
+
+		PartitionKeyResolver resolver = new PartitionKeyResolver(converter, () -> {
+			throw new IllegalStateException("Protocol version not required");
+		});
+
+		assertThat(resolver.getRoutingKeyForId("heisenberg", userEntity)).isEqualTo(utf8("heisenberg"));
+	}
+
+	private static ByteBuffer utf8(String value) {
+		return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Table
+	static class Tagged {
+
+		@PrimaryKeyColumn(type = PrimaryKeyType.PARTITIONED) List<String> tags;
+
+		Tagged(List<String> tags) {
+			this.tags = tags;
+		}
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.cassandra.RowMockUtil.*;
+
+import org.junit.Test;
+import org.springframework.data.cassandra.RowMockUtil;
+import org.springframework.data.mapping.model.SpELContext;
+import org.springframework.data.mapping.model.SpELExpressionEvaluator;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+
+/**
+ * Unit tests for {@link SpELExpressionCache}.
+ */
+public class SpELExpressionCacheUnitTests {
+
+	SpELExpressionCache cache = new SpELExpressionCache(getClass().getClassLoader());
+
+	@Test
+	public void shouldCacheParsedExpressions() {
+		assertThat(cache.getExpression("1 + 1")).isSameAs(cache.getExpression("1 + 1"));
+	}
+
+	@Test
+	public void shouldEvaluateExpressionsAgainstSource() {
+
+		Row row = RowMockUtil.newRowMock(column("first_name", "Walter", DataType.varchar()),
+				column("last_name", "White", DataType.varchar()));
+
+		when(row.getObject("first_name")).thenReturn("Walter");
+		when(row.getObject("last_name")).thenReturn("White");
+
+		SpELExpressionEvaluator evaluator = cache.getEvaluator(row, new SpELContext(RowReaderPropertyAccessor.INSTANCE));
+
+		assertThat((String) evaluator.evaluate("first_name")).isEqualTo("Walter");
+		assertThat((String) evaluator.evaluate("last_name")).isEqualTo("White");
+	}
+
+	@Test
+	public void shouldRepeatedlyEvaluateCompilableExpression() {
+
+		SpELExpressionEvaluator evaluator = cache.getEvaluator(null, new SpELContext(RowReaderPropertyAccessor.INSTANCE));
+
+		for (int i = 0; i < 200; i++) {
+			assertThat((Integer) evaluator.evaluate("40 + 2")).isEqualTo(42);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.Column;
+import org.springframework.data.cassandra.core.mapping.UserDefinedType;
+import org.springframework.data.cassandra.support.UserTypeBuilder;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.UDTValue;
+import com.datastax.driver.core.UserType;
+
+/**
+ * Unit tests for {@link UserTypeAccessPlan}.
+ */
+public class UserTypeAccessPlanUnitTests {
+
+	UserType userType = UserTypeBuilder.forName("address").withField("zip", DataType.cint())
+			.withField("street", DataType.varchar()).build();
+
+	CassandraPersistentEntity<?> entity;
+
+	UserTypeAccessPlan plan;
+
+	@Before
+	public void before() {
+
+		CassandraMappingContext mappingContext = new CassandraMappingContext();
+		mappingContext.setUserTypeResolver(typeName -> userType);
+
+		entity = mappingContext.getRequiredPersistentEntity(Address.class);
+		plan = new UserTypeAccessPlan(userType, CodecRegistry.DEFAULT_INSTANCE);
+	}
+
+	@Test
+	public void shouldResolveFieldIndexes() {
+
+		assertThat(plan.getIndex(entity.getRequiredPersistentProperty("zip"))).isEqualTo(0);
+		assertThat(plan.getIndex(entity.getRequiredPersistentProperty("street"))).isEqualTo(1);
+		assertThat(plan.getIndex(entity.getRequiredPersistentProperty("city"))).isEqualTo(-1);
+	}
+
+	@Test
+	public void shouldWriteAndReadFieldValues() {
+
+		UDTValue udtValue = userType.newValue();
+
+		plan.write(udtValue, entity.getRequiredPersistentProperty("street"), "Broadway");
+		plan.write(udtValue, entity.getRequiredPersistentProperty("zip"), 10001);
+
+		assertThat(udtValue.getString("street")).isEqualTo("Broadway");
+		assertThat(udtValue.getInt("zip")).isEqualTo(10001);
+		assertThat(plan.read(udtValue, entity.getRequiredPersistentProperty("street"))).isEqualTo("Broadway");
+		assertThat(plan.read(udtValue, entity.getRequiredPersistentProperty("zip"))).isEqualTo(10001);
+	}
+
+	@Test
+	public void shouldWriteNullValue() {
+
+		UDTValue udtValue = userType.newValue().setString("street", "Broadway");
+
+		plan.write(udtValue, entity.getRequiredPersistentProperty("street"), null);
+
+		assertThat(udtValue.isNull("street")).isTrue();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectUnknownField() {
+		plan.write(userType.newValue(), entity.getRequiredPersistentProperty("city"), "New York");
+	}
+
+	@Test
+	public void shouldMatchEqualUserType() {
+
+		UserType equalType = UserTypeBuilder.forName("address").withField("zip", DataType.cint())
+				.withField("street", DataType.varchar()).build();
+		UserType otherType = UserTypeBuilder.forName("address").withField("street", DataType.varchar()).build();
+
+		assertThat(plan.isFor(userType)).isTrue();
+		assertThat(plan.isFor(equalType)).isTrue();
+		assertThat(plan.isFor(otherType)).isFalse();
+	}
+
+	@UserDefinedType
+	static class Address {
+
+		int zip;
+		String street;
+		@Column("city_name") String city;
+	}
+}
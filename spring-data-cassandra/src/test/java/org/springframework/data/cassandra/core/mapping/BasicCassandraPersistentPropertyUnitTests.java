@@ -16,20 +16,26 @@
 package org.springframework.data.cassandra.core.mapping;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Field;
 import java.util.Date;
+import java.util.Set;
 
 import org.junit.Test;
 import org.springframework.core.annotation.AliasFor;
 import org.springframework.data.cql.core.CqlIdentifier;
+import org.springframework.data.cql.core.Ordering;
+import org.springframework.data.cql.core.PrimaryKeyType;
 import org.springframework.data.mapping.model.Property;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.util.ReflectionUtils;
 
+import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.DataType.Name;
+import com.datastax.driver.core.UserType;
 
 /**
  * Unit tests for {@link BasicCassandraPersistentProperty}.
@@ -95,6 +101,51 @@ public class BasicCassandraPersistentPropertyUnitTests {
 		assertThat(persistentProperty.findAnnotation(CassandraType.class)).isPresent();
 	}
 
+	@Test
+	public void resolvesPrimaryKeyColumnMetadata() {
+
+		CassandraPersistentProperty partitionKey = getPropertyFor(TypeWithPrimaryKeyColumns.class, "partitionKey");
+		CassandraPersistentProperty clusterKey = getPropertyFor(TypeWithPrimaryKeyColumns.class, "clusterKey");
+		CassandraPersistentProperty column = getPropertyFor(TypeWithPrimaryKeyColumns.class, "column");
+
+		assertThat(partitionKey.isPrimaryKeyColumn()).isTrue();
+		assertThat(partitionKey.isPartitionKeyColumn()).isTrue();
+		assertThat(partitionKey.isClusterKeyColumn()).isFalse();
+
+		assertThat(clusterKey.isClusterKeyColumn()).isTrue();
+		assertThat(clusterKey.getPrimaryKeyOrdering()).contains(Ordering.DESCENDING);
+
+		assertThat(column.isPrimaryKeyColumn()).isFalse();
+		assertThat(column.isCompositePrimaryKey()).isFalse();
+		assertThat(column.getPrimaryKeyOrdering()).isEmpty();
+	}
+
+	@Test
+	public void cachesResolvedDataType() {
+
+		CassandraPersistentProperty property = getPropertyFor(TypeWithPrimaryKeyColumns.class, "tags");
+
+		assertThat(property.getDataType()).isEqualTo(DataType.set(DataType.varchar()));
+		assertThat(property.getDataType()).isSameAs(property.getDataType());
+	}
+
+	@Test
+	public void resolvesUserTypeOnEachAccess() {
+
+		UserTypeResolver userTypeResolver = mock(UserTypeResolver.class);
+		UserType previous = mock(UserType.class);
+		UserType current = mock(UserType.class);
+
+		when(userTypeResolver.resolveType(CqlIdentifier.cqlId("address"))).thenReturn(previous, current);
+
+		Field field = ReflectionUtils.findField(TypeWithUserType.class, "address");
+		CassandraPersistentProperty property = new BasicCassandraPersistentProperty(Property.of(field),
+				getEntity(TypeWithUserType.class), CassandraSimpleTypeHolder.HOLDER, userTypeResolver);
+
+		assertThat(property.getDataType()).isSameAs(previous);
+		assertThat(property.getDataType()).isSameAs(current);
+	}
+
 	private CassandraPersistentProperty getPropertyFor(Class<?> type, String fieldName) {
 
 		Field field = ReflectionUtils.findField(type, fieldName);
@@ -162,4 +213,19 @@ public class BasicCassandraPersistentPropertyUnitTests {
 	static class TypeWithComposedCassandraTypeAnnotation {
 		@ComposedCassandraTypeAnnotation String column;
 	}
+
+	static class TypeWithPrimaryKeyColumns {
+
+		@PrimaryKeyColumn(type = PrimaryKeyType.PARTITIONED) String partitionKey;
+
+		@PrimaryKeyColumn(type = PrimaryKeyType.CLUSTERED, ordering = Ordering.DESCENDING) String clusterKey;
+
+		String column;
+
+		Set<String> tags;
+	}
+
+	static class TypeWithUserType {
+		@CassandraType(type = Name.UDT, userTypeName = "address") Object address;
+	}
 }
@@ -40,8 +40,11 @@ import org.springframework.data.cql.core.keyspace.CreateTableSpecification;
 import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.util.ClassTypeInformation;
 
+import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.DataType.Name;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
 import com.datastax.driver.core.TableMetadata;
 import com.datastax.driver.core.UDTValue;
 import com.datastax.driver.core.UserType;
@@ -346,6 +349,43 @@ public class CassandraMappingContextUnitTests {
 				.isEqualTo(DataType.list(DataType.varchar()));
 	}
 
+	@Test
+	public void shouldCachePropertyDataType() {
+
+		mappingContext.setCustomConversions(
+				new CassandraCustomConversions(Collections.singletonList(HumanToStringConverter.INSTANCE)));
+
+		CassandraPersistentProperty property = mappingContext.getRequiredPersistentEntity(TypeWithListOfHumans.class)
+				.getRequiredPersistentProperty("humans");
+
+		DataType dataType = mappingContext.getDataType(property);
+
+		assertThat(mappingContext.getDataType(property)).isSameAs(dataType);
+
+		mappingContext.clearDataTypeCache();
+
+		assertThat(mappingContext.getDataType(property)).isNotSameAs(dataType).isEqualTo(dataType);
+	}
+
+	@Test
+	public void shouldDiscardCachedDataTypesOnCustomConversionsChange() {
+
+		mappingContext.setCustomConversions(
+				new CassandraCustomConversions(Collections.singletonList(HumanToStringConverter.INSTANCE)));
+
+		CassandraPersistentProperty property = mappingContext.getRequiredPersistentEntity(TypeWithListOfHumans.class)
+				.getRequiredPersistentProperty("humans");
+
+		assertThat(mappingContext.getDataType(property)).isEqualTo(DataType.list(DataType.varchar()));
+		assertThat(mappingContext.getDataType(Human.class)).isEqualTo(DataType.varchar());
+
+		mappingContext.setCustomConversions(
+				new CassandraCustomConversions(Collections.singletonList(HumanToLongConverter.INSTANCE)));
+
+		assertThat(mappingContext.getDataType(property)).isEqualTo(DataType.list(DataType.bigint()));
+		assertThat(mappingContext.getDataType(Human.class)).isEqualTo(DataType.bigint());
+	}
+
 	@Test // DATACASS-172, DATACASS-455
 	public void shouldRegisterUdtTypes() {
 
@@ -358,6 +398,61 @@ public class CassandraMappingContextUnitTests {
 		assertThat(mappingContext.getTableEntities()).hasSize(0);
 	}
 
+	@Test
+	public void shouldReResolveUserTypeOnUserTypeInvalidation() {
+
+		UserType userType = mock(UserType.class);
+		UserType changedUserType = mock(UserType.class);
+
+		Cluster cluster = mock(Cluster.class);
+		Metadata metadata = mock(Metadata.class);
+		KeyspaceMetadata keyspaceMetadata = mock(KeyspaceMetadata.class);
+
+		when(cluster.getMetadata()).thenReturn(metadata);
+		when(metadata.getKeyspace("keyspace")).thenReturn(keyspaceMetadata);
+		when(keyspaceMetadata.getUserType("mappedudt")).thenReturn(userType);
+
+		SimpleUserTypeResolver resolver = new SimpleUserTypeResolver(cluster, "keyspace");
+		mappingContext.setUserTypeResolver(resolver);
+
+		CassandraPersistentEntity<?> persistentEntity = mappingContext.getRequiredPersistentEntity(MappedUdt.class);
+
+		assertThat(persistentEntity.getUserType()).isSameAs(userType);
+
+		when(keyspaceMetadata.getUserType("mappedudt")).thenReturn(changedUserType);
+		resolver.clear();
+
+		assertThat(persistentEntity.getUserType()).isSameAs(changedUserType);
+	}
+
+	@Test
+	public void shouldDiscardCachedDataTypesOnUserTypeInvalidation() {
+
+		UserType userType = mock(UserType.class);
+		UserType changedUserType = mock(UserType.class);
+
+		Cluster cluster = mock(Cluster.class);
+		Metadata metadata = mock(Metadata.class);
+		KeyspaceMetadata keyspaceMetadata = mock(KeyspaceMetadata.class);
+
+		when(cluster.getMetadata()).thenReturn(metadata);
+		when(metadata.getKeyspace("keyspace")).thenReturn(keyspaceMetadata);
+		when(keyspaceMetadata.getUserType("mappedudt")).thenReturn(userType);
+
+		SimpleUserTypeResolver resolver = new SimpleUserTypeResolver(cluster, "keyspace");
+		mappingContext.setUserTypeResolver(resolver);
+
+		CassandraPersistentProperty property = mappingContext.getRequiredPersistentEntity(WithUdt.class)
+				.getRequiredPersistentProperty("udtValue");
+
+		assertThat(mappingContext.getDataType(property)).isSameAs(userType);
+
+		when(keyspaceMetadata.getUserType("mappedudt")).thenReturn(changedUserType);
+		resolver.clear();
+
+		assertThat(mappingContext.getDataType(property)).isSameAs(changedUserType);
+	}
+
 	@Test // DATACASS-172
 	public void getNonPrimaryKeyEntitiesShouldNotContainUdt() {
 
@@ -519,6 +614,16 @@ public class CassandraMappingContextUnitTests {
 		}
 	}
 
+	enum HumanToLongConverter implements Converter<Human, Long> {
+
+		INSTANCE;
+
+		@Override
+		public Long convert(Human source) {
+			return 42L;
+		}
+	}
+
 	@Table
 	private static class TypeWithCustomConvertedMap {
 
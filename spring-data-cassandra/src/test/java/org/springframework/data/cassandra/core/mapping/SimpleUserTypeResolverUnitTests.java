@@ -0,0 +1,143 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.mapping;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.cql.core.CqlIdentifier;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.SchemaChangeListener;
+import com.datastax.driver.core.UserType;
+
+/**
+ * Unit tests for {@link SimpleUserTypeResolver}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SimpleUserTypeResolverUnitTests {
+
+	@Mock Cluster cluster;
+	@Mock Metadata metadata;
+	@Mock KeyspaceMetadata keyspaceMetadata;
+	@Mock UserType userType;
+	@Mock UserType changedUserType;
+
+	SimpleUserTypeResolver resolver;
+	SchemaChangeListener listener;
+
+	@Before
+	public void before() {
+
+		when(cluster.getMetadata()).thenReturn(metadata);
+		when(metadata.getKeyspace("keyspace")).thenReturn(keyspaceMetadata);
+
+		resolver = new SimpleUserTypeResolver(cluster, "keyspace");
+
+		ArgumentCaptor<SchemaChangeListener> captor = ArgumentCaptor.forClass(SchemaChangeListener.class);
+		verify(cluster).register(captor.capture());
+		listener = captor.getValue();
+	}
+
+	@Test
+	public void shouldCacheResolvedUserType() {
+
+		when(keyspaceMetadata.getUserType("address")).thenReturn(userType);
+
+		assertThat(resolver.resolveType(CqlIdentifier.cqlId("address"))).isSameAs(userType);
+		assertThat(resolver.resolveType(CqlIdentifier.cqlId("address"))).isSameAs(userType);
+
+		verify(keyspaceMetadata).getUserType("address");
+	}
+
+	@Test
+	public void shouldNotCacheUnresolvedUserType() {
+
+		assertThat(resolver.resolveType(CqlIdentifier.cqlId("address"))).isNull();
+
+		when(keyspaceMetadata.getUserType("address")).thenReturn(userType);
+
+		assertThat(resolver.resolveType(CqlIdentifier.cqlId("address"))).isSameAs(userType);
+	}
+
+	@Test
+	public void shouldInvalidateCacheOnUserTypeChange() {
+
+		when(keyspaceMetadata.getUserType("address")).thenReturn(userType);
+		resolver.resolveType(CqlIdentifier.cqlId("address"));
+
+		when(keyspaceMetadata.getUserType("address")).thenReturn(changedUserType);
+		listener.onUserTypeChanged(changedUserType, userType);
+
+		assertThat(resolver.resolveType(CqlIdentifier.cqlId("address"))).isSameAs(changedUserType);
+	}
+
+	@Test
+	public void shouldInvalidateCacheOnUserTypeRemoval() {
+
+		when(keyspaceMetadata.getUserType("address")).thenReturn(userType);
+		resolver.resolveType(CqlIdentifier.cqlId("address"));
+
+		when(keyspaceMetadata.getUserType("address")).thenReturn(null);
+		listener.onUserTypeRemoved(userType);
+
+		assertThat(resolver.resolveType(CqlIdentifier.cqlId("address"))).isNull();
+	}
+
+	@Test
+	public void shouldInvalidateCacheOnKeyspaceRemoval() {
+
+		when(keyspaceMetadata.getUserType("address")).thenReturn(userType);
+		resolver.resolveType(CqlIdentifier.cqlId("address"));
+
+		listener.onKeyspaceRemoved(keyspaceMetadata);
+		resolver.resolveType(CqlIdentifier.cqlId("address"));
+
+		verify(keyspaceMetadata, times(2)).getUserType("address");
+	}
+
+	@Test
+	public void shouldNotifyInvalidationListeners() {
+
+		Runnable invalidationListener = mock(Runnable.class);
+		resolver.addInvalidationListener(invalidationListener);
+
+		listener.onUserTypeAdded(userType);
+
+		verify(invalidationListener).run();
+
+		resolver.removeInvalidationListener(invalidationListener);
+		listener.onUserTypeAdded(userType);
+
+		verifyNoMoreInteractions(invalidationListener);
+	}
+
+	@Test
+	public void shouldUnregisterSchemaChangeListenerOnDestroy() {
+
+		resolver.destroy();
+
+		verify(cluster).unregister(listener);
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+import com.datastax.driver.core.PagingState;
+
+/**
+ * Unit tests for {@link CassandraPageRequest}.
+ */
+public class CassandraPageRequestUnitTests {
+
+	PagingState pagingState = mock(PagingState.class);
+
+	@Test
+	public void firstPageShouldNotRequirePagingState() {
+
+		CassandraPageRequest pageRequest = CassandraPageRequest.first(10, Sort.by(Direction.ASC, "name"));
+
+		assertThat(pageRequest.getPageNumber()).isZero();
+		assertThat(pageRequest.getPageSize()).isEqualTo(10);
+		assertThat(pageRequest.getSort()).isEqualTo(Sort.by(Direction.ASC, "name"));
+		assertThat(pageRequest.getPagingState()).isNull();
+		assertThat(pageRequest.hasNext()).isFalse();
+	}
+
+	@Test
+	public void nextShouldRetainPagingState() {
+
+		CassandraPageRequest next = CassandraPageRequest.of(new PageRequest(0, 10), pagingState).next();
+
+		assertThat(next.getPageNumber()).isEqualTo(1);
+		assertThat(next.getPageSize()).isEqualTo(10);
+		assertThat(next.getPagingState()).isSameAs(pagingState);
+		assertThat(next.first().getPagingState()).isNull();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void nextShouldRequirePagingState() {
+		CassandraPageRequest.first(10).next();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectSubsequentPageWithoutPagingState() {
+		CassandraPageRequest.of(new PageRequest(1, 10), null);
+	}
+
+	@Test
+	public void validatePageableShouldAcceptReachablePages() {
+
+		CassandraPageRequest.validatePageable(new PageRequest(0, 10));
+		CassandraPageRequest.validatePageable(CassandraPageRequest.of(new PageRequest(2, 10), pagingState));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void validatePageableShouldRejectOffsetPaging() {
+		CassandraPageRequest.validatePageable(new PageRequest(1, 10));
+	}
+}
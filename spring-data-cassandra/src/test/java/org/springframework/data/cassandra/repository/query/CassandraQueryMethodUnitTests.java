@@ -22,8 +22,12 @@ import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.domain.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
@@ -70,6 +74,20 @@ public class CassandraQueryMethodUnitTests {
 		assertThat(queryMethod.isCollectionQuery()).isTrue();
 	}
 
+	@Test
+	public void considersMethodAsSliceQuery() throws Exception {
+
+		CassandraQueryMethod queryMethod = queryMethod(SampleRepository.class, "slice", Pageable.class);
+
+		assertThat(queryMethod.isSliceQuery()).isTrue();
+		assertThat(queryMethod.isCollectionQuery()).isFalse();
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void rejectsPageQuery() throws Exception {
+		queryMethod(SampleRepository.class, "page", Pageable.class);
+	}
+
 	private CassandraQueryMethod queryMethod(Class<?> repository, String name, Class<?>... parameters) throws Exception {
 
 		Method method = repository.getMethod(name, parameters);
@@ -82,5 +100,9 @@ public class CassandraQueryMethodUnitTests {
 
 		List<User> method();
 
+		Slice<User> slice(Pageable pageable);
+
+		Page<User> page(Pageable pageable);
+
 	}
 }
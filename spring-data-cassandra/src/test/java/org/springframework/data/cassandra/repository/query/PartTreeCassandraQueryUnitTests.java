@@ -16,6 +16,8 @@
 package org.springframework.data.cassandra.repository.query;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Method;
@@ -35,17 +37,27 @@ import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.UserTypeResolver;
+import org.springframework.data.cassandra.core.query.CassandraPageRequest;
 import org.springframework.data.cassandra.domain.AddressType;
 import org.springframework.data.cassandra.domain.Group;
 import org.springframework.data.cassandra.domain.Person;
 import org.springframework.data.cassandra.repository.MapIdCassandraRepository;
 import org.springframework.data.cassandra.repository.Query;
 import org.springframework.data.cql.core.CqlIdentifier;
+import org.springframework.data.cql.core.CqlOperations;
+import org.springframework.data.cql.core.SessionCallback;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.util.ClassUtils;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
 import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.UDTValue;
 import com.datastax.driver.core.UserType;
@@ -64,6 +76,10 @@ public class PartTreeCassandraQueryUnitTests {
 	@Mock UserTypeResolver userTypeResolverMock;
 	@Mock UserType userTypeMock;
 	@Mock UDTValue udtValueMock;
+	@Mock CqlOperations cqlOperations;
+	@Mock Session session;
+	@Mock PreparedStatement preparedStatement;
+	@Mock BoundStatement boundStatement;
 
 	CassandraMappingContext mappingContext;
 	CassandraConverter converter;
@@ -155,6 +171,66 @@ public class PartTreeCassandraQueryUnitTests {
 		assertThat(query.toString()).isEqualTo("SELECT * FROM group WHERE hash_prefix='foo';");
 	}
 
+	@Test
+	public void shouldExecuteSliceQueryWithPageSize() {
+
+		withPreparedStatements();
+		when(session.prepare("SELECT * FROM person WHERE lastname=?;")).thenReturn(preparedStatement);
+		when(preparedStatement.bind("White")).thenReturn(boundStatement);
+
+		Slice<Person> result = new SliceImpl<>(Collections.emptyList(), CassandraPageRequest.first(10), false);
+		when(mockCassandraOperations.slice(any(Statement.class), eq(Person.class))).thenReturn(result);
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod(Repo.class, "findByLastname", String.class,
+				Pageable.class);
+
+		Object slice = partTreeQuery.execute(new Object[] { "White", new PageRequest(0, 10) });
+
+		verify(mockCassandraOperations).slice(boundStatement, Person.class);
+		verify(boundStatement).setFetchSize(10);
+
+		assertThat(slice).isInstanceOf(Slice.class);
+		assertThat(((Slice<?>) slice).getPageable()).isInstanceOf(CassandraPageRequest.class);
+	}
+
+	@Test
+	public void shouldPrepareDerivedQueryOncePerShape() {
+
+		withPreparedStatements();
+		when(session.prepare("SELECT * FROM person WHERE firstname IN (?,?);")).thenReturn(preparedStatement);
+		when(session.prepare("SELECT * FROM person WHERE firstname IN (?,?,?);")).thenReturn(preparedStatement);
+		when(preparedStatement.bind("Hank", "Walter")).thenReturn(boundStatement);
+		when(preparedStatement.bind("Skyler", "Jesse")).thenReturn(boundStatement);
+		when(preparedStatement.bind("Hank", "Walter", "Jesse")).thenReturn(boundStatement);
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod(Repo.class, "findByFirstnameIn", Collection.class);
+
+		partTreeQuery.execute(new Object[] { Arrays.asList("Hank", "Walter") });
+		partTreeQuery.execute(new Object[] { Arrays.asList("Skyler", "Jesse") });
+		partTreeQuery.execute(new Object[] { Arrays.asList("Hank", "Walter", "Jesse") });
+
+		verify(session).prepare("SELECT * FROM person WHERE firstname IN (?,?);");
+		verify(session).prepare("SELECT * FROM person WHERE firstname IN (?,?,?);");
+		verify(mockCassandraOperations, times(3)).selectOne(boundStatement, Person.class);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectSliceQueryForSubsequentPageWithoutPagingState() {
+
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod(Repo.class, "findByLastname", String.class,
+				Pageable.class);
+
+		partTreeQuery.execute(new Object[] { "White", new PageRequest(1, 10) });
+	}
+
+	@SuppressWarnings("unchecked")
+	private void withPreparedStatements() {
+
+		when(mockCassandraOperations.getCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.execute(any(SessionCallback.class)))
+				.thenAnswer(invocation -> ((SessionCallback<?>) invocation.getArgument(0)).doInSession(session));
+	}
+
 	private String deriveQueryFromMethod(String method, Object... args) {
 
 		Class<?>[] types = new Class<?>[args.length];
@@ -210,6 +286,8 @@ public class PartTreeCassandraQueryUnitTests {
 
 		Person findByFirstnameAndLastname(String firstname, String lastname);
 
+		Slice<Person> findByLastname(String lastname, Pageable pageable);
+
 		Person findPersonByFirstnameAndLastname(String firstname, String lastname);
 
 		Person findByAge(Integer age);
@@ -16,6 +16,11 @@
 package org.springframework.data.cassandra.repository.query;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.lang.reflect.Method;
 
@@ -30,6 +35,7 @@ import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.domain.Person;
 import org.springframework.data.cassandra.repository.Query;
 import org.springframework.data.cql.core.ReactiveCqlOperations;
+import org.springframework.data.cql.core.ReactiveSessionCallback;
 import org.springframework.data.cql.core.session.ReactiveSession;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
@@ -40,8 +46,10 @@ import org.springframework.data.repository.query.ExtensionAwareEvaluationContext
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.ReflectionUtils;
 
+import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.Configuration;
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.SimpleStatement;
 
 /**
@@ -59,6 +67,8 @@ public class ReactiveStringBasedCassandraQueryUnitTests {
 	@Mock ReactiveSession reactiveSession;
 	@Mock Cluster cluster;
 	@Mock Configuration configuration;
+	@Mock PreparedStatement preparedStatement;
+	@Mock BoundStatement boundStatement;
 
 	RepositoryMetadata metadata;
 	MappingCassandraConverter converter;
@@ -88,6 +98,25 @@ public class ReactiveStringBasedCassandraQueryUnitTests {
 		assertThat(stringQuery.getObject(0)).isEqualTo("White");
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void preparesQueryAndBindsParameters() {
+
+		when(operations.getReactiveCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.execute(any(ReactiveSessionCallback.class))).thenAnswer(
+				invocation -> Flux.from(((ReactiveSessionCallback<?>) invocation.getArgument(0)).doInSession(reactiveSession)));
+		when(reactiveSession.prepare("SELECT * FROM person WHERE lastname=?;")).thenReturn(Mono.just(preparedStatement));
+		when(preparedStatement.bind("White")).thenReturn(boundStatement);
+
+		ReactiveStringBasedCassandraQuery cassandraQuery = getQueryMethod("findByLastname", String.class);
+		CassandraParametersParameterAccessor accessor = new CassandraParametersParameterAccessor(
+				cassandraQuery.getQueryMethod(), "White");
+
+		StepVerifier.create(cassandraQuery.prepareQuery(accessor)) //
+				.expectNext(boundStatement) //
+				.verifyComplete();
+	}
+
 	private ReactiveStringBasedCassandraQuery getQueryMethod(String name, Class<?>... args) {
 
 		Method method = ReflectionUtils.findMethod(SampleRepository.class, name, args);
@@ -41,6 +41,8 @@ import org.springframework.data.cassandra.domain.Person;
 import org.springframework.data.cassandra.repository.Query;
 import org.springframework.data.cassandra.support.UserTypeBuilder;
 import org.springframework.data.cql.core.CqlIdentifier;
+import org.springframework.data.cql.core.CqlOperations;
+import org.springframework.data.cql.core.SessionCallback;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
@@ -52,7 +54,10 @@ import org.springframework.data.repository.query.QueryCreationException;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.ReflectionUtils;
 
+import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.UDTValue;
 import com.datastax.driver.core.UserType;
@@ -72,6 +77,10 @@ public class StringBasedCassandraQueryUnitTests {
 	@Mock CassandraOperations operations;
 	@Mock UserTypeResolver userTypeResolver;
 	@Mock UDTValue udtValue;
+	@Mock CqlOperations cqlOperations;
+	@Mock Session session;
+	@Mock PreparedStatement preparedStatement;
+	@Mock BoundStatement boundStatement;
 
 	RepositoryMetadata metadata;
 	MappingCassandraConverter converter;
@@ -335,6 +344,37 @@ public class StringBasedCassandraQueryUnitTests {
 		assertThat(stringQuery.getObject(0).toString()).isEqualTo("udtValue");
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void preparesQueryOnceAndBindsParameters() {
+
+		when(operations.getCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.execute(any(SessionCallback.class)))
+				.thenAnswer(invocation -> ((SessionCallback<?>) invocation.getArgument(0)).doInSession(session));
+		when(session.prepare("SELECT * FROM person WHERE lastname = ?;")).thenReturn(preparedStatement);
+		when(preparedStatement.bind("Matthews")).thenReturn(boundStatement);
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findByLastname", String.class);
+		CassandraParametersParameterAccessor accessor = new CassandraParametersParameterAccessor(
+				cassandraQuery.getQueryMethod(), "Matthews");
+
+		assertThat(cassandraQuery.prepareQuery(accessor)).isSameAs(boundStatement);
+		assertThat(cassandraQuery.prepareQuery(accessor)).isSameAs(boundStatement);
+
+		verify(session).prepare(anyString());
+	}
+
+	@Test
+	public void shouldNotPrepareQueryIfPreparationIsDisabled() {
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findByLastnameUnprepared", String.class);
+		CassandraParametersParameterAccessor accessor = new CassandraParametersParameterAccessor(
+				cassandraQuery.getQueryMethod(), "Matthews");
+
+		assertThat(cassandraQuery.prepareQuery(accessor)).isInstanceOf(SimpleStatement.class);
+		verifyZeroInteractions(operations);
+	}
+
 	private StringBasedCassandraQuery getQueryMethod(String name, Class<?>... args) {
 
 		Method method = ReflectionUtils.findMethod(SampleRepository.class, name, args);
@@ -349,6 +389,9 @@ public class StringBasedCassandraQueryUnitTests {
 		@Query("SELECT * FROM person WHERE lastname = ?0;")
 		Person findByLastname(String lastname);
 
+		@Query(value = "SELECT * FROM person WHERE lastname = ?0;", prepared = false)
+		Person findByLastnameUnprepared(String lastname);
+
 		@Query("SELECT * FROM person WHERE lastname = ?0 or firstname = ?0;")
 		Person findByLastnameUsedTwice(String lastname);
 
@@ -18,9 +18,14 @@ package org.springframework.data.cassandra.repository.support;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -29,6 +34,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
@@ -36,10 +42,23 @@ import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.UserTypeResolver;
 import org.springframework.data.cassandra.domain.Person;
+import org.springframework.data.cql.core.AsyncCqlOperations;
 import org.springframework.data.cql.core.CqlIdentifier;
 import org.springframework.data.cql.core.CqlOperations;
-
+import org.springframework.data.cql.core.SessionCallback;
+import org.springframework.scheduling.annotation.AsyncResult;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TypeCodec;
 import com.datastax.driver.core.UserType;
+import com.datastax.driver.core.querybuilder.Batch;
 import com.datastax.driver.core.querybuilder.Insert;
 
 /**
@@ -58,10 +77,15 @@ public class SimpleCassandraRepositoryUnitTests {
 
 	@Mock CassandraOperations cassandraOperations;
 	@Mock CqlOperations cqlOperations;
+	@Mock AsyncCqlOperations asyncCqlOperations;
 	@Mock UserTypeResolver userTypeResolver;
 	@Mock UserType userType;
+	@Mock PreparedStatement preparedStatement;
+	@Mock BoundStatement boundStatement;
+	@Mock ColumnDefinitions variables;
 
 	@Captor ArgumentCaptor<Insert> insertCaptor;
+	@Captor ArgumentCaptor<Statement> statementCaptor;
 
 	@Before
 	public void before() {
@@ -124,6 +148,37 @@ public class SimpleCassandraRepositoryUnitTests {
 		assertThat(insertCaptor.getValue().toString()).contains("VALUES ('bar','foo',null");
 	}
 
+	@Test
+	public void saveShouldBindPreparedInsert() {
+
+		SimpleCassandraRepository<SimplePerson, String> repository = createAsyncRepository();
+		repository.setUsePreparedStatements(true);
+
+		withPreparedStatement();
+
+		repository.save(new SimplePerson("a"));
+
+		verify(cqlOperations).execute(boundStatement);
+		verify(boundStatement).set(eq(0), eq("a"), any(TypeCodec.class));
+	}
+
+	@Test
+	public void saveAllShouldBatchBoundStatements() {
+
+		SimpleCassandraRepository<SimplePerson, String> repository = createAsyncRepository();
+		repository.setUsePreparedStatements(true);
+		repository.setBatchSize(10);
+
+		withPreparedStatement();
+		when(asyncCqlOperations.execute(any(Statement.class))).thenReturn(new AsyncResult<>(true));
+
+		repository.saveAll(Arrays.asList(new SimplePerson("a"), new SimplePerson("a")));
+
+		verify(asyncCqlOperations).execute(statementCaptor.capture());
+		assertThat(statementCaptor.getValue()).isInstanceOf(BatchStatement.class);
+		assertThat(((BatchStatement) statementCaptor.getValue()).size()).isEqualTo(2);
+	}
+
 	@Test // DATACASS-428
 	public void insertShouldInsertEntity() {
 
@@ -139,7 +194,114 @@ public class SimpleCassandraRepositoryUnitTests {
 		verify(cassandraOperations).insert(person);
 	}
 
+	@Test
+	public void saveAllShouldWriteAsynchronously() {
+
+		SimpleCassandraRepository<SimplePerson, String> repository = createAsyncRepository();
+
+		when(asyncCqlOperations.execute(any(Statement.class))).thenReturn(new AsyncResult<>(true));
+
+		List<SimplePerson> saved = repository.saveAll(Arrays.asList(new SimplePerson("a"), new SimplePerson("b")));
+
+		assertThat(saved).extracting(SimplePerson::getId).containsExactly("a", "b");
+		verify(asyncCqlOperations, times(2)).execute(any(Insert.class));
+		verifyZeroInteractions(cqlOperations);
+	}
+
+	@Test
+	public void saveAllShouldGroupEntitiesByPartitionKeyIntoUnloggedBatches() {
+
+		SimpleCassandraRepository<SimplePerson, String> repository = createAsyncRepository();
+		repository.setBatchSize(10);
+
+		when(asyncCqlOperations.execute(any(Statement.class))).thenReturn(new AsyncResult<>(true));
+
+		List<SimplePerson> saved = repository
+				.saveAll(Arrays.asList(new SimplePerson("a"), new SimplePerson("b"), new SimplePerson("a")));
+
+		assertThat(saved).extracting(SimplePerson::getId).containsExactly("a", "b", "a");
+		verify(asyncCqlOperations, times(2)).execute(statementCaptor.capture());
+
+		assertThat(statementCaptor.getAllValues().get(0)).isInstanceOf(Batch.class);
+		assertThat(statementCaptor.getAllValues().get(0).toString()).startsWith("BEGIN UNLOGGED BATCH");
+		assertThat(statementCaptor.getAllValues().get(1)).isInstanceOf(Insert.class);
+	}
+
+	@Test
+	public void saveAllShouldPropagateWriteFailure() {
+
+		SimpleCassandraRepository<SimplePerson, String> repository = createAsyncRepository();
+
+		DataAccessResourceFailureException failure = new DataAccessResourceFailureException("write failed");
+		SettableListenableFuture<Boolean> failed = new SettableListenableFuture<>();
+		failed.setException(failure);
+
+		when(asyncCqlOperations.execute(any(Statement.class))).thenReturn(failed);
+
+		try {
+			repository.saveAll(Arrays.asList(new SimplePerson("a"), new SimplePerson("b")));
+
+			fail("Missing DataAccessResourceFailureException");
+		} catch (DataAccessResourceFailureException e) {
+			assertThat(e).isSameAs(failure);
+		}
+
+		verify(asyncCqlOperations).execute(any(Statement.class));
+	}
+
+	@Test
+	public void insertAllShouldReturnAppliedEntities() {
+
+		SimpleCassandraRepository<SimplePerson, String> repository = createAsyncRepository();
+
+		when(asyncCqlOperations.execute(any(Statement.class))).thenReturn(new AsyncResult<>(true),
+				new AsyncResult<>(false));
+
+		List<SimplePerson> inserted = repository.insert(Arrays.asList(new SimplePerson("a"), new SimplePerson("b")));
+
+		assertThat(inserted).extracting(SimplePerson::getId).containsExactly("a");
+		verify(cassandraOperations, never()).insert(any());
+	}
+
+	@Test
+	public void insertAllShouldBindPreparedInsert() {
+
+		SimpleCassandraRepository<SimplePerson, String> repository = createAsyncRepository();
+		repository.setUsePreparedStatements(true);
+
+		withPreparedStatement();
+		when(asyncCqlOperations.execute(any(Statement.class))).thenReturn(new AsyncResult<>(true));
+
+		List<SimplePerson> inserted = repository.insert(Collections.singletonList(new SimplePerson("a")));
+
+		assertThat(inserted).extracting(SimplePerson::getId).containsExactly("a");
+		verify(asyncCqlOperations).execute(boundStatement);
+		verify(boundStatement).set(eq(0), eq("a"), any(TypeCodec.class));
+	}
+
+	private void withPreparedStatement() {
+
+		when(cqlOperations.execute(any(SessionCallback.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind()).thenReturn(boundStatement);
+		when(preparedStatement.getVariables()).thenReturn(variables);
+		when(preparedStatement.getCodecRegistry()).thenReturn(CodecRegistry.DEFAULT_INSTANCE);
+		when(boundStatement.preparedStatement()).thenReturn(preparedStatement);
+		when(variables.getIndexOf("id")).thenReturn(0);
+		when(variables.getType(0)).thenReturn(DataType.varchar());
+	}
+
+	private SimpleCassandraRepository<SimplePerson, String> createAsyncRepository() {
+
+		CassandraPersistentEntity<SimplePerson> entity = (CassandraPersistentEntity<SimplePerson>) converter
+				.getMappingContext().getRequiredPersistentEntity(SimplePerson.class);
+
+		return new SimpleCassandraRepository<>(new MappingCassandraEntityInformation<SimplePerson, String>(entity, converter),
+				cassandraOperations, asyncCqlOperations);
+	}
+
 	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
 	static class SimplePerson {
 
 		@Id String id;
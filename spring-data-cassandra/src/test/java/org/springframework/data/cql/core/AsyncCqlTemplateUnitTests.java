@@ -766,6 +766,21 @@ public class AsyncCqlTemplateUnitTests {
 		assertThat(getUninterruptibly(future)).isTrue();
 	}
 
+	@Test
+	public void executePreparedStatementShouldCachePreparedStatement() {
+
+		when(session.prepareAsync("UPDATE user SET username = ?"))
+				.thenReturn(new TestPreparedStatementFuture(preparedStatement));
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(session.executeAsync(boundStatement)).thenReturn(new TestResultSetFuture(resultSet));
+
+		getUninterruptibly(template.execute("UPDATE user SET username = ?", "Walter"));
+		getUninterruptibly(template.execute("UPDATE user SET username = ?", "Hank"));
+
+		verify(session).prepareAsync("UPDATE user SET username = ?");
+		verify(session, times(2)).executeAsync(boundStatement);
+	}
+
 	private <T> void doTestStrings(Integer fetchSize, ConsistencyLevel consistencyLevel,
 			com.datastax.driver.core.policies.RetryPolicy retryPolicy, Consumer<AsyncCqlTemplate> cqlTemplateConsumer) {
 
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.cql.core.ConcurrencyLimit.Limiter;
+
+import com.datastax.driver.core.exceptions.InvalidQueryException;
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import com.datastax.driver.core.exceptions.OverloadedException;
+
+/**
+ * Unit tests for {@link ConcurrencyLimit}.
+ */
+public class ConcurrencyLimitUnitTests {
+
+	@Test
+	public void fixedLimitShouldBoundInFlightOperations() {
+
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+
+		Flux<Integer> flux = ConcurrencyLimit.fixed(3).flatMap(Flux.range(0, 50),
+				it -> track(inFlight, maxInFlight, Mono.delay(Duration.ofMillis(2)).map(ignore -> it)));
+
+		StepVerifier.create(flux).expectNextCount(50).verifyComplete();
+
+		assertThat(maxInFlight.get()).isEqualTo(3);
+	}
+
+	@Test
+	public void adaptiveLimitShouldBoundInFlightOperations() {
+
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+
+		Flux<Integer> flux = ConcurrencyLimit.adaptive(3).flatMap(Flux.range(0, 50),
+				it -> track(inFlight, maxInFlight, Mono.delay(Duration.ofMillis(2)).map(ignore -> it)));
+
+		StepVerifier.create(flux).expectNextCount(50).verifyComplete();
+
+		assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+	}
+
+	@Test
+	public void adaptiveLimitShouldRetryOverloadedOperations() {
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		Flux<String> flux = ConcurrencyLimit.adaptive(4).flatMap(Flux.just("foo"), it -> Mono.defer(() -> {
+
+			if (attempts.incrementAndGet() < 3) {
+				return Mono.error(new TransientDataAccessResourceException("Overloaded", overloaded()));
+			}
+
+			return Mono.just(it);
+		}));
+
+		StepVerifier.create(flux).expectNext("foo").verifyComplete();
+
+		assertThat(attempts.get()).isEqualTo(3);
+	}
+
+	@Test
+	public void adaptiveLimitShouldNotRetryOtherFailures() {
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		Flux<String> flux = ConcurrencyLimit.adaptive(4).flatMap(Flux.just("foo"), it -> Mono.defer(() -> {
+
+			attempts.incrementAndGet();
+
+			return Mono.<String> error(new InvalidQueryException("Invalid"));
+		}));
+
+		StepVerifier.create(flux).expectError(InvalidQueryException.class).verify();
+
+		assertThat(attempts.get()).isEqualTo(1);
+	}
+
+	@Test
+	public void limiterShouldDecreaseLimitOnOverloadAndRecover() {
+
+		Limiter limiter = new Limiter(8);
+
+		acquire(limiter);
+		limiter.release(true);
+
+		assertThat(limiter.getLimit()).isEqualTo(4);
+
+		for (int i = 0; i < 4; i++) {
+			acquire(limiter);
+			limiter.release(false);
+		}
+
+		assertThat(limiter.getLimit()).isEqualTo(5);
+	}
+
+	@Test
+	public void limiterShouldGrantPermitToWaiterOnRelease() {
+
+		Limiter limiter = new Limiter(1);
+
+		acquire(limiter);
+
+		AtomicBoolean acquired = new AtomicBoolean();
+
+		StepVerifier.create(limiter.acquire(acquired)) //
+				.then(() -> {
+					assertThat(acquired).isFalse();
+					limiter.release(false);
+				}) //
+				.verifyComplete();
+
+		assertThat(acquired).isTrue();
+	}
+
+	@Test
+	public void shouldDetectOverloadInCauseChain() {
+
+		assertThat(ConcurrencyLimit.isOverloaded(overloaded())).isTrue();
+		assertThat(ConcurrencyLimit.isOverloaded(new TransientDataAccessResourceException("Overloaded", overloaded())))
+				.isTrue();
+		assertThat(ConcurrencyLimit.isOverloaded(new NoHostAvailableException(
+				Collections.singletonMap(new InetSocketAddress("localhost", 9042), overloaded())))).isTrue();
+		assertThat(ConcurrencyLimit.isOverloaded(new InvalidQueryException("Invalid"))).isFalse();
+		assertThat(ConcurrencyLimit.isOverloaded(null)).isFalse();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNonPositiveLimit() {
+		ConcurrencyLimit.fixed(0);
+	}
+
+	private static void acquire(Limiter limiter) {
+		limiter.acquire(new AtomicBoolean()).block();
+	}
+
+	private static OverloadedException overloaded() {
+		return new OverloadedException(new InetSocketAddress("localhost", 9042), "Overloaded");
+	}
+
+	private static <T> Mono<T> track(AtomicInteger inFlight, AtomicInteger maxInFlight, Mono<T> operation) {
+
+		return Mono.defer(() -> {
+
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+			return operation;
+		}).doFinally(signal -> inFlight.decrementAndGet());
+	}
+}
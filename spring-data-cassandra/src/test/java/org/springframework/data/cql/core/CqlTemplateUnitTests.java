@@ -34,6 +34,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.cql.core.support.BoundedPreparedStatementCache;
 import org.springframework.data.cql.support.exception.CassandraConnectionFailureException;
 import org.springframework.data.cql.support.exception.CassandraInvalidQueryException;
 
@@ -78,6 +79,11 @@ public class CqlTemplateUnitTests {
 	// Tests dealing with a plain com.datastax.driver.core.Session
 	// -------------------------------------------------------------------------
 
+	@Test
+	public void shouldUseBoundedPreparedStatementCacheByDefault() {
+		assertThat(template.getPreparedStatementCache()).isInstanceOf(BoundedPreparedStatementCache.class);
+	}
+
 	@Test // DATACASS-292
 	public void executeCallbackShouldTranslateExceptions() {
 
@@ -677,6 +683,34 @@ public class CqlTemplateUnitTests {
 		assertThat(applied).isTrue();
 	}
 
+	@Test
+	public void executePreparedStatementShouldCachePreparedStatement() {
+
+		when(session.prepare("UPDATE user SET username = ?")).thenReturn(preparedStatement);
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(session.execute(boundStatement)).thenReturn(resultSet);
+
+		template.execute("UPDATE user SET username = ?", "Walter");
+		template.execute("UPDATE user SET username = ?", "Hank");
+
+		verify(session).prepare("UPDATE user SET username = ?");
+		verify(session, times(2)).execute(boundStatement);
+	}
+
+	@Test
+	public void executePreparedStatementShouldPrepareStatementWithoutCache() {
+
+		when(session.prepare("UPDATE user SET username = ?")).thenReturn(preparedStatement);
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(session.execute(boundStatement)).thenReturn(resultSet);
+
+		template.setPreparedStatementCache(null);
+		template.execute("UPDATE user SET username = ?", "Walter");
+		template.execute("UPDATE user SET username = ?", "Hank");
+
+		verify(session, times(2)).prepare("UPDATE user SET username = ?");
+	}
+
 	private <T> void doTestStrings(Integer fetchSize, ConsistencyLevel consistencyLevel,
 			com.datastax.driver.core.policies.RetryPolicy retryPolicy, Consumer<CqlTemplate> cqlTemplateConsumer) {
 
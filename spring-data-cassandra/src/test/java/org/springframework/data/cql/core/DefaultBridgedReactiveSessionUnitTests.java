@@ -19,8 +19,14 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -29,14 +35,18 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.cql.core.session.DefaultBridgedReactiveSession;
+import org.springframework.data.cql.core.session.ReactiveResultSet;
 
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 
 /**
@@ -144,6 +154,46 @@ public class DefaultBridgedReactiveSessionUnitTests {
 		assertThat(result).isSameAs(clusterMock);
 	}
 
+	@Test
+	public void rowsShouldFetchNextPageOnDemand() throws Exception {
+
+		ResultSet resultSet = mock(ResultSet.class);
+		Row first = mock(Row.class), second = mock(Row.class), third = mock(Row.class);
+
+		Deque<Row> buffer = new ArrayDeque<>(Arrays.asList(first, second));
+		AtomicBoolean fullyFetched = new AtomicBoolean();
+
+		when(resultSet.getAvailableWithoutFetching()).then(invocation -> buffer.size());
+		when(resultSet.one()).then(invocation -> buffer.poll());
+		when(resultSet.isFullyFetched()).then(invocation -> fullyFetched.get());
+		when(resultSet.fetchMoreResults()).then(invocation -> {
+
+			buffer.add(third);
+			fullyFetched.set(true);
+
+			return Futures.immediateFuture(resultSet);
+		});
+
+		when(future.isDone()).thenReturn(true);
+		when(future.getUninterruptibly()).thenReturn(resultSet);
+		doAnswer(invocation -> {
+			((Runnable) invocation.getArgument(0)).run();
+			return null;
+		}).when(future).addListener(any(Runnable.class), any(Executor.class));
+
+		ReactiveResultSet reactiveResultSet = reactiveSession.execute("SELECT *").block();
+
+		StepVerifier.create(reactiveResultSet.rows(), 0) //
+				.thenRequest(2) //
+				.expectNext(first, second) //
+				.then(() -> verify(resultSet, never()).fetchMoreResults()) //
+				.thenRequest(1) //
+				.expectNext(third) //
+				.verifyComplete();
+
+		verify(resultSet).fetchMoreResults();
+	}
+
 	private static <T extends Statement> T eq(T value) {
 
 		return ArgumentMatchers.argThat(argument -> argument instanceof Statement //
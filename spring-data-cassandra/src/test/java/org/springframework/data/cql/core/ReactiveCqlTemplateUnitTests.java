@@ -24,7 +24,9 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.junit.Before;
@@ -330,6 +332,28 @@ public class ReactiveCqlTemplateUnitTests {
 		verify(session, times(2)).execute(any(Statement.class));
 	}
 
+	@Test
+	public void executeCqlPublisherShouldApplyConcurrencyLimit() {
+
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+
+		when(session.execute(any(Statement.class))).thenAnswer(invocation -> Mono.defer(() -> {
+
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+			return Mono.delay(Duration.ofMillis(5)).map(it -> reactiveResultSet);
+		}).doFinally(signal -> inFlight.decrementAndGet()));
+		when(reactiveResultSet.wasApplied()).thenReturn(true);
+
+		Flux<Boolean> flux = template.execute(Flux.range(0, 20).map(it -> "UPDATE user SET a = 'b';"),
+				ConcurrencyLimit.fixed(2));
+
+		StepVerifier.create(flux).expectNextCount(20).verifyComplete();
+
+		assertThat(maxInFlight.get()).isEqualTo(2);
+	}
+
 	// -------------------------------------------------------------------------
 	// Tests dealing with com.datastax.driver.core.Statement
 	// -------------------------------------------------------------------------
@@ -777,6 +801,22 @@ public class ReactiveCqlTemplateUnitTests {
 		verify(session, times(2)).execute(boundStatement);
 	}
 
+	@Test
+	public void executePreparedStatementShouldCachePreparedStatement() {
+
+		when(session.prepare("UPDATE user SET username = ?")).thenReturn(Mono.just(preparedStatement));
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(session.execute(boundStatement)).thenReturn(Mono.just(reactiveResultSet));
+		when(reactiveResultSet.wasApplied()).thenReturn(true);
+
+		StepVerifier.create(template.execute("UPDATE user SET username = ?", "Walter")).expectNext(true)
+				.verifyComplete();
+		StepVerifier.create(template.execute("UPDATE user SET username = ?", "Hank")).expectNext(true).verifyComplete();
+
+		verify(session).prepare("UPDATE user SET username = ?");
+		verify(session, times(2)).execute(boundStatement);
+	}
+
 	private <T> void doTestStrings(Integer fetchSize, com.datastax.driver.core.ConsistencyLevel consistencyLevel,
 			com.datastax.driver.core.policies.RetryPolicy retryPolicy, Consumer<ReactiveCqlTemplate> cqlTemplateConsumer) {
 
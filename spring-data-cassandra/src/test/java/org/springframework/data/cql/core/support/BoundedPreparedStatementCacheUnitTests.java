@@ -0,0 +1,142 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.exceptions.InvalidQueryException;
+
+/**
+ * Unit tests for {@link BoundedPreparedStatementCache}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class BoundedPreparedStatementCacheUnitTests {
+
+	@Mock Session session;
+
+	@Mock Cluster cluster;
+
+	@Mock PreparedStatement preparedStatement;
+
+	@Before
+	public void before() {
+
+		when(session.getCluster()).thenReturn(cluster);
+		when(session.getLoggedKeyspace()).thenReturn("keyspace");
+	}
+
+	@Test
+	public void shouldCachePreparedStatement() {
+
+		when(session.prepare(any(RegularStatement.class))).thenReturn(preparedStatement);
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.create(10);
+
+		assertThat(cache.getPreparedStatement(session, new SimpleStatement("SELECT * FROM users")))
+				.isSameAs(preparedStatement);
+		assertThat(cache.getPreparedStatement(session, new SimpleStatement("SELECT * FROM users")))
+				.isSameAs(preparedStatement);
+
+		verify(session).prepare(any(RegularStatement.class));
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getStatistics().getHitCount()).isEqualTo(1);
+		assertThat(cache.getStatistics().getMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldEvictLeastRecentlyUsedStatements() {
+
+		when(session.prepare(any(RegularStatement.class))).thenReturn(preparedStatement);
+
+		List<PreparedStatement> evicted = new ArrayList<>();
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.builder().maximumSize(1)
+				.evictionListener(evicted::add).build();
+
+		cache.getPreparedStatement(session, new SimpleStatement("SELECT * FROM users"));
+		cache.getPreparedStatement(session, new SimpleStatement("SELECT * FROM persons"));
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(evicted).containsOnly(preparedStatement);
+		assertThat(cache.getStatistics().getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldBoundCacheByWeight() {
+
+		when(session.prepare(any(RegularStatement.class))).thenReturn(preparedStatement);
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.builder().maximumWeight(25).build();
+
+		cache.getPreparedStatement(session, new SimpleStatement("SELECT * FROM users"));
+		cache.getPreparedStatement(session, new SimpleStatement("SELECT * FROM persons"));
+
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldRetainStatementsWithinWeight() {
+
+		when(session.prepare(any(RegularStatement.class))).thenReturn(preparedStatement);
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.builder().maximumWeight(45).build();
+
+		cache.getPreparedStatement(session, new SimpleStatement("SELECT * FROM users"));
+		cache.getPreparedStatement(session, new SimpleStatement("SELECT * FROM persons"));
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getStatistics().getEvictionCount()).isZero();
+	}
+
+	@Test
+	public void shouldPropagatePrepareFailure() {
+
+		InvalidQueryException exception = new InvalidQueryException("wrong query");
+		when(session.prepare(any(RegularStatement.class))).thenThrow(exception);
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.create(10);
+
+		try {
+			cache.getPreparedStatement(session, new SimpleStatement("SELECT"));
+
+			fail("Missing InvalidQueryException");
+		} catch (InvalidQueryException e) {
+			assertThat(e).isSameAs(exception);
+		}
+
+		assertThat(cache.getStatistics().getPrepareFailureCount()).isEqualTo(1);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void shouldRejectUnboundedCache() {
+		BoundedPreparedStatementCache.builder().build();
+	}
+}